@@ -0,0 +1,275 @@
+package seedu.tabs;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.tabs.commons.core.Config;
+import seedu.tabs.commons.core.LogsCenter;
+import seedu.tabs.commons.exceptions.DataLoadingException;
+import seedu.tabs.commons.util.ConfigUtil;
+import seedu.tabs.commons.util.FileUtil;
+import seedu.tabs.commons.util.StringUtil;
+import seedu.tabs.logic.Logic;
+import seedu.tabs.logic.LogicManager;
+import seedu.tabs.logic.commands.RunScriptCommand;
+import seedu.tabs.logic.commands.exceptions.CommandException;
+import seedu.tabs.logic.parser.exceptions.ParseException;
+import seedu.tabs.model.Model;
+import seedu.tabs.model.ModelManager;
+import seedu.tabs.model.ReadOnlyTAbs;
+import seedu.tabs.model.ReadOnlyUserPrefs;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.UserPrefs;
+import seedu.tabs.model.UserPrefs.TAbsFileFormat;
+import seedu.tabs.model.util.SampleDataUtil;
+import seedu.tabs.storage.BackupRecoveringTAbsStorage;
+import seedu.tabs.storage.BinaryTAbsStorage;
+import seedu.tabs.storage.JournaledTAbsStorage;
+import seedu.tabs.storage.JsonUserPrefsStorage;
+import seedu.tabs.storage.ShardedTAbsStorage;
+import seedu.tabs.storage.Storage;
+import seedu.tabs.storage.StorageManager;
+import seedu.tabs.storage.TAbsFileConverter;
+import seedu.tabs.storage.TAbsStorage;
+import seedu.tabs.storage.UserPrefsStorage;
+import seedu.tabs.storage.WriteBehindTAbsStorage;
+
+/**
+ * The config, storage, model and logic of the application, which is everything it needs besides a UI.
+ * They are shared by the GUI started by {@link MainApp} and the command line started by {@link HeadlessApp}, and
+ * none of them needs the JavaFX toolkit to be running.
+ */
+public class AppComponents {
+
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final WriteBehindTAbsStorage tabsStorage;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private AppComponents(Config config, WriteBehindTAbsStorage tabsStorage, Storage storage, Model model,
+            Logic logic) {
+        this.config = config;
+        this.tabsStorage = tabsStorage;
+        this.storage = storage;
+        this.model = model;
+        this.logic = logic;
+    }
+
+    /**
+     * Creates the components from the config file and data files given by {@code appParameters}, and runs the
+     * script given by {@code appParameters}, if any.
+     */
+    public static AppComponents init(AppParameters appParameters) {
+        Config config = initConfig(appParameters.getConfigPath());
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        WriteBehindTAbsStorage tabsStorage = initTAbsStorage(config, userPrefs);
+        Storage storage = new StorageManager(tabsStorage, userPrefsStorage);
+
+        Model model = initModelManager(storage, userPrefs);
+
+        Logic logic = new LogicManager(model, storage);
+        if (appParameters.getScriptPath() != null) {
+            runScript(logic, appParameters.getScriptPath(), appParameters.isContinuingScriptOnError());
+        }
+
+        return new AppComponents(config, tabsStorage, storage, model, logic);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Sets the handler that is called with an error message as soon as saving the data in the background fails,
+     * rather than only when the next command saves. The handler is called on the thread that saves.
+     */
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        tabsStorage.setWriteFailureHandler(failure ->
+                saveFailureHandler.accept(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, failure.getMessage())));
+    }
+
+    /**
+     * Saves the user prefs, and any data that has not been written yet, before the application stops.
+     */
+    public void stop() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.flushTAbs();
+        } catch (IOException e) {
+            logger.severe("Failed to flush data file " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code TAbsStorage} for the data file format chosen in {@code userPrefs}, which saves as often as
+     * {@code config} says. <br>
+     * Data saved in another format is imported first if it is newer, so that switching formats keeps the data.
+     */
+    private static WriteBehindTAbsStorage initTAbsStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getTAbsFilePath();
+        Map<TAbsFileFormat, TAbsStorage> storages = new EnumMap<>(TAbsFileFormat.class);
+        storages.put(TAbsFileFormat.JSON, new JournaledTAbsStorage(jsonFilePath,
+                JournaledTAbsStorage.DEFAULT_CHECKPOINT_THRESHOLD, config.isLazyRosterLoading()));
+        storages.put(TAbsFileFormat.BINARY, new BinaryTAbsStorage(BinaryTAbsStorage.toBinaryFilePath(jsonFilePath)));
+        storages.put(TAbsFileFormat.SHARDED_JSON,
+                new ShardedTAbsStorage(ShardedTAbsStorage.toShardDirectoryPath(jsonFilePath)));
+        TAbsStorage selectedStorage = storages.remove(userPrefs.getTAbsFileFormat());
+
+        try {
+            TAbsFileConverter.importFromNewest(new ArrayList<>(storages.values()), selectedStorage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not import data into " + selectedStorage.getTAbsFilePath() + " : "
+                    + StringUtil.getDetails(e));
+        }
+
+        TAbsStorage recoveringStorage = new BackupRecoveringTAbsStorage(selectedStorage, FileUtil.DEFAULT_BACKUP_COUNT);
+        return new WriteBehindTAbsStorage(recoveringStorage, config.getSavePolicy(), config.getSaveIntervalMillis());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s TAbs and {@code userPrefs}. <br>
+     * The data from the sample TAbs will be used instead if {@code storage}'s TAbs is not found,
+     * or an empty TAbs will be used instead if errors occur when reading {@code storage}'s TAbs.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getTAbsFilePath());
+
+        Optional<ReadOnlyTAbs> tabsOptional;
+        ReadOnlyTAbs initialData;
+        try {
+            tabsOptional = storage.readTAbs();
+            if (!tabsOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getTAbsFilePath()
+                        + " populated with a sample TAbs.");
+            }
+            initialData = tabsOptional.orElseGet(SampleDataUtil::getSampleTAbs);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getTAbsFilePath() + " could not be loaded."
+                    + " Will be starting with an empty TAbs.");
+            initialData = new TAbs();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Runs the commands in the script at {@code scriptPath} with {@code logic}, saving the data once at the end.
+     * A script that fails is logged and does not stop the app from starting.
+     */
+    private static void runScript(Logic logic, Path scriptPath, boolean isContinuingOnError) {
+        String commandText = RunScriptCommand.COMMAND_WORD + " " + scriptPath
+                + (isContinuingOnError ? " " + RunScriptCommand.CONTINUE_ON_ERROR_FLAG : "");
+        try {
+            logger.info(logic.execute(commandText).getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            logger.warning("Could not run the script " + scriptPath + " : " + e.getMessage());
+        }
+    }
+
+    private static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+}
@@ -2,6 +2,9 @@ package seedu.tabs;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,15 +12,24 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.tabs.commons.core.LogsCenter;
 import seedu.tabs.commons.util.FileUtil;
+import seedu.tabs.commons.util.StringUtil;
 import seedu.tabs.commons.util.ToStringBuilder;
+import seedu.tabs.logic.commands.RunScriptCommand;
 
 /**
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    private static final String NAMED_PARAMETER_MARKER = "--";
+    private static final int MAX_PORT = 65535;
+    private static final int MAX_PORT_DIGITS = 5;
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private boolean isContinuingScriptOnError;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +39,67 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script to run at startup, or null if there is none.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns true if the commands in the script that fail are to be skipped, rather than the whole script.
+     */
+    public boolean isContinuingScriptOnError() {
+        return isContinuingScriptOnError;
+    }
+
+    public void setContinuingScriptOnError(boolean isContinuingScriptOnError) {
+        this.isContinuingScriptOnError = isContinuingScriptOnError;
+    }
+
+    /**
+     * Returns the port to serve the HTTP API on, or null if the API is not to be served.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed(), parameters.getUnnamed());
+    }
+
+    /**
+     * Parses the command-line arguments of an application that is not launched by JavaFX.
+     * As with JavaFX, arguments of the form {@code --name=value} are named parameters, and others are unnamed.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_MARKER) && separatorIndex > NAMED_PARAMETER_MARKER.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_MARKER.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+        return parse(namedParameters, unnamedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters, List<String> unnamedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +108,36 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No script will be run.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+        appParameters.setContinuingScriptOnError(unnamedParameters.contains(RunScriptCommand.CONTINUE_ON_ERROR_FLAG));
+
+        String apiPortParameter = namedParameters.get("port");
+        if (apiPortParameter != null) {
+            appParameters.setApiPort(parsePort(apiPortParameter));
+        }
+
         return appParameters;
     }
 
+    /**
+     * Returns {@code port} as a port number, or null if it is not one.
+     */
+    private static Integer parsePort(String port) {
+        String trimmedPort = port.trim();
+        if (trimmedPort.isEmpty() || trimmedPort.length() > MAX_PORT_DIGITS
+                || !StringUtil.isAsciiDigits(trimmedPort, 0, trimmedPort.length())
+                || Integer.parseInt(trimmedPort) > MAX_PORT) {
+            logger.warning("Invalid port " + port + ". The API will not be served.");
+            return null;
+        }
+        return Integer.parseInt(trimmedPort);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +150,24 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && isContinuingScriptOnError == otherAppParameters.isContinuingScriptOnError
+                && Objects.equals(apiPort, otherAppParameters.apiPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, isContinuingScriptOnError, apiPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("isContinuingScriptOnError", isContinuingScriptOnError)
+                .add("apiPort", apiPort)
                 .toString();
     }
 }
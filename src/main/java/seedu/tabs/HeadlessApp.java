@@ -0,0 +1,232 @@
+package seedu.tabs;
+
+import static seedu.tabs.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.tabs.api.ApiServer;
+import seedu.tabs.commons.core.LogsCenter;
+import seedu.tabs.commons.util.StringUtil;
+import seedu.tabs.logic.Logic;
+import seedu.tabs.logic.commands.CommandResult;
+import seedu.tabs.logic.commands.exceptions.CommandException;
+import seedu.tabs.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application from the command line without a GUI, never starting the JavaFX toolkit.
+ * Commands are read from standard input, one per line, until an {@code exit} command or the end of the input.
+ * The feedback of each command is printed to standard output, and the error of each command that fails is printed to
+ * standard error, so that the app can be run from scripts, cron jobs and SSH sessions.
+ * <p>
+ * With a {@code --port} argument, the app serves the API of {@link ApiServer} instead, until it is stopped.
+ */
+public class HeadlessApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String PROMPT = "> ";
+
+    /** The exit status when every command succeeded. */
+    public static final int EXIT_STATUS_SUCCESS = 0;
+    /** The exit status when some command failed, or the input could not be read. */
+    public static final int EXIT_STATUS_FAILURE = 1;
+
+    /** How long to wait for the command being run to finish when the process is stopped. */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final String SHUTDOWN_THREAD_NAME = "TAbs shutdown";
+    private static final String MESSAGE_INTERRUPTED = "Interrupted while waiting for the command to be run";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final Executor logicExecutor;
+
+    /**
+     * Creates a {@code HeadlessApp} that runs commands with {@code logic} on the thread reading them.
+     */
+    public HeadlessApp(Logic logic) {
+        this(logic, Runnable::run);
+    }
+
+    /**
+     * Creates a {@code HeadlessApp} that runs commands with {@code logic} on {@code logicExecutor}.
+     */
+    public HeadlessApp(Logic logic, Executor logicExecutor) {
+        requireAllNonNull(logic, logicExecutor);
+        this.logic = logic;
+        this.logicExecutor = logicExecutor;
+    }
+
+    /**
+     * Starts the app with the command-line arguments {@code args}, runs the commands from standard input, and exits
+     * with {@link #EXIT_STATUS_FAILURE} if any of them failed.
+     */
+    public static void main(String[] args) {
+        long startNanos = System.nanoTime();
+        logger.info("=======================[ Initializing TAbs without a GUI ]=======================");
+        AppParameters appParameters = AppParameters.parse(args);
+        AppComponents components = AppComponents.init(appParameters);
+        components.setSaveFailureHandler(System.err::println);
+        logger.info("Started TAbs in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms");
+
+        if (appParameters.getApiPort() != null) {
+            serve(components, appParameters.getApiPort());
+            return;
+        }
+
+        // Commands run on their own thread, so that a process stopped mid-command still saves the command's changes
+        ExecutorService logicExecutor = createLogicExecutor();
+        Runnable stopApp = createStopApp(components, logicExecutor, () -> {});
+        Thread shutdownHook = new Thread(stopApp, SHUTDOWN_THREAD_NAME);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+        int exitStatus = EXIT_STATUS_FAILURE;
+        BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        try {
+            // Prompts only a user at a terminal, so that the output of piped commands is just their feedback
+            int failureCount = new HeadlessApp(components.getLogic(), logicExecutor)
+                    .run(input, System.out, System.err, System.console() != null);
+            exitStatus = failureCount == 0 ? EXIT_STATUS_SUCCESS : EXIT_STATUS_FAILURE;
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+        } finally {
+            if (removeShutdownHook(shutdownHook)) {
+                stopApp.run();
+            }
+        }
+        System.exit(exitStatus);
+    }
+
+    /**
+     * Serves the API on {@code port} instead of reading commands, until the process is stopped.
+     * The commands of the API are run one at a time on a single thread, and the data is saved when the process stops.
+     */
+    private static void serve(AppComponents components, int port) {
+        ExecutorService logicExecutor = createLogicExecutor();
+        ApiServer apiServer = new ApiServer(components.getLogic(), logicExecutor);
+        try {
+            apiServer.start(port);
+        } catch (IOException e) {
+            logger.severe("Could not serve the API on port " + port + " " + StringUtil.getDetails(e));
+            logicExecutor.shutdown();
+            components.stop();
+            System.exit(EXIT_STATUS_FAILURE);
+        }
+
+        Runtime.getRuntime().addShutdownHook(
+                new Thread(createStopApp(components, logicExecutor, apiServer::stop), SHUTDOWN_THREAD_NAME));
+    }
+
+    /**
+     * Removes {@code shutdownHook}, and returns whether it was removed before it started running.
+     */
+    private static boolean removeShutdownHook(Thread shutdownHook) {
+        try {
+            return Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // The process is already stopping, so the shutdown hook stops the app
+            return false;
+        }
+    }
+
+    private static ExecutorService createLogicExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "TAbs logic"));
+    }
+
+    /**
+     * Returns the steps that stop the app: {@code stopAcceptingCommands}, then waiting for the command being run on
+     * {@code logicExecutor} to finish, then saving the data of {@code components}.
+     */
+    private static Runnable createStopApp(AppComponents components, ExecutorService logicExecutor,
+            Runnable stopAcceptingCommands) {
+        return () -> {
+            logger.info("============================ [ Stopping TAbs ] =============================");
+            stopAcceptingCommands.run();
+            logicExecutor.shutdown();
+            try {
+                logicExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            components.stop();
+        };
+    }
+
+    /**
+     * Runs the commands read from {@code input}, one per line, until an {@code exit} command or the end of the
+     * input. Blank lines are skipped.
+     *
+     * @param output      Where the feedback of each command is printed.
+     * @param error       Where the error of each command that fails is printed.
+     * @param isPrompting Whether to print a prompt before reading each command.
+     * @return The number of commands that failed.
+     * @throws IOException If the commands could not be read.
+     */
+    public int run(BufferedReader input, PrintStream output, PrintStream error, boolean isPrompting)
+            throws IOException {
+        int failureCount = 0;
+        while (true) {
+            if (isPrompting) {
+                output.print(PROMPT);
+                output.flush();
+            }
+            String commandText = input.readLine();
+            if (commandText == null) {
+                return failureCount;
+            }
+            if (commandText.isBlank()) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = execute(commandText);
+                output.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    return failureCount;
+                }
+            } catch (CommandException | ParseException e) {
+                error.println(e.getMessage());
+                failureCount++;
+            }
+        }
+    }
+
+    /**
+     * Runs {@code commandText} on the logic executor, and returns its result once it has been run.
+     */
+    private CommandResult execute(String commandText) throws CommandException, ParseException {
+        FutureTask<CommandResult> result = new FutureTask<>(() -> logic.execute(commandText));
+        logicExecutor.execute(result);
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            }
+            if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (RuntimeException) cause;
+        }
+    }
+
+}
@@ -1,33 +1,19 @@
 package seedu.tabs;
 
 import java.io.IOException;
-import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.tabs.api.ApiServer;
 import seedu.tabs.commons.core.Config;
 import seedu.tabs.commons.core.LogsCenter;
 import seedu.tabs.commons.core.Version;
-import seedu.tabs.commons.exceptions.DataLoadingException;
-import seedu.tabs.commons.util.ConfigUtil;
 import seedu.tabs.commons.util.StringUtil;
 import seedu.tabs.logic.Logic;
-import seedu.tabs.logic.LogicManager;
 import seedu.tabs.model.Model;
-import seedu.tabs.model.ModelManager;
-import seedu.tabs.model.ReadOnlyTAbs;
-import seedu.tabs.model.ReadOnlyUserPrefs;
-import seedu.tabs.model.TAbs;
-import seedu.tabs.model.UserPrefs;
-import seedu.tabs.model.util.SampleDataUtil;
-import seedu.tabs.storage.JsonTAbsStorage;
-import seedu.tabs.storage.JsonUserPrefsStorage;
 import seedu.tabs.storage.Storage;
-import seedu.tabs.storage.StorageManager;
-import seedu.tabs.storage.TAbsStorage;
-import seedu.tabs.storage.UserPrefsStorage;
 import seedu.tabs.ui.Ui;
 import seedu.tabs.ui.UiManager;
 
@@ -46,141 +32,50 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private AppComponents components;
+    private Integer apiPort;
+    private ApiServer apiServer;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing TAbs ]===========================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-        initLogging(config);
-
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TAbsStorage tabsStorage = new JsonTAbsStorage(userPrefs.getTAbsFilePath());
-        storage = new StorageManager(tabsStorage, userPrefsStorage);
-
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
+        components = AppComponents.init(appParameters);
+        apiPort = appParameters.getApiPort();
+        config = components.getConfig();
+        storage = components.getStorage();
+        model = components.getModel();
+        logic = components.getLogic();
 
         ui = new UiManager(logic);
     }
 
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s TAbs and {@code userPrefs}. <br>
-     * The data from the sample TAbs will be used instead if {@code storage}'s TAbs is not found,
-     * or an empty TAbs will be used instead if errors occur when reading {@code storage}'s TAbs.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getTAbsFilePath());
-
-        Optional<ReadOnlyTAbs> tabsOptional;
-        ReadOnlyTAbs initialData;
-        try {
-            tabsOptional = storage.readTAbs();
-            if (!tabsOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getTAbsFilePath()
-                        + " populated with a sample TAbs.");
-            }
-            initialData = tabsOptional.orElseGet(SampleDataUtil::getSampleTAbs);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getTAbsFilePath() + " could not be loaded."
-                    + " Will be starting with an empty TAbs.");
-            initialData = new TAbs();
-        }
-
-        return new ModelManager(initialData, userPrefs);
-    }
-
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
-    }
-
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
-    }
-
-    /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
-     */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
-    }
-
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting TAbs " + MainApp.VERSION);
         ui.start(primaryStage);
+        components.setSaveFailureHandler(message -> Platform.runLater(() -> ui.showErrorMessage(message)));
+
+        if (apiPort != null) {
+            // Commands from the API run on the JavaFX application thread, like those typed into the GUI
+            apiServer = new ApiServer(logic, Platform::runLater);
+            try {
+                apiServer.start(apiPort);
+            } catch (IOException e) {
+                logger.warning("Could not serve the API on port " + apiPort + " " + StringUtil.getDetails(e));
+                apiServer = null;
+            }
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TAbs ] =============================");
-        try {
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        if (apiServer != null) {
+            apiServer.stop();
         }
+        components.stop();
     }
 }
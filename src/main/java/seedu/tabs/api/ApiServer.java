@@ -0,0 +1,405 @@
+package seedu.tabs.api;
+
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_ENTITY_TOO_LARGE;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static java.util.Objects.requireNonNull;
+import static seedu.tabs.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.tabs.commons.core.LogsCenter;
+import seedu.tabs.commons.util.JsonUtil;
+import seedu.tabs.commons.util.StringUtil;
+import seedu.tabs.logic.Logic;
+import seedu.tabs.logic.Messages;
+import seedu.tabs.logic.commands.Command;
+import seedu.tabs.logic.commands.CommandResult;
+import seedu.tabs.logic.commands.MarkCommand;
+import seedu.tabs.logic.commands.UnmarkCommand;
+import seedu.tabs.logic.commands.exceptions.CommandException;
+import seedu.tabs.logic.parser.exceptions.ParseException;
+import seedu.tabs.model.student.Student;
+import seedu.tabs.model.student.StudentRoster;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+import seedu.tabs.model.tutorial.TutorialIdMatchesKeywordPredicate;
+
+/**
+ * Serves a JSON API over HTTP on the loopback interface, so that other programs on the same computer, such as an
+ * attendance kiosk or grading scripts, can read and mark attendance in a running TAbs.
+ * <p>
+ * Endpoints:
+ * <ul>
+ *     <li>{@code GET /api/tutorials} lists all tutorials.</li>
+ *     <li>{@code GET /api/tutorials?find=ARGUMENTS} lists the tutorials that {@code find ARGUMENTS} would list.</li>
+ *     <li>{@code GET /api/tutorials/TUTORIAL_ID/students} lists the students of a tutorial and their attendance.
+ *     </li>
+ *     <li>{@code POST /api/tutorials/TUTORIAL_ID/mark} and {@code POST /api/tutorials/TUTORIAL_ID/unmark}, with a
+ *     body of {@code {"studentIds": [...]}}, run the {@code mark} and {@code unmark} commands.</li>
+ * </ul>
+ * A request that fails is answered with an error status and a {@code {"message": ...}} body saying why.
+ * <p>
+ * Connections are accepted and read by the single dispatcher thread of the server, which hands each request to a
+ * fixed pool of handler threads, so that thousands of open connections do not each need a thread. {@code Logic} is
+ * not thread-safe, so handlers make each call to it on the logic executor, which must run one task at a time, and
+ * only convert to and from JSON on their own threads.
+ */
+public class ApiServer {
+
+    public static final String TUTORIALS_PATH = "/api/tutorials";
+    public static final String FIND_PARAMETER = "find";
+    public static final String STUDENTS_ENDPOINT = "students";
+
+    public static final String MESSAGE_NOT_FOUND = "There is no endpoint at %1$s.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s %2$s is not supported.";
+    public static final String MESSAGE_INVALID_BODY =
+            "The request body should be a JSON object such as {\"studentIds\": [\"A1231231Y\"]}.";
+    public static final String MESSAGE_NO_STUDENTS = "At least one student ID should be given.";
+    public static final String MESSAGE_BODY_TOO_LARGE = "The request body should be at most %1$d bytes.";
+    public static final String MESSAGE_BUSY = "TAbs did not respond in time. Please try again later.";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled: %1$s";
+
+    /** The number of connections that can wait to be accepted, for bursts of many clients connecting at once. */
+    private static final int BACKLOG = 4096;
+    private static final int HANDLER_THREADS_PER_PROCESSOR = 4;
+    private static final int MIN_HANDLER_THREADS = 8;
+    private static final long HANDLER_KEEP_ALIVE_SECONDS = 60;
+    private static final long LOGIC_TIMEOUT_SECONDS = 30;
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final int MAX_BODY_BYTES = 1 << 20;
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final Executor logicExecutor;
+    private HttpServer server;
+    private ThreadPoolExecutor handlerExecutor;
+
+    /**
+     * Creates a server that serves the data of {@code logic}, calling it only on {@code logicExecutor}.
+     *
+     * @param logicExecutor Runs the calls to {@code logic} one at a time, such as the JavaFX application thread.
+     */
+    public ApiServer(Logic logic, Executor logicExecutor) {
+        requireAllNonNull(logic, logicExecutor);
+        this.logic = logic;
+        this.logicExecutor = logicExecutor;
+    }
+
+    /**
+     * Starts serving the API on {@code port} of the loopback interface, or on any free port if {@code port} is 0.
+     *
+     * @throws IOException If the port could not be bound.
+     */
+    public void start(int port) throws IOException {
+        assert server == null : "The server has already been started";
+        // Otherwise the headers and body of a response, written separately, are delayed by Nagle's algorithm,
+        // taking tens of milliseconds for each request on a connection that is kept open
+        System.setProperty(NO_DELAY_PROPERTY, "true");
+        HttpServer newServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                BACKLOG);
+        newServer.createContext(TUTORIALS_PATH, this::handle);
+
+        int handlerThreadCount = Math.max(MIN_HANDLER_THREADS,
+                Runtime.getRuntime().availableProcessors() * HANDLER_THREADS_PER_PROCESSOR);
+        handlerExecutor = new ThreadPoolExecutor(handlerThreadCount, handlerThreadCount,
+                HANDLER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "TAbs API handler");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        handlerExecutor.allowCoreThreadTimeOut(true);
+        newServer.setExecutor(handlerExecutor);
+        newServer.start();
+        server = newServer;
+        logger.info("Serving the API at " + getUri() + " with " + handlerThreadCount + " handler threads");
+    }
+
+    /**
+     * Stops serving the API, waiting briefly for the requests being handled to finish.
+     */
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(STOP_DELAY_SECONDS);
+        handlerExecutor.shutdown();
+        server = null;
+        logger.info("Stopped serving the API");
+    }
+
+    /**
+     * Returns the URI of the tutorials endpoint, at the port the server is bound to.
+     */
+    public URI getUri() {
+        assert server != null : "The server has not been started";
+        InetSocketAddress address = server.getAddress();
+        try {
+            return new URI("http", null, address.getAddress().getHostAddress(), address.getPort(), TUTORIALS_PATH,
+                    null, null);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void handle(HttpExchange exchange) {
+        try {
+            send(exchange, respond(exchange));
+        } catch (IOException e) {
+            // The client has gone away, so there is no one to tell
+            logger.fine("Could not answer API request to " + exchange.getRequestURI() + ": " + e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Response respond(HttpExchange exchange) throws IOException {
+        try {
+            return route(exchange);
+        } catch (CommandException | ParseException e) {
+            return Response.ofMessage(HTTP_BAD_REQUEST, e.getMessage());
+        } catch (TimeoutException | RejectedExecutionException e) {
+            return Response.ofMessage(HTTP_UNAVAILABLE, MESSAGE_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Response.ofMessage(HTTP_UNAVAILABLE, MESSAGE_BUSY);
+        } catch (RuntimeException e) {
+            logger.warning("Failed to handle API request to " + exchange.getRequestURI() + ": "
+                    + StringUtil.getDetails(e));
+            return Response.ofMessage(HTTP_INTERNAL_ERROR, String.format(MESSAGE_INTERNAL_ERROR, e.getMessage()));
+        }
+    }
+
+    private Response route(HttpExchange exchange)
+            throws IOException, CommandException, ParseException, TimeoutException, InterruptedException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals(TUTORIALS_PATH) || path.equals(TUTORIALS_PATH + "/")) {
+            if (!method.equals("GET")) {
+                return Response.ofMessage(HTTP_BAD_METHOD, String.format(MESSAGE_METHOD_NOT_ALLOWED, method, path));
+            }
+            return getTutorials(getQueryParameter(exchange.getRequestURI(), FIND_PARAMETER));
+        }
+
+        // A path of /api/tutorials/TUTORIAL_ID/ENDPOINT splits into "", TUTORIAL_ID and ENDPOINT
+        String[] segments = path.substring(TUTORIALS_PATH.length()).split("/");
+        if (segments.length != 3 || !segments[0].isEmpty()) {
+            return Response.ofMessage(HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+        }
+        String tutorialId = segments[1];
+        String endpoint = segments[2];
+        String expectedMethod;
+        switch (endpoint) {
+        case STUDENTS_ENDPOINT:
+            expectedMethod = "GET";
+            break;
+        case MarkCommand.COMMAND_WORD:
+        case UnmarkCommand.COMMAND_WORD:
+            expectedMethod = "POST";
+            break;
+        default:
+            return Response.ofMessage(HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+        }
+        if (!method.equals(expectedMethod)) {
+            return Response.ofMessage(HTTP_BAD_METHOD, String.format(MESSAGE_METHOD_NOT_ALLOWED, method, path));
+        }
+        if (!TutorialId.isValidTutorialId(tutorialId)) {
+            return Response.ofMessage(HTTP_BAD_REQUEST, TutorialId.MESSAGE_CONSTRAINTS);
+        }
+
+        return endpoint.equals(STUDENTS_ENDPOINT)
+                ? getStudents(new TutorialId(tutorialId))
+                : setAttendance(endpoint, tutorialId, exchange);
+    }
+
+    /**
+     * Returns all tutorials, or those found by {@code findArguments} if it is not null.
+     */
+    private Response getTutorials(String findArguments)
+            throws CommandException, ParseException, TimeoutException, InterruptedException {
+        List<JsonApiTutorial> tutorials = callLogic(() -> {
+            List<Tutorial> found = findArguments == null
+                    ? logic.getTAbs().getTutorialList()
+                    : logic.findTutorials(findArguments);
+            return found.stream().map(JsonApiTutorial::new).collect(Collectors.toList());
+        });
+        return new Response(HTTP_OK, tutorials);
+    }
+
+    private Response getStudents(TutorialId tutorialId)
+            throws CommandException, ParseException, TimeoutException, InterruptedException {
+        List<JsonApiStudent> students = callLogic(() -> logic.findTutorial(tutorialId)
+                .map(ApiServer::toJsonApiStudents)
+                .orElse(null));
+        if (students == null) {
+            return Response.ofMessage(HTTP_NOT_FOUND, Messages.MESSAGE_TUTORIAL_ID_NOT_FOUND);
+        }
+        return new Response(HTTP_OK, students);
+    }
+
+    private static List<JsonApiStudent> toJsonApiStudents(Tutorial tutorial) {
+        StudentRoster roster = tutorial.getRoster();
+        List<JsonApiStudent> students = new ArrayList<>(roster.size());
+        for (int i = 0; i < roster.size(); i++) {
+            students.add(new JsonApiStudent(roster.getStudentId(i), roster.isPresent(i)));
+        }
+        return students;
+    }
+
+    /**
+     * Runs the {@code mark} or {@code unmark} command given by {@code commandWord} on the tutorial with
+     * {@code tutorialId}, for the students listed in the body of {@code exchange}.
+     * The tutorials listed in the GUI are left as they are, since the user did not enter the command.
+     */
+    private Response setAttendance(String commandWord, String tutorialId, HttpExchange exchange)
+            throws IOException, CommandException, ParseException, TimeoutException, InterruptedException {
+        byte[] body = exchange.getRequestBody().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            return Response.ofMessage(HTTP_ENTITY_TOO_LARGE, String.format(MESSAGE_BODY_TOO_LARGE, MAX_BODY_BYTES));
+        }
+        JsonApiStudentIds studentIds;
+        try {
+            studentIds = JsonUtil.fromJsonString(new String(body, StandardCharsets.UTF_8), JsonApiStudentIds.class);
+        } catch (IOException e) {
+            return Response.ofMessage(HTTP_BAD_REQUEST, MESSAGE_INVALID_BODY);
+        }
+        if (studentIds == null) {
+            return Response.ofMessage(HTTP_BAD_REQUEST, MESSAGE_INVALID_BODY);
+        }
+        if (studentIds.getStudentIds().isEmpty()) {
+            return Response.ofMessage(HTTP_BAD_REQUEST, MESSAGE_NO_STUDENTS);
+        }
+
+        Set<Student> students = new HashSet<>();
+        for (String studentId : studentIds.getStudentIds()) {
+            if (studentId == null || !Student.isValidStudentId(studentId)) {
+                return Response.ofMessage(HTTP_BAD_REQUEST, Student.MESSAGE_CONSTRAINTS);
+            }
+            students.add(new Student(studentId));
+        }
+
+        TutorialIdMatchesKeywordPredicate predicate = new TutorialIdMatchesKeywordPredicate(tutorialId);
+        Command command = commandWord.equals(MarkCommand.COMMAND_WORD)
+                ? new MarkCommand(students, predicate, false)
+                : new UnmarkCommand(students, predicate, false);
+        CommandResult commandResult = callLogic(() -> logic.execute(command));
+        return Response.ofMessage(HTTP_OK, commandResult.getFeedbackToUser());
+    }
+
+    /**
+     * Makes {@code call} on the logic executor, and returns its result once it has been made.
+     *
+     * @throws TimeoutException If the call was not made in time, though it may still be made later.
+     */
+    private <T> T callLogic(LogicCall<T> call)
+            throws CommandException, ParseException, TimeoutException, InterruptedException {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        logicExecutor.execute(() -> {
+            try {
+                result.complete(call.call());
+            } catch (CommandException | ParseException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        try {
+            return result.get(LOGIC_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            }
+            if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            }
+            throw (RuntimeException) cause;
+        }
+    }
+
+    /**
+     * Returns the decoded value of the query parameter {@code name} of {@code uri}, or null if there is none.
+     */
+    private static String getQueryParameter(URI uri, String name) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split("&")) {
+            int separatorIndex = parameter.indexOf('=');
+            String key = separatorIndex < 0 ? parameter : parameter.substring(0, separatorIndex);
+            if (URLDecoder.decode(key, StandardCharsets.UTF_8).equals(name)) {
+                return separatorIndex < 0
+                        ? ""
+                        : URLDecoder.decode(parameter.substring(separatorIndex + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        byte[] body = JsonUtil.toCompactJsonString(response.body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    /**
+     * A call to {@code Logic}, which may fail as a command does.
+     */
+    @FunctionalInterface
+    private interface LogicCall<T> {
+        T call() throws CommandException, ParseException;
+    }
+
+    /**
+     * The status and body of a response, before the body is converted to JSON.
+     */
+    private static class Response {
+        private final int status;
+        private final Object body;
+
+        Response(int status, Object body) {
+            requireNonNull(body);
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response ofMessage(int status, String message) {
+            return new Response(status, new JsonApiMessage(message));
+        }
+    }
+
+}
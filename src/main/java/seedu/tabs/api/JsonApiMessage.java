@@ -0,0 +1,25 @@
+package seedu.tabs.api;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly message returned by the API, either the feedback of a command or the reason a request failed.
+ */
+class JsonApiMessage {
+
+    private final String message;
+
+    /**
+     * Constructs a {@code JsonApiMessage} with the given {@code message}.
+     */
+    @JsonCreator
+    public JsonApiMessage(@JsonProperty("message") String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+}
@@ -0,0 +1,34 @@
+package seedu.tabs.api;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.tabs.model.student.Student;
+
+/**
+ * Jackson-friendly version of a {@link Student} in a tutorial, as returned by the API.
+ */
+class JsonApiStudent {
+
+    private final String studentId;
+    private final boolean isPresent;
+
+    /**
+     * Constructs a {@code JsonApiStudent} with the given student details.
+     */
+    @JsonCreator
+    public JsonApiStudent(@JsonProperty("studentId") String studentId,
+                          @JsonProperty("isPresent") boolean isPresent) {
+        this.studentId = studentId;
+        this.isPresent = isPresent;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+}
@@ -0,0 +1,30 @@
+package seedu.tabs.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly body of an API request to mark or unmark students, listing their student IDs.
+ */
+class JsonApiStudentIds {
+
+    private final List<String> studentIds = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonApiStudentIds} with the given student IDs.
+     */
+    @JsonCreator
+    public JsonApiStudentIds(@JsonProperty("studentIds") List<String> studentIds) {
+        if (studentIds != null) {
+            this.studentIds.addAll(studentIds);
+        }
+    }
+
+    public List<String> getStudentIds() {
+        return studentIds;
+    }
+
+}
@@ -0,0 +1,63 @@
+package seedu.tabs.api;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.tabs.model.tutorial.Tutorial;
+
+/**
+ * Jackson-friendly summary of a {@link Tutorial}, as returned by the API, without its students.
+ */
+class JsonApiTutorial {
+
+    private final String tutorialId;
+    private final String moduleCode;
+    private final String date;
+    private final int studentCount;
+    private final int presentCount;
+
+    /**
+     * Constructs a {@code JsonApiTutorial} with the given tutorial details.
+     */
+    @JsonCreator
+    public JsonApiTutorial(@JsonProperty("tutorialId") String tutorialId,
+                           @JsonProperty("moduleCode") String moduleCode,
+                           @JsonProperty("date") String date,
+                           @JsonProperty("studentCount") int studentCount,
+                           @JsonProperty("presentCount") int presentCount) {
+        this.tutorialId = tutorialId;
+        this.moduleCode = moduleCode;
+        this.date = date;
+        this.studentCount = studentCount;
+        this.presentCount = presentCount;
+    }
+
+    /**
+     * Converts a given {@code Tutorial} into this class for Jackson use.
+     */
+    public JsonApiTutorial(Tutorial source) {
+        this(source.getTutorialId().id, source.getModuleCode().value, source.getDate().value,
+                source.getNumberOfStudents(), source.getNumberOfPresentStudents());
+    }
+
+    public String getTutorialId() {
+        return tutorialId;
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    public int getPresentCount() {
+        return presentCount;
+    }
+
+}
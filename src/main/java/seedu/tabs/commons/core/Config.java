@@ -14,9 +14,24 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * When changes to the TAbs data are written to the data file.
+     */
+    public enum SavePolicy {
+        /** After every command that changes the data. */
+        EVERY_COMMAND,
+        /** At most once every {@code saveIntervalMillis}. */
+        INTERVAL,
+        /** Only when the app exits. */
+        ON_EXIT
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private SavePolicy savePolicy = SavePolicy.EVERY_COMMAND;
+    private long saveIntervalMillis = 2000;
+    private boolean isLazyRosterLoading = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +49,33 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public SavePolicy getSavePolicy() {
+        return savePolicy;
+    }
+
+    public void setSavePolicy(SavePolicy savePolicy) {
+        this.savePolicy = savePolicy;
+    }
+
+    public long getSaveIntervalMillis() {
+        return saveIntervalMillis;
+    }
+
+    public void setSaveIntervalMillis(long saveIntervalMillis) {
+        this.saveIntervalMillis = saveIntervalMillis;
+    }
+
+    /**
+     * Returns true if the students of each tutorial are only read from the data file when they are first needed.
+     */
+    public boolean isLazyRosterLoading() {
+        return isLazyRosterLoading;
+    }
+
+    public void setLazyRosterLoading(boolean isLazyRosterLoading) {
+        this.isLazyRosterLoading = isLazyRosterLoading;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +89,15 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && savePolicy == otherConfig.savePolicy
+                && saveIntervalMillis == otherConfig.saveIntervalMillis
+                && isLazyRosterLoading == otherConfig.isLazyRosterLoading;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, savePolicy, saveIntervalMillis, isLazyRosterLoading);
     }
 
     @Override
@@ -60,6 +105,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("savePolicy", savePolicy)
+                .add("saveIntervalMillis", saveIntervalMillis)
+                .add("isLazyRosterLoading", isLazyRosterLoading)
                 .toString();
     }
 
@@ -1,16 +1,25 @@
 package seedu.tabs.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(Path file) {
@@ -31,6 +40,18 @@ public class FileUtil {
         return true;
     }
 
+    /**
+     * Returns a sibling of {@code file} with the same name, but with its extension, if any, replaced by
+     * {@code extension}.
+     * @param extension the new extension, including the leading dot.
+     */
+    public static Path replaceExtension(Path file, String extension) {
+        String fileName = file.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return file.resolveSibling(baseName + extension);
+    }
+
     /**
      * Creates a file if it does not exist along with its missing parent directories.
      * @throws IOException if the file or directory cannot be created.
@@ -77,7 +98,104 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(CHARSET));
+        writeToFileAtomically(file, 0, channel -> {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        });
+    }
+
+    /**
+     * Writes a file through {@code writer} so that the file holds either its old or its new contents, even if
+     * the program or the machine crashes midway.
+     * The new contents go to a sibling temp file that is forced to disk and then moved over {@code file}, so that
+     * {@code file} exists throughout. The directory is then forced to disk so that the move itself is durable.
+     * Up to {@code backupCount} previous versions of {@code file} are kept, newest first, at
+     * {@link #getBackupFilePath(Path, int)}.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, int backupCount, ChannelWriter writer) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writer.write(channel);
+            channel.force(true);
+        }
+
+        if (backupCount > 0 && Files.exists(file)) {
+            Files.deleteIfExists(getBackupFilePath(file, backupCount));
+            for (int generation = backupCount - 1; generation >= 1; generation--) {
+                Path backupFile = getBackupFilePath(file, generation);
+                if (Files.exists(backupFile)) {
+                    moveAtomically(backupFile, getBackupFilePath(file, generation + 1));
+                }
+            }
+            linkOrCopy(file, getBackupFilePath(file, 1));
+        }
+        moveAtomically(tempFile, file);
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, so that {@code target} holds either its old contents or those of
+     * {@code source}, even if the program or the machine crashes midway.
+     * The directory of {@code target} is then forced to disk so that the move itself is durable.
+     */
+    public static void replaceFile(Path source, Path target) throws IOException {
+        moveAtomically(source, target);
+        forceDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} that is {@code generation} versions old.
+     */
+    public static Path getBackupFilePath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Makes {@code target} a hard link to {@code source}, or a copy of it where hard links are not supported.
+     */
+    private static void linkOrCopy(Path source, Path target) throws IOException {
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, source);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, where the platform allows a directory to be opened.
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            // Directories cannot be opened on some platforms, such as Windows, which make renames durable anyway
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ChannelWriter {
+        void write(FileChannel channel) throws IOException;
     }
 
 }
@@ -65,4 +65,25 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code c} is a letter from A to Z, in either case.
+     */
+    public static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Returns true if every character of {@code s} from {@code beginIndex} up to {@code endIndex} is a digit from
+     * 0 to 9, which is what {@code \d} matches in a regex.
+     */
+    public static boolean isAsciiDigits(String s, int beginIndex, int endIndex) {
+        for (int i = beginIndex; i < endIndex; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
 }
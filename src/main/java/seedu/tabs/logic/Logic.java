@@ -1,14 +1,21 @@
 package seedu.tabs.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.tabs.commons.core.GuiSettings;
+import seedu.tabs.logic.commands.Command;
 import seedu.tabs.logic.commands.CommandResult;
 import seedu.tabs.logic.commands.exceptions.CommandException;
 import seedu.tabs.logic.parser.exceptions.ParseException;
+import seedu.tabs.model.AttendanceSummary;
 import seedu.tabs.model.ReadOnlyTAbs;
+import seedu.tabs.model.tutorial.ModuleCode;
 import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
 
 /**
  * API of the Logic component
@@ -23,6 +30,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes {@code command}, which was not entered by the user, and returns the result.
+     * The data is saved afterwards, just as after a command entered by the user.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command) throws CommandException;
+
     /**
      * Returns the TAbs.
      *
@@ -30,9 +44,46 @@ public interface Logic {
      */
     ReadOnlyTAbs getTAbs();
 
+    /**
+     * Returns the tutorials that a {@code find} command with {@code arguments} would list, in list order,
+     * without changing the filtered list of tutorials.
+     *
+     * @param arguments The arguments of the {@code find} command, e.g. {@code m/CS2103T}.
+     * @throws ParseException If the arguments are invalid.
+     */
+    List<Tutorial> findTutorials(String arguments) throws ParseException;
+
+    /**
+     * Returns the tutorial with {@code tutorialId}, if there is one.
+     *
+     * @see seedu.tabs.model.Model#findTutorial(TutorialId)
+     */
+    Optional<Tutorial> findTutorial(TutorialId tutorialId);
+
     /** Returns an unmodifiable view of the filtered list of tutorials */
     ObservableList<Tutorial> getFilteredTutorialList();
 
+    /**
+     * Returns the attendance totals of all tutorials.
+     *
+     * @see seedu.tabs.model.Model#getAttendanceSummary()
+     */
+    AttendanceSummary getAttendanceSummary();
+
+    /**
+     * Returns the attendance totals of the tutorials with the given {@code moduleCode}.
+     *
+     * @see seedu.tabs.model.Model#getAttendanceSummary(ModuleCode)
+     */
+    AttendanceSummary getAttendanceSummary(ModuleCode moduleCode);
+
+    /**
+     * Adds a {@code listener} that is given the attendance totals of all tutorials after each change to them.
+     *
+     * @see seedu.tabs.model.Model#addAttendanceSummaryListener(Consumer)
+     */
+    void addAttendanceSummaryListener(Consumer<AttendanceSummary> listener);
+
     /**
      * Returns the user prefs' TAbs file path.
      */
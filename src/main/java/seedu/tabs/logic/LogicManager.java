@@ -3,6 +3,11 @@ package seedu.tabs.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,11 +16,15 @@ import seedu.tabs.commons.core.LogsCenter;
 import seedu.tabs.logic.commands.Command;
 import seedu.tabs.logic.commands.CommandResult;
 import seedu.tabs.logic.commands.exceptions.CommandException;
+import seedu.tabs.logic.parser.FindCommandParser;
 import seedu.tabs.logic.parser.TAbsParser;
 import seedu.tabs.logic.parser.exceptions.ParseException;
+import seedu.tabs.model.AttendanceSummary;
 import seedu.tabs.model.Model;
 import seedu.tabs.model.ReadOnlyTAbs;
+import seedu.tabs.model.tutorial.ModuleCode;
 import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
 import seedu.tabs.storage.Storage;
 
 /**
@@ -32,6 +41,10 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final TAbsParser tabsParser;
+    private final Map<String, Integer> avoidedSaveCounts = new HashMap<>();
+
+    /** Version of the TAbs data last saved; starts unset so that the first command always saves. */
+    private long savedTAbsVersion = -1;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -46,12 +59,24 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = tabsParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return execute(tabsParser.parseCommand(commandText));
+    }
+
+    @Override
+    public CommandResult execute(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
+
+        long tabsVersion = model.getTAbsVersion();
+        if (tabsVersion == savedTAbsVersion) {
+            String commandName = command.getClass().getSimpleName();
+            int avoidedSaveCount = avoidedSaveCounts.merge(commandName, 1, Integer::sum);
+            logger.fine("No changes to save after " + commandName + " (" + avoidedSaveCount + " saves avoided)");
+            return commandResult;
+        }
 
         try {
             storage.saveTAbs(model.getTAbs());
+            savedTAbsVersion = tabsVersion;
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -66,11 +91,37 @@ public class LogicManager implements Logic {
         return model.getTAbs();
     }
 
+    @Override
+    public List<Tutorial> findTutorials(String arguments) throws ParseException {
+        // Prefixes are only recognised after whitespace, as in the arguments of a command
+        return new FindCommandParser().parse(" " + arguments).findIn(model);
+    }
+
+    @Override
+    public Optional<Tutorial> findTutorial(TutorialId tutorialId) {
+        return model.findTutorial(tutorialId);
+    }
+
     @Override
     public ObservableList<Tutorial> getFilteredTutorialList() {
         return model.getFilteredTutorialList();
     }
 
+    @Override
+    public AttendanceSummary getAttendanceSummary() {
+        return model.getAttendanceSummary();
+    }
+
+    @Override
+    public AttendanceSummary getAttendanceSummary(ModuleCode moduleCode) {
+        return model.getAttendanceSummary(moduleCode);
+    }
+
+    @Override
+    public void addAttendanceSummaryListener(Consumer<AttendanceSummary> listener) {
+        model.addAttendanceSummaryListener(listener);
+    }
+
     @Override
     public Path getTAbsFilePath() {
         return model.getTAbsFilePath();
@@ -7,7 +7,6 @@ import static seedu.tabs.logic.parser.CliSyntax.TUTORIAL_ID;
 import static seedu.tabs.model.Model.PREDICATE_SHOW_ALL_TUTORIALS;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import seedu.tabs.logic.Messages;
@@ -60,9 +59,7 @@ public class AddStudentCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Tutorial> lastShownList = model.getTAbs().getTutorialList();
-
-        Tutorial tutorialToAdd = lastShownList.stream().filter(predicate).findFirst().orElse(null);
+        Tutorial tutorialToAdd = model.findTutorial(predicate.getTutorialId()).orElse(null);
 
         if (tutorialToAdd == null) {
             throw new CommandException(Messages.MESSAGE_TUTORIAL_ID_NOT_FOUND);
@@ -58,11 +58,8 @@ public class CopyTutorialCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        // Find source tutorial from the list
-        Tutorial sourceTutorial = model.getTAbs().getTutorialList().stream()
-                .filter(tutorial -> tutorial.getTutorialId().equals(sourceTutorialId))
-                .findFirst()
-                .orElse(null);
+        // Find source tutorial by its ID
+        Tutorial sourceTutorial = model.findTutorial(sourceTutorialId).orElse(null);
 
         if (sourceTutorial == null) {
             throw new CommandException(String.format(MESSAGE_TUTORIAL_NOT_FOUND, sourceTutorialId.id));
@@ -7,7 +7,6 @@ import static seedu.tabs.logic.parser.CliSyntax.MODULE_CODE;
 import static seedu.tabs.logic.parser.CliSyntax.TUTORIAL_ID;
 import static seedu.tabs.model.Model.PREDICATE_SHOW_ALL_TUTORIALS;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -72,8 +71,7 @@ public class EditTutorialCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Tutorial> lastShownList = model.getTAbs().getTutorialList();
-        Tutorial tutorialToEdit = lastShownList.stream().filter(predicate).findFirst().orElse(null);
+        Tutorial tutorialToEdit = model.findTutorial(predicate.getTutorialId()).orElse(null);
 
         if (tutorialToEdit == null) {
             throw new CommandException(Messages.MESSAGE_TUTORIAL_ID_NOT_FOUND);
@@ -1,14 +1,18 @@
 package seedu.tabs.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.tabs.logic.parser.CliSyntax.DATE;
 import static seedu.tabs.logic.parser.CliSyntax.MODULE_CODE;
 import static seedu.tabs.logic.parser.CliSyntax.TUTORIAL_ID;
 
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.tabs.commons.util.ToStringBuilder;
 import seedu.tabs.logic.Messages;
 import seedu.tabs.model.Model;
+import seedu.tabs.model.tutorial.IndexedTutorialPredicate;
 import seedu.tabs.model.tutorial.Tutorial;
 /**
  * Finds and lists all tutorials in TAbs whose id contains any of the argument keywords.
@@ -21,19 +25,23 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Finds all tutorials whose module codes and/or tutorial IDs "
             + "partially matches any of the specified keywords (case-insensitive) "
+            + "and/or whose dates are in the specified date range, "
             + "and displays them as a list with index numbers.\n"
-            + "If both " + MODULE_CODE.prefix + " and " + TUTORIAL_ID.prefix + " are provided, "
-            + "only tutorials matching BOTH criteria are listed.\n"
+            + "If more than one of " + MODULE_CODE.prefix + ", " + TUTORIAL_ID.prefix + " and " + DATE.prefix
+            + " are provided, only tutorials matching ALL criteria are listed.\n"
             + "Each keyword must contain only alphanumeric characters (letters and digits).\n"
             + "Parameters: \n"
             + "1. Search by one field: " + TUTORIAL_ID.prefix + "KEYWORD [MORE_KEYWORDS] OR "
             + MODULE_CODE.prefix + "KEYWORD [MORE_KEYWORDS]\n"
             + "2. Search by two fields: " + MODULE_CODE.prefix + "KEYWORD [MORE_KEYWORDS] "
             + TUTORIAL_ID.prefix + "KEYWORD [MORE_KEYWORDS]\n"
+            + "3. Search by date: " + DATE.prefix + "DATE, " + DATE.prefix + "START_DATE..END_DATE, "
+            + DATE.prefix + "today or " + DATE.prefix + "this week\n"
             + "Example 1 (Module Code only): " + COMMAND_WORD + " " + MODULE_CODE.prefix + "CS2103T 2101\n"
             + "Example 2 (Tutorial ID only): " + COMMAND_WORD + " " + TUTORIAL_ID.prefix + "T10 12\n"
             + "Example 3 (Module Code and Tutorial ID): " + COMMAND_WORD + " " + MODULE_CODE.prefix + "CS2103T 2101 "
-            + TUTORIAL_ID.prefix + "T10 12";
+            + TUTORIAL_ID.prefix + "T10 12\n"
+            + "Example 4 (Date range): " + COMMAND_WORD + " " + DATE.prefix + "2025-03-01..2025-03-31";
     private final Predicate<Tutorial> predicate;
 
     public FindCommand(Predicate<Tutorial> predicate) {
@@ -43,11 +51,22 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredTutorialList(predicate);
+        // Keywords and date ranges are looked up through the model's indexes rather than tested on every tutorial
+        model.updateFilteredTutorialList(IndexedTutorialPredicate.resolve(predicate, model));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredTutorialList().size()));
     }
 
+    /**
+     * Returns the tutorials in {@code model} that this command finds, in list order, without changing the
+     * filtered list of tutorials.
+     */
+    public List<Tutorial> findIn(Model model) {
+        requireNonNull(model);
+        Predicate<Tutorial> resolvedPredicate = IndexedTutorialPredicate.resolve(predicate, model);
+        return model.getTAbs().getTutorialList().stream().filter(resolvedPredicate).collect(Collectors.toList());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
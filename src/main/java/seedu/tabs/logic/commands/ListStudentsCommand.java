@@ -51,8 +51,7 @@ public class ListStudentsCommand extends Command {
         requireNonNull(model);
 
         // Get tutorial based on tutorialId given
-        Tutorial tutorial = model.getTAbs().getTutorialList().stream()
-                .filter(tut -> tut.getTutorialId().equals(tutorialId)).findFirst()
+        Tutorial tutorial = model.findTutorial(tutorialId)
                 .orElseThrow(() -> new CommandException(
                         String.format("A tutorial with the TUTORIAL_ID %s does not exist", tutorialId.id)
                 ));
@@ -4,8 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.tabs.logic.parser.CliSyntax.TUTORIAL_ID;
 import static seedu.tabs.model.Model.PREDICATE_SHOW_ALL_TUTORIALS;
 
-import java.util.List;
-
 import seedu.tabs.commons.util.ToStringBuilder;
 import seedu.tabs.logic.Messages;
 import seedu.tabs.logic.commands.exceptions.CommandException;
@@ -47,9 +45,7 @@ public class MarkAllCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Tutorial> lastShownList = model.getTAbs().getTutorialList();
-
-        Tutorial tutorialToMarkAll = lastShownList.stream().filter(predicate).findFirst().orElse(null);
+        Tutorial tutorialToMarkAll = model.findTutorial(predicate.getTutorialId()).orElse(null);
 
         if (tutorialToMarkAll == null) {
             throw new CommandException(String.format(Messages.MESSAGE_INVALID_TUTORIAL_ID, predicate.getKeyword()));
@@ -7,7 +7,6 @@ import static seedu.tabs.logic.parser.CliSyntax.TUTORIAL_ID;
 import static seedu.tabs.model.Model.PREDICATE_SHOW_ALL_TUTORIALS;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import seedu.tabs.logic.Messages;
@@ -47,12 +46,23 @@ public class MarkCommand extends Command {
     private final Set<Student> nonExistentStudents;
     private final Set<Student> alreadyMarkedStudents;
     private final TutorialIdMatchesKeywordPredicate predicate;
+    private final boolean isShowingAllTutorials;
 
     /**
      * @param newStudentsList of the student to mark as present
      * @param predicate       to filter the tutorial list by the provided tutorial_id
      */
     public MarkCommand(Set<Student> newStudentsList, TutorialIdMatchesKeywordPredicate predicate) {
+        this(newStudentsList, predicate, true);
+    }
+
+    /**
+     * @param newStudentsList       of the student to mark as present
+     * @param predicate             to filter the tutorial list by the provided tutorial_id
+     * @param isShowingAllTutorials whether to show all tutorials afterwards, so that the marked tutorial is listed
+     */
+    public MarkCommand(Set<Student> newStudentsList, TutorialIdMatchesKeywordPredicate predicate,
+            boolean isShowingAllTutorials) {
         requireAllNonNull(newStudentsList, predicate);
 
         this.newStudentsList = newStudentsList;
@@ -60,14 +70,13 @@ public class MarkCommand extends Command {
         this.alreadyMarkedStudents = new HashSet<>();
         this.nonExistentStudents = new HashSet<>(newStudentsList);
         this.predicate = predicate;
+        this.isShowingAllTutorials = isShowingAllTutorials;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Tutorial> lastShownList = model.getTAbs().getTutorialList();
-
-        Tutorial tutorial = lastShownList.stream().filter(predicate).findFirst().orElse(null);
+        Tutorial tutorial = model.findTutorial(predicate.getTutorialId()).orElse(null);
 
         if (tutorial == null) {
             throw new CommandException(Messages.MESSAGE_TUTORIAL_ID_NOT_FOUND);
@@ -75,7 +84,9 @@ public class MarkCommand extends Command {
 
         Tutorial updatedTutorial = markStudents(tutorial, newStudentsList);
         model.setTutorial(tutorial, updatedTutorial);
-        model.updateFilteredTutorialList(PREDICATE_SHOW_ALL_TUTORIALS);
+        if (isShowingAllTutorials) {
+            model.updateFilteredTutorialList(PREDICATE_SHOW_ALL_TUTORIALS);
+        }
 
         String resultMessage = "";
 
@@ -142,6 +153,7 @@ public class MarkCommand extends Command {
 
         MarkCommand e = (MarkCommand) other;
         return newStudentsList.equals(e.newStudentsList)
-                && predicate.equals(e.predicate);
+                && predicate.equals(e.predicate)
+                && isShowingAllTutorials == e.isShowingAllTutorials;
     }
 }
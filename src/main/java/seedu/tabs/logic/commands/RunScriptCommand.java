@@ -0,0 +1,138 @@
+package seedu.tabs.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tabs.model.Model.PREDICATE_SHOW_ALL_TUTORIALS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.tabs.commons.util.ToStringBuilder;
+import seedu.tabs.logic.commands.exceptions.CommandException;
+import seedu.tabs.logic.parser.TAbsParser;
+import seedu.tabs.logic.parser.exceptions.ParseException;
+import seedu.tabs.model.Model;
+import seedu.tabs.model.ModelManager;
+import seedu.tabs.model.TAbs;
+
+/**
+ * Runs the commands in a script file, one command per line, as a single change to the TAbs.
+ * The commands are run against a copy of the TAbs, which replaces the TAbs once every command has run. The list of
+ * tutorials is thus only refreshed once, the TAbs is only saved once, and a failed script leaves the TAbs unchanged.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "run_script";
+    public static final String CONTINUE_ON_ERROR_FLAG = "--continue";
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line. "
+            + "Blank lines and lines starting with " + COMMENT_MARKER + " are skipped.\n"
+            + "If a command fails, no changes are made, unless " + CONTINUE_ON_ERROR_FLAG
+            + " is given, in which case only the commands that fail are skipped.\n"
+            + "Parameters: FILE [" + CONTINUE_ON_ERROR_FLAG + "]\n"
+            + "Example: " + COMMAND_WORD + " semester.txt " + CONTINUE_ON_ERROR_FLAG;
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s.";
+    public static final String MESSAGE_SKIPPED_FAILURES = "Ran %1$d command(s) from %2$s, skipping %3$d that failed:"
+            + "\n%4$s";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d (%2$s): %3$s";
+    public static final String MESSAGE_ABORTED = "No changes were made, as a command in %1$s failed.\n%2$s";
+    public static final String MESSAGE_CANNOT_READ = "Could not read the script %1$s: %2$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "A script cannot run another script.";
+
+    private final Path scriptPath;
+    private final boolean isContinuingOnError;
+
+    /**
+     * Creates a RunScriptCommand to run the commands in the file at {@code scriptPath}, skipping those that fail if
+     * {@code isContinuingOnError}, or otherwise making no changes if any of them fails.
+     */
+    public RunScriptCommand(Path scriptPath, boolean isContinuingOnError) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+        this.isContinuingOnError = isContinuingOnError;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Model scriptModel = new ModelManager(TAbs.deepCopyOf(model.getTAbs()), model.getUserPrefs());
+        long initialVersion = scriptModel.getTAbsVersion();
+
+        TAbsParser tabsParser = new TAbsParser();
+        int commandCount = 0;
+        List<String> failures = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(scriptPath)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+
+                try {
+                    execute(tabsParser.parseCommand(commandText), scriptModel);
+                    commandCount++;
+                } catch (CommandException | ParseException e) {
+                    String failure = String.format(MESSAGE_FAILED_LINE, lineNumber, commandText, e.getMessage());
+                    if (!isContinuingOnError) {
+                        throw new CommandException(String.format(MESSAGE_ABORTED, scriptPath, failure), e);
+                    }
+                    failures.add(failure);
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, scriptPath, ioe.getMessage()), ioe);
+        }
+
+        if (scriptModel.getTAbsVersion() != initialVersion) {
+            model.setTAbs(scriptModel.getTAbs());
+        }
+        model.updateFilteredTutorialList(PREDICATE_SHOW_ALL_TUTORIALS);
+
+        if (failures.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, scriptPath));
+        }
+        return new CommandResult(String.format(MESSAGE_SKIPPED_FAILURES, commandCount, scriptPath, failures.size(),
+                String.join("\n", failures)));
+    }
+
+    /**
+     * Executes {@code command} from the script against {@code scriptModel}.
+     */
+    private static void execute(Command command, Model scriptModel) throws CommandException {
+        if (command instanceof RunScriptCommand) {
+            throw new CommandException(MESSAGE_NESTED_SCRIPT);
+        }
+        command.execute(scriptModel);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunScriptCommand)) {
+            return false;
+        }
+
+        RunScriptCommand otherRunScriptCommand = (RunScriptCommand) other;
+        return scriptPath.equals(otherRunScriptCommand.scriptPath)
+                && isContinuingOnError == otherRunScriptCommand.isContinuingOnError;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("isContinuingOnError", isContinuingOnError)
+                .toString();
+    }
+}
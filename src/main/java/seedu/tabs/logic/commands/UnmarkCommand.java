@@ -7,7 +7,6 @@ import static seedu.tabs.logic.parser.CliSyntax.TUTORIAL_ID;
 import static seedu.tabs.model.Model.PREDICATE_SHOW_ALL_TUTORIALS;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import seedu.tabs.logic.Messages;
@@ -47,12 +46,23 @@ public class UnmarkCommand extends Command {
     private final Set<Student> alreadyUnmarkedStudents;
     private final Set<Student> nonExistentStudents;
     private final TutorialIdMatchesKeywordPredicate predicate;
+    private final boolean isShowingAllTutorials;
 
     /**
      * @param newStudentsList of the student to unmark
      * @param predicate       to filter the tutorial list by the provided tutorial_id
      */
     public UnmarkCommand(Set<Student> newStudentsList, TutorialIdMatchesKeywordPredicate predicate) {
+        this(newStudentsList, predicate, true);
+    }
+
+    /**
+     * @param newStudentsList       of the student to unmark
+     * @param predicate             to filter the tutorial list by the provided tutorial_id
+     * @param isShowingAllTutorials whether to show all tutorials afterwards, so that the unmarked tutorial is listed
+     */
+    public UnmarkCommand(Set<Student> newStudentsList, TutorialIdMatchesKeywordPredicate predicate,
+            boolean isShowingAllTutorials) {
         requireAllNonNull(newStudentsList, predicate);
 
         this.newStudentsList = newStudentsList;
@@ -60,14 +70,13 @@ public class UnmarkCommand extends Command {
         this.alreadyUnmarkedStudents = new HashSet<>();
         this.nonExistentStudents = new HashSet<>(newStudentsList);
         this.predicate = predicate;
+        this.isShowingAllTutorials = isShowingAllTutorials;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Tutorial> lastShownList = model.getTAbs().getTutorialList();
-
-        Tutorial tutorial = lastShownList.stream().filter(predicate).findFirst().orElse(null);
+        Tutorial tutorial = model.findTutorial(predicate.getTutorialId()).orElse(null);
 
         if (tutorial == null) {
             throw new CommandException(Messages.MESSAGE_TUTORIAL_ID_NOT_FOUND);
@@ -75,7 +84,9 @@ public class UnmarkCommand extends Command {
 
         Tutorial updatedTutorial = unmarkStudents(tutorial, newStudentsList);
         model.setTutorial(tutorial, updatedTutorial);
-        model.updateFilteredTutorialList(PREDICATE_SHOW_ALL_TUTORIALS);
+        if (isShowingAllTutorials) {
+            model.updateFilteredTutorialList(PREDICATE_SHOW_ALL_TUTORIALS);
+        }
 
         String resultMessage = "";
 
@@ -141,6 +152,7 @@ public class UnmarkCommand extends Command {
         }
 
         return newStudentsList.equals(e.newStudentsList)
-                && predicate.equals(e.predicate);
+                && predicate.equals(e.predicate)
+                && isShowingAllTutorials == e.isShowingAllTutorials;
     }
 }
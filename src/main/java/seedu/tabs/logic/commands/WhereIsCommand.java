@@ -0,0 +1,85 @@
+package seedu.tabs.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tabs.logic.parser.CliSyntax.STUDENT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.tabs.commons.util.ToStringBuilder;
+import seedu.tabs.model.Model;
+import seedu.tabs.model.student.Student;
+import seedu.tabs.model.tutorial.Tutorial;
+
+/**
+ * Shows the tutorials that each of the given students is in.
+ * Each student is looked up in the student index of the model, so the command takes the same time no matter how
+ * many tutorials there are.
+ */
+public class WhereIsCommand extends Command {
+
+    public static final String COMMAND_WORD = "where_is";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the tutorials that each of the students identified by the given student IDs is in.\n"
+            + "Parameters: "
+            + STUDENT.prefix + "STUDENT_ID [" + STUDENT.prefix + "MORE_STUDENT_IDS]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + STUDENT.prefix + "A1234567X "
+            + STUDENT.prefix + "A0123456Z";
+    public static final String MESSAGE_STUDENT_TUTORIALS = "Student %1$s is in tutorial(s): %2$s";
+    public static final String MESSAGE_STUDENT_NOT_IN_TUTORIALS = "Student %1$s is not in any tutorial.";
+
+    private final List<Student> students;
+
+    /**
+     * Creates a WhereIsCommand to look up the tutorials of each of {@code students}, in order.
+     */
+    public WhereIsCommand(List<Student> students) {
+        requireNonNull(students);
+        this.students = new ArrayList<>(students);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<String> results = new ArrayList<>();
+        for (Student student : students) {
+            List<Tutorial> tutorials = model.getTutorialsOfStudent(student);
+            if (tutorials.isEmpty()) {
+                results.add(String.format(MESSAGE_STUDENT_NOT_IN_TUTORIALS, student.studentId));
+                continue;
+            }
+
+            String tutorialList = tutorials.stream()
+                    .map(tutorial -> tutorial.getTutorialId() + " (" + tutorial.getModuleCode() + ")")
+                    .collect(Collectors.joining(", "));
+            results.add(String.format(MESSAGE_STUDENT_TUTORIALS, student.studentId, tutorialList));
+        }
+        return new CommandResult(String.join("\n", results));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WhereIsCommand)) {
+            return false;
+        }
+
+        WhereIsCommand otherWhereIsCommand = (WhereIsCommand) other;
+        return students.equals(otherWhereIsCommand.students);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("students", students)
+                .toString();
+    }
+}
@@ -12,12 +12,13 @@ import java.util.stream.Stream;
 import seedu.tabs.logic.commands.AddStudentCommand;
 import seedu.tabs.logic.parser.exceptions.ParseException;
 import seedu.tabs.model.student.Student;
+import seedu.tabs.model.tutorial.TutorialId;
 import seedu.tabs.model.tutorial.TutorialIdMatchesKeywordPredicate;
 
 /**
  * Parses input arguments and creates a new AddStudentCommand object
  */
-public class AddStudentCommandParser {
+public class AddStudentCommandParser implements Parser<AddStudentCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the AddStudentCommand
      * and returns an AddStudentCommand object for execution.
@@ -46,7 +47,9 @@ public class AddStudentCommandParser {
                     AddStudentCommand.MESSAGE_USAGE));
         }
 
-        return new AddStudentCommand(studentSet, new TutorialIdMatchesKeywordPredicate(tutorialId));
+        TutorialId parsedTutorialId = ParserUtil.parseTutorialId(tutorialId);
+
+        return new AddStudentCommand(studentSet, new TutorialIdMatchesKeywordPredicate(parsedTutorialId.id));
     }
 
     /**
@@ -30,9 +30,8 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        // Appends in place, as copying the existing values makes repeating a prefix n times take O(n^2) time
+        argMultimap.computeIfAbsent(prefix, key -> new ArrayList<>()).add(argValue);
     }
 
     /**
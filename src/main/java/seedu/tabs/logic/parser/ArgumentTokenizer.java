@@ -1,9 +1,6 @@
 package seedu.tabs.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,9 +9,16 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * <p>
+ * The arguments string is read once from left to right. A prefix is only valid right after a whitespace, so the
+ * prefixes are matched against a trie of all the prefixes at each position after a space, and each value is
+ * extracted as soon as the prefix after it is found.
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+    private static final PrefixTrie ALL_PREFIXES = new PrefixTrie(CliSyntax.getAllPrefixes());
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,8 +28,7 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
+        return tokenize(argsString, new PrefixTrie(prefixes));
     }
 
     /**
@@ -37,123 +40,114 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenizeAllPrefix(String argsString) {
-        return tokenize(argsString, CliSyntax.getAllPrefixes());
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+        return tokenize(argsString, ALL_PREFIXES);
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * Tokenizes {@code argsString} with the prefixes in {@code prefixes} in a single pass.
+     * Where several prefixes start at the same position, the longest of them is taken.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    private static ArgumentMultimap tokenize(String argsString, PrefixTrie prefixes) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = PREAMBLE;
+        int valueStartPos = 0;
+
+        int spacePos = argsString.indexOf(' ');
+        while (spacePos != -1) {
+            int prefixPos = spacePos + 1; // +1 as offset for whitespace
+            Prefix nextPrefix = prefixes.match(argsString, prefixPos);
+            if (nextPrefix != null) {
+                argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPos, prefixPos));
+                currentPrefix = nextPrefix;
+                valueStartPos = prefixPos + nextPrefix.getPrefix().length();
+            }
+            spacePos = argsString.indexOf(' ', prefixPos);
         }
 
+        argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPos, argsString.length()));
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the trimmed value of the argument in the arguments string from {@code valueStartPos} up to
+     * {@code valueEndPos}, without creating the untrimmed value.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private static String extractArgumentValue(String argsString, int valueStartPos, int valueEndPos) {
+        int start = valueStartPos;
+        int end = valueEndPos;
+        // The same characters as those discarded by String#trim
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return argsString.substring(start, end);
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * A trie of prefixes, with one node per character, that finds the prefix starting at a position in a string.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
+    private static class PrefixTrie {
+        private char[] keys = new char[0];
+        private PrefixTrie[] children = new PrefixTrie[0];
+        private Prefix prefix;
+
+        PrefixTrie(Prefix... prefixes) {
+            for (Prefix prefix : prefixes) {
+                PrefixTrie node = this;
+                String prefixString = prefix.getPrefix();
+                for (int i = 0; i < prefixString.length(); i++) {
+                    node = node.getOrAddChild(prefixString.charAt(i));
+                }
+                node.prefix = prefix;
+            }
+        }
+
+        private PrefixTrie() {
+        }
 
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+        /**
+         * Returns the longest prefix in the trie that starts at {@code fromIndex} of {@code argsString},
+         * or null if there is none.
+         */
+        Prefix match(String argsString, int fromIndex) {
+            Prefix longestMatch = prefix;
+            PrefixTrie node = this;
+            for (int i = fromIndex; i < argsString.length(); i++) {
+                node = node.getChild(argsString.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longestMatch = node.prefix;
+                }
+            }
+            return longestMatch;
         }
 
-        int getStartPosition() {
-            return startPosition;
+        private PrefixTrie getChild(char key) {
+            // A node has few children, so a linear search is faster than hashing the character
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        private PrefixTrie getOrAddChild(char key) {
+            PrefixTrie child = getChild(key);
+            if (child != null) {
+                return child;
+            }
+
+            child = new PrefixTrie();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            keys[keys.length - 1] = key;
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = child;
+            return child;
         }
     }
 
@@ -12,6 +12,7 @@ import java.util.NoSuchElementException;
 import seedu.tabs.logic.commands.EditTutorialCommand;
 import seedu.tabs.logic.commands.EditTutorialCommand.EditTutorialDescriptor;
 import seedu.tabs.logic.parser.exceptions.ParseException;
+import seedu.tabs.model.tutorial.TutorialId;
 import seedu.tabs.model.tutorial.TutorialIdMatchesKeywordPredicate;
 
 /**
@@ -28,9 +29,9 @@ public class EditTutorialCommandParser implements Parser<EditTutorialCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenizeAllPrefix(args);
 
-        String tutorialId;
+        TutorialId tutorialId;
         try {
-            tutorialId = argMultimap.getValue(FROM.prefix).orElseThrow();
+            tutorialId = ParserUtil.parseTutorialId(argMultimap.getValue(FROM.prefix).orElseThrow());
         } catch (NoSuchElementException e) {
             throw new ParseException(String.format(EditTutorialCommand.MESSAGE_FROM_TUTORIAL_ID_MISSING,
                     EditTutorialCommand.MESSAGE_USAGE));
@@ -60,6 +61,6 @@ public class EditTutorialCommandParser implements Parser<EditTutorialCommand> {
             throw new ParseException(EditTutorialCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new EditTutorialCommand(new TutorialIdMatchesKeywordPredicate(tutorialId), editTutorialDescriptor);
+        return new EditTutorialCommand(new TutorialIdMatchesKeywordPredicate(tutorialId.id), editTutorialDescriptor);
     }
 }
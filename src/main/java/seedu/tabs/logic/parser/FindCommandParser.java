@@ -1,10 +1,14 @@
 package seedu.tabs.logic.parser;
 
 import static seedu.tabs.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tabs.logic.parser.CliSyntax.DATE;
 import static seedu.tabs.logic.parser.CliSyntax.MODULE_CODE;
 import static seedu.tabs.logic.parser.CliSyntax.TUTORIAL_ID;
 import static seedu.tabs.logic.parser.ParserUtil.validateAlphanumericKeywords;
 
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -12,6 +16,8 @@ import java.util.function.Predicate;
 
 import seedu.tabs.logic.commands.FindCommand;
 import seedu.tabs.logic.parser.exceptions.ParseException;
+import seedu.tabs.model.tutorial.Date;
+import seedu.tabs.model.tutorial.DateInRangePredicate;
 import seedu.tabs.model.tutorial.ModuleCodeAndTutorialIdContainsKeywordsPredicate;
 import seedu.tabs.model.tutorial.ModuleCodeContainsKeywordsPredicate;
 import seedu.tabs.model.tutorial.Tutorial;
@@ -22,6 +28,27 @@ import seedu.tabs.model.tutorial.TutorialIdContainsKeywordsPredicate;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_INVALID_DATE_RANGE = "Date ranges should be a single date, "
+            + "START_DATE..END_DATE with START_DATE not after END_DATE, 'today' or 'this week', "
+            + "e.g., 2025-03-01..2025-03-31";
+
+    private static final String DATE_RANGE_SEPARATOR = "..";
+    private static final String TODAY = "today";
+    private static final String THIS_WEEK = "this week";
+
+    private final Clock clock;
+
+    public FindCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a parser that reads today's date for date range shortcuts from {@code clock}.
+     */
+    public FindCommandParser(Clock clock) {
+        this.clock = clock;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -38,17 +65,18 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         boolean hasModuleCode = argMultimap.getValue(MODULE_CODE.prefix).isPresent();
         boolean hasTutorialId = argMultimap.getValue(TUTORIAL_ID.prefix).isPresent();
+        boolean hasDate = argMultimap.getValue(DATE.prefix).isPresent();
 
         // Check for missing prefixes
-        if (!hasModuleCode && !hasTutorialId) {
+        if (!hasModuleCode && !hasTutorialId && !hasDate) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
         // Check for duplicate prefixes
-        argMultimap.verifyNoDuplicatePrefixesFor(TUTORIAL_ID.prefix, MODULE_CODE.prefix);
+        argMultimap.verifyNoDuplicatePrefixesFor(TUTORIAL_ID.prefix, MODULE_CODE.prefix, DATE.prefix);
 
         // Check for extra prefixes
-        argMultimap.verifyNoExtraPrefixesExcept(TUTORIAL_ID.prefix, MODULE_CODE.prefix);
+        argMultimap.verifyNoExtraPrefixesExcept(TUTORIAL_ID.prefix, MODULE_CODE.prefix, DATE.prefix);
 
         List<Predicate<Tutorial>> predicates = new ArrayList<>();
 
@@ -71,16 +99,59 @@ public class FindCommandParser implements Parser<FindCommand> {
             // Split the argument string by one or more whitespace
             String[] moduleKeywords = moduleCodeArgs.split("\\s+");
             validateAlphanumericKeywords(moduleKeywords);
+            // Resolved through the model's trigram index of module codes, so matching does not scan every tutorial
             predicates.add(new ModuleCodeContainsKeywordsPredicate(Arrays.asList(moduleKeywords)));
         }
 
+        if (hasDate) {
+            // Resolved through the model's date index as a range scan
+            predicates.add(parseDateRange(argMultimap.getValue(DATE.prefix).get()));
+        }
+
         // Combine predicates based on count
         if (predicates.size() == 1) {
-            // Only one prefix was given (t/ OR m/)
+            // Only one prefix was given (t/, m/ OR d/)
             return new FindCommand(predicates.get(0));
         } else {
-            // Must be size 2, meaning both t/ and m/ were present. Use the AND predicate.
+            // More than one prefix was present. Use the AND predicate.
             return new FindCommand(new ModuleCodeAndTutorialIdContainsKeywordsPredicate(predicates));
         }
     }
+
+    /**
+     * Parses {@code dateRange} into a predicate for the dates in that range.
+     * A range is a single date, two dates separated by {@code ..}, {@code today}, or {@code this week},
+     * which is from the Monday to the Sunday of the current week.
+     *
+     * @throws ParseException if {@code dateRange} is not a valid date range.
+     */
+    private DateInRangePredicate parseDateRange(String dateRange) throws ParseException {
+        String trimmedDateRange = dateRange.trim().replaceAll("\\s+", " ");
+        LocalDate today = LocalDate.now(clock);
+        try {
+            if (trimmedDateRange.equalsIgnoreCase(TODAY)) {
+                return new DateInRangePredicate(Date.of(today), Date.of(today));
+            }
+            if (trimmedDateRange.equalsIgnoreCase(THIS_WEEK)) {
+                LocalDate monday = today.with(DayOfWeek.MONDAY);
+                return new DateInRangePredicate(Date.of(monday), Date.of(monday.plusDays(6)));
+            }
+        } catch (IllegalArgumentException e) {
+            // Today is outside the years that dates can be in
+            throw new ParseException(Date.MESSAGE_CONSTRAINTS);
+        }
+
+        int separatorIndex = trimmedDateRange.indexOf(DATE_RANGE_SEPARATOR);
+        if (separatorIndex == -1) {
+            Date date = ParserUtil.parseDate(trimmedDateRange);
+            return new DateInRangePredicate(date, date);
+        }
+
+        Date start = ParserUtil.parseDate(trimmedDateRange.substring(0, separatorIndex));
+        Date end = ParserUtil.parseDate(trimmedDateRange.substring(separatorIndex + DATE_RANGE_SEPARATOR.length()));
+        if (start.compareTo(end) > 0) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new DateInRangePredicate(start, end);
+    }
 }
@@ -64,7 +64,7 @@ public class ParserUtil {
         if (!ModuleCode.isValidModuleCode(trimmedModuleCode)) {
             throw new ParseException(ModuleCode.MESSAGE_CONSTRAINTS);
         }
-        return new ModuleCode(trimmedModuleCode);
+        return ModuleCode.of(trimmedModuleCode);
     }
 
     /**
@@ -79,7 +79,7 @@ public class ParserUtil {
         if (!Date.isValidDate(trimmedDate)) {
             throw new ParseException(Date.MESSAGE_CONSTRAINTS);
         }
-        return new Date(trimmedDate);
+        return Date.of(trimmedDate);
     }
 
     /**
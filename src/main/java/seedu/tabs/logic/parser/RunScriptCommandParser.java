@@ -0,0 +1,35 @@
+package seedu.tabs.logic.parser;
+
+import static seedu.tabs.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tabs.logic.commands.RunScriptCommand.CONTINUE_ON_ERROR_FLAG;
+
+import java.nio.file.Paths;
+
+import seedu.tabs.commons.util.FileUtil;
+import seedu.tabs.logic.commands.RunScriptCommand;
+import seedu.tabs.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunScriptCommand object
+ */
+public class RunScriptCommandParser implements Parser<RunScriptCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunScriptCommand
+     * and returns a RunScriptCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunScriptCommand parse(String args) throws ParseException {
+        String scriptPath = args.trim();
+        boolean isContinuingOnError = scriptPath.endsWith(" " + CONTINUE_ON_ERROR_FLAG);
+        if (isContinuingOnError) {
+            scriptPath = scriptPath.substring(0, scriptPath.length() - CONTINUE_ON_ERROR_FLAG.length()).trim();
+        }
+
+        if (scriptPath.isEmpty() || scriptPath.equals(CONTINUE_ON_ERROR_FLAG) || !FileUtil.isValidPath(scriptPath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+        }
+        return new RunScriptCommand(Paths.get(scriptPath), isContinuingOnError);
+    }
+
+}
@@ -23,8 +23,10 @@ import seedu.tabs.logic.commands.ListCommand;
 import seedu.tabs.logic.commands.ListStudentsCommand;
 import seedu.tabs.logic.commands.MarkAllCommand;
 import seedu.tabs.logic.commands.MarkCommand;
+import seedu.tabs.logic.commands.RunScriptCommand;
 import seedu.tabs.logic.commands.UnmarkAllCommand;
 import seedu.tabs.logic.commands.UnmarkCommand;
+import seedu.tabs.logic.commands.WhereIsCommand;
 import seedu.tabs.logic.parser.exceptions.ParseException;
 
 /**
@@ -109,6 +111,12 @@ public class TAbsParser {
         case UnmarkAllCommand.COMMAND_WORD:
             return new UnmarkAllCommandParser().parse(arguments);
 
+        case WhereIsCommand.COMMAND_WORD:
+            return new WhereIsCommandParser().parse(arguments);
+
+        case RunScriptCommand.COMMAND_WORD:
+            return new RunScriptCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
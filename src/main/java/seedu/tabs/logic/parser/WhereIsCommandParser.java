@@ -0,0 +1,43 @@
+package seedu.tabs.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tabs.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tabs.logic.parser.CliSyntax.STUDENT;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import seedu.tabs.logic.commands.WhereIsCommand;
+import seedu.tabs.logic.parser.exceptions.ParseException;
+import seedu.tabs.model.student.Student;
+
+/**
+ * Parses input arguments and creates a new WhereIsCommand object
+ */
+public class WhereIsCommandParser implements Parser<WhereIsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the WhereIsCommand
+     * and returns a WhereIsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public WhereIsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenizeAllPrefix(args);
+
+        if (argMultimap.getValue(STUDENT.prefix).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WhereIsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoExtraPrefixesExcept(STUDENT.prefix);
+
+        // Students are looked up in the order they were given, and only once each
+        Set<Student> students = new LinkedHashSet<>();
+        for (String studentId : argMultimap.getAllValues(STUDENT.prefix)) {
+            students.add(ParserUtil.parseStudent(studentId));
+        }
+        return new WhereIsCommand(new ArrayList<>(students));
+    }
+
+}
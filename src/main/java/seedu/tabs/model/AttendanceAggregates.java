@@ -0,0 +1,124 @@
+package seedu.tabs.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.tabs.model.tutorial.ModuleCode;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+
+/**
+ * Running attendance totals of every tutorial, of each module and of all tutorials.
+ * <p>
+ * The counts each tutorial last added to the totals are remembered, so that a change to one tutorial only
+ * updates the totals by the difference, even when the tutorial was marked in place before the change. A tutorial
+ * is subtracted from the module it was last added to, so an edit that moves it to another module updates both.
+ */
+class AttendanceAggregates {
+
+    private final Map<TutorialId, Totals> totalsByTutorialId = new HashMap<>();
+    private final Map<ModuleCode, Totals> totalsByModuleCode = new HashMap<>();
+    private final Totals totals = new Totals();
+
+    /**
+     * Replaces the totals with those of {@code tutorials}.
+     */
+    void setTutorials(List<Tutorial> tutorials) {
+        totalsByTutorialId.clear();
+        totalsByModuleCode.clear();
+        totals.clear();
+        tutorials.forEach(this::add);
+    }
+
+    /**
+     * Adds the students of {@code tutorial} to the totals.
+     */
+    void add(Tutorial tutorial) {
+        Totals tutorialTotals = new Totals(tutorial.getModuleCode());
+        tutorialTotals.add(1, tutorial.getNumberOfStudents(), tutorial.getNumberOfPresentStudents());
+        totalsByTutorialId.put(tutorial.getTutorialId(), tutorialTotals);
+        totalsByModuleCode.computeIfAbsent(tutorial.getModuleCode(), moduleCode -> new Totals()).add(tutorialTotals);
+        totals.add(tutorialTotals);
+    }
+
+    /**
+     * Removes the students that the tutorial with the same ID as {@code tutorial} last added to the totals.
+     */
+    void remove(Tutorial tutorial) {
+        Totals tutorialTotals = totalsByTutorialId.remove(tutorial.getTutorialId());
+        if (tutorialTotals == null) {
+            return;
+        }
+        Totals moduleTotals = totalsByModuleCode.get(tutorialTotals.moduleCode);
+        moduleTotals.subtract(tutorialTotals);
+        if (moduleTotals.numberOfTutorials == 0) {
+            totalsByModuleCode.remove(tutorialTotals.moduleCode);
+        }
+        totals.subtract(tutorialTotals);
+    }
+
+    /**
+     * Replaces the students that {@code target} last added to the totals with those of {@code editedTutorial}.
+     */
+    void replace(Tutorial target, Tutorial editedTutorial) {
+        remove(target);
+        add(editedTutorial);
+    }
+
+    AttendanceSummary getSummary() {
+        return totals.toSummary();
+    }
+
+    AttendanceSummary getSummary(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        Totals moduleTotals = totalsByModuleCode.get(moduleCode);
+        return moduleTotals == null ? AttendanceSummary.EMPTY : moduleTotals.toSummary();
+    }
+
+    /**
+     * Mutable counts of tutorials, students and present students.
+     */
+    private static class Totals {
+        /** The module of the tutorial, for the totals of a single tutorial. */
+        private final ModuleCode moduleCode;
+        private int numberOfTutorials;
+        private int numberOfStudents;
+        private int numberOfPresentStudents;
+
+        Totals() {
+            this(null);
+        }
+
+        Totals(ModuleCode moduleCode) {
+            this.moduleCode = moduleCode;
+        }
+
+        void add(int tutorials, int students, int presentStudents) {
+            numberOfTutorials += tutorials;
+            numberOfStudents += students;
+            numberOfPresentStudents += presentStudents;
+        }
+
+        void add(Totals other) {
+            add(other.numberOfTutorials, other.numberOfStudents, other.numberOfPresentStudents);
+        }
+
+        void subtract(Totals other) {
+            add(-other.numberOfTutorials, -other.numberOfStudents, -other.numberOfPresentStudents);
+        }
+
+        void clear() {
+            numberOfTutorials = 0;
+            numberOfStudents = 0;
+            numberOfPresentStudents = 0;
+        }
+
+        AttendanceSummary toSummary() {
+            return new AttendanceSummary(numberOfTutorials, numberOfStudents, numberOfPresentStudents);
+        }
+    }
+
+}
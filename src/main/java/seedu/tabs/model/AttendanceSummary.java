@@ -0,0 +1,72 @@
+package seedu.tabs.model;
+
+import java.util.Objects;
+
+import seedu.tabs.commons.util.ToStringBuilder;
+
+/**
+ * The attendance totals of a group of tutorials.
+ * Guarantees: immutable.
+ */
+public class AttendanceSummary {
+
+    public static final AttendanceSummary EMPTY = new AttendanceSummary(0, 0, 0);
+
+    private final int numberOfTutorials;
+    private final int numberOfStudents;
+    private final int numberOfPresentStudents;
+
+    /**
+     * Creates a summary of {@code numberOfTutorials} tutorials with {@code numberOfStudents} enrolments in all,
+     * of which {@code numberOfPresentStudents} are marked as present.
+     */
+    public AttendanceSummary(int numberOfTutorials, int numberOfStudents, int numberOfPresentStudents) {
+        this.numberOfTutorials = numberOfTutorials;
+        this.numberOfStudents = numberOfStudents;
+        this.numberOfPresentStudents = numberOfPresentStudents;
+    }
+
+    public int getNumberOfTutorials() {
+        return numberOfTutorials;
+    }
+
+    public int getNumberOfStudents() {
+        return numberOfStudents;
+    }
+
+    public int getNumberOfPresentStudents() {
+        return numberOfPresentStudents;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceSummary)) {
+            return false;
+        }
+
+        AttendanceSummary otherSummary = (AttendanceSummary) other;
+        return numberOfTutorials == otherSummary.numberOfTutorials
+                && numberOfStudents == otherSummary.numberOfStudents
+                && numberOfPresentStudents == otherSummary.numberOfPresentStudents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(numberOfTutorials, numberOfStudents, numberOfPresentStudents);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("numberOfTutorials", numberOfTutorials)
+                .add("numberOfStudents", numberOfStudents)
+                .add("numberOfPresentStudents", numberOfPresentStudents)
+                .toString();
+    }
+
+}
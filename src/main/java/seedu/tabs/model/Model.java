@@ -1,11 +1,17 @@
 package seedu.tabs.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.tabs.commons.core.GuiSettings;
+import seedu.tabs.model.student.Student;
 import seedu.tabs.model.tutorial.Date;
+import seedu.tabs.model.tutorial.ModuleCode;
 import seedu.tabs.model.tutorial.Tutorial;
 import seedu.tabs.model.tutorial.TutorialId;
 
@@ -54,6 +60,11 @@ public interface Model {
     /** Returns the TAbs */
     ReadOnlyTAbs getTAbs();
 
+    /**
+     * Returns a version number that changes whenever the TAbs data is modified through this model.
+     */
+    long getTAbsVersion();
+
     /**
      * Returns true if a tutorial with the same identity as {@code tutorial} exists in the TAbs.
      */
@@ -64,6 +75,12 @@ public interface Model {
      */
     boolean hasTutorialId(TutorialId aTutorialId);
 
+    /**
+     * Returns the tutorial with an ID of {@code aTutorialId} in TAbs,
+     * or an empty {@code Optional} if no such tutorial exists.
+     */
+    Optional<Tutorial> findTutorial(TutorialId aTutorialId);
+
     /**
      * Deletes the given tutorial.
      * The tutorial must exist in the TAbs.
@@ -92,6 +109,65 @@ public interface Model {
      */
     void setTutorial(Tutorial target, Tutorial editedTutorial);
 
+    /**
+     * Returns the tutorials in the TAbs with the given {@code moduleCode}, without scanning every tutorial.
+     */
+    List<Tutorial> getTutorialsByModuleCode(ModuleCode moduleCode);
+
+    /**
+     * Returns the tutorials in the TAbs whose module code starts with {@code prefix}, ignoring case,
+     * ordered by module code, without scanning every tutorial.
+     */
+    List<Tutorial> getTutorialsByModuleCodePrefix(String prefix);
+
+    /**
+     * Returns the module codes of the tutorials in the TAbs, in sorted order.
+     */
+    Set<ModuleCode> getModuleCodes();
+
+    /**
+     * Returns the tutorials in the TAbs dated from {@code start} to {@code end}, both inclusive, ordered by date,
+     * without scanning every tutorial.
+     */
+    List<Tutorial> getTutorialsBetween(Date start, Date end);
+
+    /**
+     * Returns the tutorials in the TAbs whose ID contains {@code substring}, ignoring case, in no particular order.
+     * Substrings of at least three characters are found without scanning every tutorial.
+     */
+    List<Tutorial> getTutorialsByTutorialIdSubstring(String substring);
+
+    /**
+     * Returns the tutorials in the TAbs whose module code contains {@code substring}, ignoring case,
+     * in no particular order, without scanning every tutorial.
+     */
+    List<Tutorial> getTutorialsByModuleCodeSubstring(String substring);
+
+    /**
+     * Returns the attendance totals of all tutorials in the TAbs.
+     * The totals are kept up to date with every change, so this takes constant time.
+     */
+    AttendanceSummary getAttendanceSummary();
+
+    /**
+     * Returns the attendance totals of the tutorials in the TAbs with the given {@code moduleCode}.
+     * The totals are kept up to date with every change, so this takes constant time.
+     */
+    AttendanceSummary getAttendanceSummary(ModuleCode moduleCode);
+
+    /**
+     * Adds a {@code listener} that is given the attendance totals of all tutorials in the TAbs after each change
+     * to the tutorials, on the thread that made the change.
+     */
+    void addAttendanceSummaryListener(Consumer<AttendanceSummary> listener);
+
+    /**
+     * Returns the tutorials in the TAbs that {@code student} is in.
+     * This takes constant time no matter how many tutorials there are, except that the first call after any
+     * tutorials were added with rosters that are loaded lazily loads those rosters.
+     */
+    List<Tutorial> getTutorialsOfStudent(Student student);
+
     /** Returns an unmodifiable view of the filtered tutorial list */
     ObservableList<Tutorial> getFilteredTutorialList();
 
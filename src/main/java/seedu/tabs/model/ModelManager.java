@@ -4,17 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static seedu.tabs.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.tabs.commons.core.GuiSettings;
 import seedu.tabs.commons.core.LogsCenter;
 import seedu.tabs.model.student.Student;
+import seedu.tabs.model.student.StudentRoster;
 import seedu.tabs.model.tutorial.Date;
+import seedu.tabs.model.tutorial.ModuleCode;
 import seedu.tabs.model.tutorial.Tutorial;
 import seedu.tabs.model.tutorial.TutorialId;
 
@@ -27,6 +33,11 @@ public class ModelManager implements Model {
     private final TAbs tabs;
     private final UserPrefs userPrefs;
     private final FilteredList<Tutorial> filteredTutorials;
+    private final StudentTutorialIndex studentTutorialIndex = new StudentTutorialIndex();
+    private final AttendanceAggregates attendanceAggregates = new AttendanceAggregates();
+    private final List<Consumer<AttendanceSummary>> attendanceSummaryListeners = new ArrayList<>();
+    /** Bumped before each change, so that listeners of the tutorial list already see the new version. */
+    private long tabsVersion;
 
     /**
      * Initializes a ModelManager with the given tabs and userPrefs.
@@ -34,11 +45,13 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyTAbs tabs, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(tabs, userPrefs);
 
-        logger.fine("Initializing with TAbs: " + tabs + " and user prefs " + userPrefs);
+        logger.fine("Initializing with " + tabs.getTutorialList().size() + " tutorials and user prefs " + userPrefs);
 
         this.tabs = new TAbs(tabs);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredTutorials = new FilteredList<>(this.tabs.getTutorialList());
+        studentTutorialIndex.setTutorials(this.tabs.getTutorialList());
+        attendanceAggregates.setTutorials(this.tabs.getTutorialList());
     }
 
     public ModelManager() {
@@ -84,7 +97,11 @@ public class ModelManager implements Model {
 
     @Override
     public void setTAbs(ReadOnlyTAbs tabs) {
+        tabsVersion++;
         this.tabs.resetData(tabs);
+        studentTutorialIndex.setTutorials(this.tabs.getTutorialList());
+        attendanceAggregates.setTutorials(this.tabs.getTutorialList());
+        notifyAttendanceSummaryListeners();
     }
 
     @Override
@@ -92,6 +109,11 @@ public class ModelManager implements Model {
         return tabs;
     }
 
+    @Override
+    public long getTAbsVersion() {
+        return tabsVersion;
+    }
+
     @Override
     public boolean hasTutorial(Tutorial aTutorial) {
         requireNonNull(aTutorial);
@@ -101,17 +123,31 @@ public class ModelManager implements Model {
     @Override
     public boolean hasTutorialId(TutorialId aTutorialId) {
         requireNonNull(aTutorialId);
-        return tabs.getTutorialList().stream().anyMatch(t -> t.getTutorialId().equals(aTutorialId));
+        return tabs.findTutorial(aTutorialId).isPresent();
+    }
+
+    @Override
+    public Optional<Tutorial> findTutorial(TutorialId aTutorialId) {
+        requireNonNull(aTutorialId);
+        return tabs.findTutorial(aTutorialId);
     }
 
     @Override
     public void deleteTutorial(Tutorial target) {
+        tabsVersion++;
         tabs.removeTutorial(target);
+        studentTutorialIndex.remove(target);
+        attendanceAggregates.remove(target);
+        notifyAttendanceSummaryListeners();
     }
 
     @Override
     public void addTutorial(Tutorial aTutorial) {
+        tabsVersion++;
         tabs.addTutorial(aTutorial);
+        studentTutorialIndex.add(aTutorial);
+        attendanceAggregates.add(aTutorial);
+        notifyAttendanceSummaryListeners();
         updateFilteredTutorialList(PREDICATE_SHOW_ALL_TUTORIALS);
     }
 
@@ -119,9 +155,11 @@ public class ModelManager implements Model {
     public void copyTutorial(Tutorial sourceTutorial, TutorialId newTutorialId, Date newDate) {
         requireAllNonNull(sourceTutorial, newTutorialId, newDate);
         // Create deep copies of students to avoid sharing mutable state (e.g., attendance)
-        Set<Student> copiedStudents = sourceTutorial.getStudents().stream()
-                .map(student -> new Student(student.studentId))
-                .collect(Collectors.toSet());
+        StudentRoster sourceRoster = sourceTutorial.getRoster();
+        Set<Student> copiedStudents = new HashSet<>();
+        for (int i = 0; i < sourceRoster.size(); i++) {
+            copiedStudents.add(new Student(sourceRoster.getStudentId(i)));
+        }
 
         // Create the copied tutorial with source's module code and deep-copied students, but new ID and date
         Tutorial copiedTutorial = new Tutorial(
@@ -130,7 +168,11 @@ public class ModelManager implements Model {
                 newDate,
                 copiedStudents
         );
+        tabsVersion++;
         tabs.addTutorial(copiedTutorial);
+        studentTutorialIndex.add(copiedTutorial);
+        attendanceAggregates.add(copiedTutorial);
+        notifyAttendanceSummaryListeners();
         updateFilteredTutorialList(PREDICATE_SHOW_ALL_TUTORIALS);
     }
 
@@ -138,7 +180,75 @@ public class ModelManager implements Model {
     public void setTutorial(Tutorial target, Tutorial editedTutorial) {
         requireAllNonNull(target, editedTutorial);
 
+        tabsVersion++;
         tabs.setTutorial(target, editedTutorial);
+        studentTutorialIndex.remove(target);
+        studentTutorialIndex.add(editedTutorial);
+        attendanceAggregates.replace(target, editedTutorial);
+        notifyAttendanceSummaryListeners();
+    }
+
+    @Override
+    public List<Tutorial> getTutorialsByModuleCode(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        return tabs.getTutorialsByModuleCode(moduleCode);
+    }
+
+    @Override
+    public List<Tutorial> getTutorialsByModuleCodePrefix(String prefix) {
+        requireNonNull(prefix);
+        return tabs.getTutorialsByModuleCodePrefix(prefix);
+    }
+
+    @Override
+    public Set<ModuleCode> getModuleCodes() {
+        return tabs.getModuleCodes();
+    }
+
+    @Override
+    public List<Tutorial> getTutorialsBetween(Date start, Date end) {
+        requireAllNonNull(start, end);
+        return tabs.getTutorialsBetween(start, end);
+    }
+
+    @Override
+    public List<Tutorial> getTutorialsByTutorialIdSubstring(String substring) {
+        requireNonNull(substring);
+        return tabs.getTutorialsByTutorialIdSubstring(substring);
+    }
+
+    @Override
+    public List<Tutorial> getTutorialsByModuleCodeSubstring(String substring) {
+        requireNonNull(substring);
+        return tabs.getTutorialsByModuleCodeSubstring(substring);
+    }
+
+    @Override
+    public AttendanceSummary getAttendanceSummary() {
+        return attendanceAggregates.getSummary();
+    }
+
+    @Override
+    public AttendanceSummary getAttendanceSummary(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        return attendanceAggregates.getSummary(moduleCode);
+    }
+
+    @Override
+    public void addAttendanceSummaryListener(Consumer<AttendanceSummary> listener) {
+        requireNonNull(listener);
+        attendanceSummaryListeners.add(listener);
+    }
+
+    private void notifyAttendanceSummaryListeners() {
+        AttendanceSummary attendanceSummary = attendanceAggregates.getSummary();
+        attendanceSummaryListeners.forEach(listener -> listener.accept(attendanceSummary));
+    }
+
+    @Override
+    public List<Tutorial> getTutorialsOfStudent(Student student) {
+        requireNonNull(student);
+        return studentTutorialIndex.getTutorials(student);
     }
 
     //=========== Filtered Tutorial List Accessors =============================================================
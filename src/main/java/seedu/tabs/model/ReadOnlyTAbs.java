@@ -14,4 +14,12 @@ public interface ReadOnlyTAbs {
      */
     ObservableList<Tutorial> getTutorialList();
 
+    /**
+     * Returns the changes made to the tutorials since the last call to this method, and starts recording anew.
+     * Returns changes that mark every tutorial as changed if the changes are not recorded.
+     */
+    default TutorialChanges takeChanges() {
+        return TutorialChanges.everything();
+    }
+
 }
@@ -0,0 +1,94 @@
+package seedu.tabs.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.tabs.model.student.Student;
+import seedu.tabs.model.student.StudentRoster;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+
+/**
+ * An index from each student to the tutorials they are in.
+ * <p>
+ * The index is updated with every change to the tutorials, so that lookups take constant time no matter how many
+ * tutorials there are. Tutorials whose rosters are loaded lazily are only indexed on the next lookup, so that their
+ * rosters are not loaded just to keep the index up to date. That lookup loads every such roster, and so takes time
+ * in proportion to the number of students in them; lookups after it take constant time again.
+ */
+class StudentTutorialIndex {
+
+    private final Map<String, Map<TutorialId, Tutorial>> tutorialsByStudentId = new HashMap<>();
+    /** The tutorials whose rosters have not been loaded yet, to be indexed on the next lookup. */
+    private final Map<TutorialId, Tutorial> unindexedTutorials = new LinkedHashMap<>();
+
+    /**
+     * Returns the tutorials that {@code student} is in, in the order they were indexed.
+     * Loads the rosters of tutorials that have not been indexed yet.
+     */
+    List<Tutorial> getTutorials(Student student) {
+        requireNonNull(student);
+        if (!unindexedTutorials.isEmpty()) {
+            unindexedTutorials.values().forEach(this::addStudents);
+            unindexedTutorials.clear();
+        }
+
+        Map<TutorialId, Tutorial> studentTutorials = tutorialsByStudentId.get(student.studentId);
+        return studentTutorials == null ? List.of() : List.copyOf(studentTutorials.values());
+    }
+
+    /**
+     * Adds the students of {@code tutorial} to the index, or holds the tutorial back until the next lookup if its
+     * roster has not been loaded yet.
+     */
+    void add(Tutorial tutorial) {
+        if (tutorial.getLazyRoster().isPresent()) {
+            unindexedTutorials.put(tutorial.getTutorialId(), tutorial);
+            return;
+        }
+        addStudents(tutorial);
+    }
+
+    /**
+     * Removes the students of {@code tutorial} from the index.
+     */
+    void remove(Tutorial tutorial) {
+        if (unindexedTutorials.remove(tutorial.getTutorialId()) != null) {
+            return;
+        }
+        StudentRoster roster = tutorial.getRoster();
+        for (int i = 0; i < roster.size(); i++) {
+            String studentId = roster.getStudentId(i);
+            Map<TutorialId, Tutorial> studentTutorials = tutorialsByStudentId.get(studentId);
+            if (studentTutorials == null) {
+                continue;
+            }
+            studentTutorials.remove(tutorial.getTutorialId());
+            if (studentTutorials.isEmpty()) {
+                tutorialsByStudentId.remove(studentId);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the students of {@code tutorials}.
+     */
+    void setTutorials(List<Tutorial> tutorials) {
+        tutorialsByStudentId.clear();
+        unindexedTutorials.clear();
+        tutorials.forEach(this::add);
+    }
+
+    private void addStudents(Tutorial tutorial) {
+        StudentRoster roster = tutorial.getRoster();
+        for (int i = 0; i < roster.size(); i++) {
+            tutorialsByStudentId.computeIfAbsent(roster.getStudentId(i), studentId -> new LinkedHashMap<>())
+                    .put(tutorial.getTutorialId(), tutorial);
+        }
+    }
+
+}
@@ -3,19 +3,36 @@ package seedu.tabs.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.tabs.commons.util.ToStringBuilder;
+import seedu.tabs.model.tutorial.Date;
+import seedu.tabs.model.tutorial.ModuleCode;
+import seedu.tabs.model.tutorial.ModuleCodeIndex;
+import seedu.tabs.model.tutorial.SortedTutorialIndex;
+import seedu.tabs.model.tutorial.TrigramIndex;
 import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
 import seedu.tabs.model.tutorial.UniqueTutorialList;
 
 /**
  * Wraps all data at the TAbs level.
  * Duplicates are not allowed (by {@code .isSameTutorial} comparison)
+ * Tutorials are also indexed by module code and by date, so that module-scoped and date range queries do not need
+ * to scan every tutorial, and by the trigrams of their IDs and module codes, so that substring searches do not either.
+ * The changes made to the tutorials are recorded as they are made, so that saving them does not need to compare every
+ * tutorial with what was saved before.
  */
 public class TAbs implements ReadOnlyTAbs {
 
     private final UniqueTutorialList tutorials;
+    private final ModuleCodeIndex moduleCodeIndex;
+    private final SortedTutorialIndex<Date> dateIndex;
+    private final TrigramIndex tutorialIdTrigramIndex;
+    private final TrigramIndex moduleCodeTrigramIndex;
+    private TutorialChanges changes = new TutorialChanges();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,16 +43,32 @@ public class TAbs implements ReadOnlyTAbs {
      */
     {
         tutorials = new UniqueTutorialList();
+        moduleCodeIndex = new ModuleCodeIndex();
+        dateIndex = new SortedTutorialIndex<>(Tutorial::getDate);
+        tutorialIdTrigramIndex = new TrigramIndex(tutorial -> tutorial.getTutorialId().id);
+        moduleCodeTrigramIndex = new TrigramIndex(tutorial -> tutorial.getModuleCode().value);
     }
 
     public TAbs() {}
 
     /**
-     * Creates TAbs using the tutorials in the {@code toBeCopied}
+     * Creates TAbs using the tutorials in the {@code toBeCopied}, with no changes recorded yet.
      */
     public TAbs(ReadOnlyTAbs toBeCopied) {
         this();
         resetData(toBeCopied);
+        changes = new TutorialChanges();
+    }
+
+    /**
+     * Returns a TAbs with copies of the tutorials in {@code toBeCopied}, so that marking or unmarking students in
+     * the returned TAbs does not mark or unmark them in {@code toBeCopied}.
+     */
+    public static TAbs deepCopyOf(ReadOnlyTAbs toBeCopied) {
+        requireNonNull(toBeCopied);
+        TAbs copy = new TAbs();
+        copy.addTutorials(toBeCopied.getTutorialList().stream().map(Tutorial::copy).toList());
+        return copy;
     }
 
     //// list overwrite operations
@@ -46,6 +79,11 @@ public class TAbs implements ReadOnlyTAbs {
      */
     public void setTutorials(List<Tutorial> aTutorials) {
         this.tutorials.setTutorials(aTutorials);
+        moduleCodeIndex.setTutorials(aTutorials);
+        dateIndex.setTutorials(aTutorials);
+        tutorialIdTrigramIndex.setTutorials(aTutorials);
+        moduleCodeTrigramIndex.setTutorials(aTutorials);
+        changes.recordEverything();
     }
 
     /**
@@ -67,12 +105,38 @@ public class TAbs implements ReadOnlyTAbs {
         return tutorials.contains(aTutorial);
     }
 
+    /**
+     * Returns the tutorial with the given {@code tutorialId} in TAbs, if any.
+     */
+    public Optional<Tutorial> findTutorial(TutorialId tutorialId) {
+        requireNonNull(tutorialId);
+        return tutorials.find(tutorialId);
+    }
+
     /**
      * Adds a tutorial to TAbs.
      * The tutorial must not already exist in TAbs.
      */
     public void addTutorial(Tutorial p) {
         tutorials.add(p);
+        moduleCodeIndex.add(p);
+        dateIndex.add(p);
+        tutorialIdTrigramIndex.add(p);
+        moduleCodeTrigramIndex.add(p);
+        changes.recordAdd(p);
+    }
+
+    /**
+     * Adds all of {@code aTutorials} to TAbs in a single update.
+     * The tutorials must be unique and must not already exist in TAbs.
+     */
+    public void addTutorials(List<Tutorial> aTutorials) {
+        tutorials.addAll(aTutorials);
+        aTutorials.forEach(moduleCodeIndex::add);
+        aTutorials.forEach(dateIndex::add);
+        aTutorials.forEach(tutorialIdTrigramIndex::add);
+        aTutorials.forEach(moduleCodeTrigramIndex::add);
+        changes.recordEverything();
     }
 
     /**
@@ -84,6 +148,11 @@ public class TAbs implements ReadOnlyTAbs {
         requireNonNull(editedTutorial);
 
         tutorials.setTutorial(target, editedTutorial);
+        moduleCodeIndex.replace(target, editedTutorial);
+        dateIndex.replace(target, editedTutorial);
+        tutorialIdTrigramIndex.replace(target, editedTutorial);
+        moduleCodeTrigramIndex.replace(target, editedTutorial);
+        changes.recordSet(target, editedTutorial);
     }
 
     /**
@@ -92,6 +161,67 @@ public class TAbs implements ReadOnlyTAbs {
      */
     public void removeTutorial(Tutorial key) {
         tutorials.remove(key);
+        moduleCodeIndex.remove(key);
+        dateIndex.remove(key);
+        tutorialIdTrigramIndex.remove(key);
+        moduleCodeTrigramIndex.remove(key);
+        changes.recordRemove(key);
+    }
+
+    //// module-scoped queries
+
+    /**
+     * Returns the tutorials in TAbs with the given {@code moduleCode}.
+     */
+    public List<Tutorial> getTutorialsByModuleCode(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        return moduleCodeIndex.get(moduleCode);
+    }
+
+    /**
+     * Returns the tutorials in TAbs whose module code starts with {@code prefix}, ignoring case,
+     * ordered by module code.
+     */
+    public List<Tutorial> getTutorialsByModuleCodePrefix(String prefix) {
+        requireNonNull(prefix);
+        return moduleCodeIndex.getWithPrefix(prefix);
+    }
+
+    /**
+     * Returns the module codes of the tutorials in TAbs, in sorted order.
+     */
+    public Set<ModuleCode> getModuleCodes() {
+        return moduleCodeIndex.getModuleCodes();
+    }
+
+    //// date range queries
+
+    /**
+     * Returns the tutorials in TAbs dated from {@code start} to {@code end}, both inclusive, ordered by date.
+     */
+    public List<Tutorial> getTutorialsBetween(Date start, Date end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        return dateIndex.getRange(start, true, end, true);
+    }
+
+    //// substring queries
+
+    /**
+     * Returns the tutorials in TAbs whose ID contains {@code substring}, ignoring case, in no particular order.
+     */
+    public List<Tutorial> getTutorialsByTutorialIdSubstring(String substring) {
+        requireNonNull(substring);
+        return tutorialIdTrigramIndex.getContaining(substring);
+    }
+
+    /**
+     * Returns the tutorials in TAbs whose module code contains {@code substring}, ignoring case,
+     * in no particular order.
+     */
+    public List<Tutorial> getTutorialsByModuleCodeSubstring(String substring) {
+        requireNonNull(substring);
+        return moduleCodeTrigramIndex.getContaining(substring);
     }
 
     //// util methods
@@ -108,6 +238,13 @@ public class TAbs implements ReadOnlyTAbs {
         return tutorials.asUnmodifiableObservableList();
     }
 
+    @Override
+    public TutorialChanges takeChanges() {
+        TutorialChanges takenChanges = changes;
+        changes = new TutorialChanges();
+        return takenChanges;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
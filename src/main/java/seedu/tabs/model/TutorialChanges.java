@@ -0,0 +1,173 @@
+package seedu.tabs.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.tabs.commons.util.ToStringBuilder;
+import seedu.tabs.model.tutorial.ModuleCode;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+
+/**
+ * The tutorials added, edited or removed in a {@link TAbs}, recorded as the changes are made, so that storages
+ * that keep one record per tutorial or per module can write only the records that changed.
+ * <p>
+ * Changes to many tutorials at once, such as replacing all the data, are not recorded tutorial by tutorial;
+ * they mark every tutorial as changed instead.
+ */
+public class TutorialChanges {
+
+    /** The current state of each changed tutorial by ID, in the order first changed; null if it was removed. */
+    private final Map<TutorialId, Tutorial> changedTutorials = new LinkedHashMap<>();
+    private final Set<ModuleCode> changedModuleCodes = new HashSet<>();
+    private boolean isEverythingChanged;
+    private boolean isOrderChanged;
+
+    /**
+     * Returns changes that mark every tutorial as changed.
+     */
+    public static TutorialChanges everything() {
+        TutorialChanges changes = new TutorialChanges();
+        changes.recordEverything();
+        return changes;
+    }
+
+    /**
+     * Returns true if every tutorial must be treated as changed.
+     */
+    public boolean isEverythingChanged() {
+        return isEverythingChanged;
+    }
+
+    /**
+     * Returns true if a tutorial was removed and added back, or had its ID changed, so that applying the changes
+     * tutorial by tutorial to the previous data, editing in place and adding at the end, would order the
+     * tutorials differently.
+     */
+    public boolean isOrderChanged() {
+        return isOrderChanged;
+    }
+
+    /**
+     * Returns true if nothing has changed.
+     */
+    public boolean isEmpty() {
+        return !isEverythingChanged && changedTutorials.isEmpty();
+    }
+
+    /**
+     * Returns the IDs of the changed tutorials, in the order they were first changed.
+     */
+    public Set<TutorialId> getTutorialIds() {
+        return Collections.unmodifiableSet(changedTutorials.keySet());
+    }
+
+    /**
+     * Returns the current state of the changed tutorial with the given {@code tutorialId}, or an empty
+     * {@code Optional} if it was removed.
+     */
+    public Optional<Tutorial> getTutorial(TutorialId tutorialId) {
+        requireNonNull(tutorialId);
+        return Optional.ofNullable(changedTutorials.get(tutorialId));
+    }
+
+    /**
+     * Returns the module codes of the changed tutorials, both before and after they were changed.
+     */
+    public Set<ModuleCode> getModuleCodes() {
+        return Collections.unmodifiableSet(changedModuleCodes);
+    }
+
+    /**
+     * Returns a copy of these changes with copies of the changed tutorials, so that marking or unmarking students
+     * later does not change the copy.
+     */
+    public TutorialChanges copy() {
+        TutorialChanges copy = new TutorialChanges();
+        changedTutorials.forEach((tutorialId, tutorial) ->
+                copy.changedTutorials.put(tutorialId, tutorial == null ? null : tutorial.copy()));
+        copy.changedModuleCodes.addAll(changedModuleCodes);
+        copy.isEverythingChanged = isEverythingChanged;
+        copy.isOrderChanged = isOrderChanged;
+        return copy;
+    }
+
+    /**
+     * Adds the changes in {@code laterChanges}, which were made after these, to these changes.
+     */
+    public void addAll(TutorialChanges laterChanges) {
+        requireNonNull(laterChanges);
+        if (laterChanges.isEverythingChanged) {
+            recordEverything();
+        }
+        if (isEverythingChanged) {
+            return;
+        }
+
+        laterChanges.changedTutorials.forEach(this::record);
+        changedModuleCodes.addAll(laterChanges.changedModuleCodes);
+        isOrderChanged |= laterChanges.isOrderChanged;
+    }
+
+    void recordAdd(Tutorial tutorial) {
+        if (isEverythingChanged) {
+            return;
+        }
+        record(tutorial.getTutorialId(), tutorial);
+        changedModuleCodes.add(tutorial.getModuleCode());
+    }
+
+    void recordRemove(Tutorial tutorial) {
+        if (isEverythingChanged) {
+            return;
+        }
+        record(tutorial.getTutorialId(), null);
+        changedModuleCodes.add(tutorial.getModuleCode());
+    }
+
+    void recordSet(Tutorial target, Tutorial editedTutorial) {
+        if (isEverythingChanged) {
+            return;
+        }
+        if (!target.getTutorialId().equals(editedTutorial.getTutorialId())) {
+            // The edited tutorial keeps the place of the target, instead of being added at the end
+            record(target.getTutorialId(), null);
+            isOrderChanged = true;
+        }
+        record(editedTutorial.getTutorialId(), editedTutorial);
+        changedModuleCodes.add(target.getModuleCode());
+        changedModuleCodes.add(editedTutorial.getModuleCode());
+    }
+
+    void recordEverything() {
+        isEverythingChanged = true;
+        changedTutorials.clear();
+        changedModuleCodes.clear();
+    }
+
+    private void record(TutorialId tutorialId, Tutorial tutorial) {
+        boolean isAddedBack = changedTutorials.containsKey(tutorialId) && changedTutorials.get(tutorialId) == null
+                && tutorial != null;
+        if (isAddedBack) {
+            // The tutorial was removed from its place and added back at the end
+            isOrderChanged = true;
+        }
+        changedTutorials.put(tutorialId, tutorial);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isEverythingChanged", isEverythingChanged)
+                .add("isOrderChanged", isOrderChanged)
+                .add("changedTutorials", changedTutorials.keySet())
+                .toString();
+    }
+
+}
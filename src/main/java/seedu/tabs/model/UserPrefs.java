@@ -13,8 +13,21 @@ import seedu.tabs.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /**
+     * The format TAbs data is stored in.
+     */
+    public enum TAbsFileFormat {
+        /** Human-readable json at the TAbs file path. */
+        JSON,
+        /** Compact binary snapshot next to the TAbs file path, with a {@code .bin} extension. */
+        BINARY,
+        /** One json file per module, plus a manifest, in a directory next to the TAbs file path. */
+        SHARDED_JSON
+    }
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path tabsFilePath = Paths.get("data" , "tabs.json");
+    private TAbsFileFormat tabsFileFormat = TAbsFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +49,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTAbsFilePath(newUserPrefs.getTAbsFilePath());
+        setTAbsFileFormat(newUserPrefs.getTAbsFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +70,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.tabsFilePath = tabsFilePath;
     }
 
+    public TAbsFileFormat getTAbsFileFormat() {
+        return tabsFileFormat;
+    }
+
+    public void setTAbsFileFormat(TAbsFileFormat tabsFileFormat) {
+        requireNonNull(tabsFileFormat);
+        this.tabsFileFormat = tabsFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +92,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && tabsFilePath.equals(otherUserPrefs.tabsFilePath);
+                && tabsFilePath.equals(otherUserPrefs.tabsFilePath)
+                && tabsFileFormat == otherUserPrefs.tabsFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, tabsFilePath);
+        return Objects.hash(guiSettings, tabsFilePath, tabsFileFormat);
     }
 
     @Override
@@ -82,6 +106,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + tabsFilePath);
+        sb.append("\nLocal data file format : " + tabsFileFormat);
         return sb.toString();
     }
 
@@ -2,6 +2,8 @@ package seedu.tabs.model.student;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.tabs.commons.util.AppUtil.checkArgument;
+import static seedu.tabs.commons.util.StringUtil.isAsciiDigits;
+import static seedu.tabs.commons.util.StringUtil.isAsciiLetter;
 
 /**
  * Represents a Student in the TAbs.
@@ -15,6 +17,8 @@ public class Student {
                     + "'&' represents any letter (case-insensitive).";
     public static final String VALIDATION_REGEX = "A\\d{7}[A-Z]";
 
+    private static final int STUDENT_ID_LENGTH = 9;
+
     public final String studentId;
     private boolean isPresent;
 
@@ -41,11 +45,25 @@ public class Student {
         this.isPresent = isPresent;
     }
 
+    /**
+     * Constructs a {@code Student} from a student ID packed by {@link StudentRoster#pack(String)}, which is
+     * always valid.
+     */
+    Student(int packedStudentId, boolean isPresent) {
+        this.studentId = StudentRoster.unpack(packedStudentId);
+        this.isPresent = isPresent;
+    }
+
     /**
      * Returns true if a given string is a valid student ID.
      */
     public static boolean isValidStudentId(String test) {
-        return test.toUpperCase().matches(VALIDATION_REGEX);
+        // Matches VALIDATION_REGEX ignoring case, checked by hand as this runs for every student loaded
+        int last = STUDENT_ID_LENGTH - 1;
+        return test.length() == STUDENT_ID_LENGTH
+                && (test.charAt(0) == 'A' || test.charAt(0) == 'a')
+                && isAsciiDigits(test, 1, last)
+                && isAsciiLetter(test.charAt(last));
     }
 
     public void mark() {
@@ -0,0 +1,306 @@
+package seedu.tabs.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * The students of a tutorial, packed into a sorted array of ints with one int per student, and a bit per student
+ * for their attendance.
+ * <p>
+ * A valid student ID is an 'A', seven digits and a letter, so it is packed into the number formed by its digits
+ * and letter. Packed IDs sort in the same order as the IDs themselves, so students are found by binary search,
+ * and the roster can be read by index without creating any {@code Student}. The attendance bits are in the same
+ * order, so that the whole tutorial is marked, unmarked or counted a word of 64 students at a time.
+ * <p>
+ * Students cannot be added to or removed from a roster. The {@code Student}s iterated over are views of the roster,
+ * so marking or unmarking one of them marks or unmarks the student in the roster.
+ */
+public class StudentRoster extends AbstractSet<Student> {
+
+    private static final int STUDENT_ID_LENGTH = 9;
+    private static final int LETTER_COUNT = 26;
+
+    private final int[] packedStudentIds;
+    private final BitSet attendance;
+
+    private StudentRoster(int[] packedStudentIds, BitSet attendance) {
+        this.packedStudentIds = packedStudentIds;
+        this.attendance = attendance;
+    }
+
+    /**
+     * Returns a roster of {@code students}, keeping the attendance they have now.
+     * Students with the same ID are kept once, marked as present if any of them is.
+     */
+    public static StudentRoster of(Collection<Student> students) {
+        requireNonNull(students);
+        if (students instanceof StudentRoster) {
+            StudentRoster roster = (StudentRoster) students;
+            return new StudentRoster(roster.packedStudentIds.clone(), (BitSet) roster.attendance.clone());
+        }
+
+        // Sort the packed IDs together with attendance, which is kept in the lowest bit
+        long[] packedStudents = new long[students.size()];
+        int count = 0;
+        for (Student student : students) {
+            packedStudents[count++] = (long) pack(student.studentId) << 1 | (student.getAttendance() ? 1 : 0);
+        }
+        Arrays.sort(packedStudents);
+
+        int[] packedStudentIds = new int[count];
+        BitSet attendance = new BitSet(count);
+        int size = 0;
+        for (long packedStudent : packedStudents) {
+            int packedStudentId = (int) (packedStudent >>> 1);
+            if (size > 0 && packedStudentIds[size - 1] == packedStudentId) {
+                attendance.set(size - 1, attendance.get(size - 1) || (packedStudent & 1) == 1);
+                continue;
+            }
+            packedStudentIds[size] = packedStudentId;
+            attendance.set(size, (packedStudent & 1) == 1);
+            size++;
+        }
+        return new StudentRoster(size == count ? packedStudentIds : Arrays.copyOf(packedStudentIds, size), attendance);
+    }
+
+    /**
+     * Packs the digits and letter of a valid, upper case {@code studentId} into an int.
+     */
+    public static int pack(String studentId) {
+        int number = 0;
+        for (int i = 1; i < STUDENT_ID_LENGTH - 1; i++) {
+            number = number * 10 + (studentId.charAt(i) - '0');
+        }
+        return number * LETTER_COUNT + (studentId.charAt(STUDENT_ID_LENGTH - 1) - 'A');
+    }
+
+    /**
+     * Reverses {@link #pack(String)}.
+     */
+    public static String unpack(int packedStudentId) {
+        char[] studentId = new char[STUDENT_ID_LENGTH];
+        studentId[0] = 'A';
+        studentId[STUDENT_ID_LENGTH - 1] = (char) ('A' + packedStudentId % LETTER_COUNT);
+        int number = packedStudentId / LETTER_COUNT;
+        for (int i = STUDENT_ID_LENGTH - 2; i > 0; i--) {
+            studentId[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+        return new String(studentId);
+    }
+
+    /**
+     * Returns the index of the student with {@code studentId} in the roster, or a negative number if there is none.
+     */
+    public int indexOf(String studentId) {
+        requireNonNull(studentId);
+        return Arrays.binarySearch(packedStudentIds, pack(studentId));
+    }
+
+    /**
+     * Returns the packed ID of the student at {@code index}, in order of student ID.
+     */
+    public int getPackedStudentId(int index) {
+        return packedStudentIds[index];
+    }
+
+    /**
+     * Returns the ID of the student at {@code index}, in order of student ID.
+     */
+    public String getStudentId(int index) {
+        return unpack(packedStudentIds[index]);
+    }
+
+    /**
+     * Returns true if the student at {@code index} is marked as present.
+     */
+    public boolean isPresent(int index) {
+        Objects.checkIndex(index, packedStudentIds.length);
+        return attendance.get(index);
+    }
+
+    /**
+     * Marks the student at {@code index} as present if {@code isPresent}, or unmarks them otherwise.
+     */
+    public void setPresent(int index, boolean isPresent) {
+        Objects.checkIndex(index, packedStudentIds.length);
+        attendance.set(index, isPresent);
+    }
+
+    /**
+     * Marks every student as present if {@code isPresent}, or unmarks every student otherwise.
+     */
+    public void setAllPresent(boolean isPresent) {
+        if (isPresent) {
+            attendance.set(0, packedStudentIds.length);
+        } else {
+            attendance.clear();
+        }
+    }
+
+    /**
+     * Returns the number of students marked as present.
+     */
+    public int getNumberOfPresentStudents() {
+        return attendance.cardinality();
+    }
+
+    /**
+     * Returns the IDs of the students marked as present if {@code isPresent}, or of the other students otherwise,
+     * in order of student ID.
+     */
+    public List<String> getStudentIds(boolean isPresent) {
+        List<String> studentIds = new ArrayList<>();
+        int index = isPresent ? attendance.nextSetBit(0) : attendance.nextClearBit(0);
+        while (index >= 0 && index < packedStudentIds.length) {
+            studentIds.add(unpack(packedStudentIds[index]));
+            index = isPresent ? attendance.nextSetBit(index + 1) : attendance.nextClearBit(index + 1);
+        }
+        return studentIds;
+    }
+
+    @Override
+    public int size() {
+        return packedStudentIds.length;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Student && indexOf(((Student) other).studentId) >= 0;
+    }
+
+    /**
+     * Returns an iterator over the students in order of student ID.
+     */
+    @Override
+    public Iterator<Student> iterator() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < packedStudentIds.length;
+            }
+
+            @Override
+            public Student next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new RosterStudent(StudentRoster.this, index++);
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Student student) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Student> students) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Student> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // Students are equal by ID alone, so attendance is not compared
+        if (other instanceof StudentRoster) {
+            return Arrays.equals(packedStudentIds, ((StudentRoster) other).packedStudentIds);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // The sum of the hash codes of the students, as for any set, without unpacking their IDs
+        int hashCode = 0;
+        for (int packedStudentId : packedStudentIds) {
+            hashCode += hashCodeOf(packedStudentId);
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of the student with {@code packedStudentId}, which is that of the student ID.
+     */
+    private static int hashCodeOf(int packedStudentId) {
+        int hashCode = 'A';
+        int divisor = 1_000_000;
+        int number = packedStudentId / LETTER_COUNT;
+        for (int i = 1; i < STUDENT_ID_LENGTH - 1; i++) {
+            hashCode = 31 * hashCode + '0' + number / divisor % 10;
+            divisor /= 10;
+        }
+        return 31 * hashCode + 'A' + packedStudentId % LETTER_COUNT;
+    }
+
+    /**
+     * A student in a roster, whose attendance is that of the student in the roster.
+     */
+    private static class RosterStudent extends Student {
+        private final StudentRoster roster;
+        private final int index;
+
+        RosterStudent(StudentRoster roster, int index) {
+            super(roster.packedStudentIds[index], roster.attendance.get(index));
+            this.roster = roster;
+            this.index = index;
+        }
+
+        @Override
+        public void mark() {
+            roster.setPresent(index, true);
+        }
+
+        @Override
+        public void unmark() {
+            roster.setPresent(index, false);
+        }
+
+        @Override
+        public boolean getAttendance() {
+            return roster.isPresent(index);
+        }
+    }
+
+}
@@ -2,15 +2,20 @@ package seedu.tabs.model.tutorial;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.tabs.commons.util.AppUtil.checkArgument;
+import static seedu.tabs.commons.util.StringUtil.isAsciiDigits;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
+import java.time.Month;
+import java.time.Year;
+
+import seedu.tabs.model.util.Interner;
 
 /**
  * Represents a Tutorial's date in the TAbs.
+ * The date is also kept as a day count from the epoch, so that dates can be compared without parsing them again.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
  */
-public class Date {
+public class Date implements Comparable<Date> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Dates should be in YYYY-MM-DD format (e.g., 2025-03-15) and represent a valid calendar date"
@@ -20,8 +25,12 @@ public class Date {
 
     private static final int MIN_YEAR = 1998;
     private static final int MAX_YEAR = 2200;
+    private static final int DATE_LENGTH = 10;
+
+    private static final Interner<Date> INTERNER = new Interner<>();
 
     public final String value;
+    private final int epochDay;
 
     /**
      * Constructs a {@code Date}.
@@ -32,23 +41,90 @@ public class Date {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
         value = date;
+        epochDay = (int) LocalDate.of(yearOf(date), monthOf(date), dayOf(date)).toEpochDay();
+    }
+
+    /**
+     * Returns the {@code Date} of {@code date}, which is shared with every other equal date that was created
+     * this way.
+     *
+     * @param date A valid date in YYYY-MM-DD format.
+     */
+    public static Date of(String date) {
+        return INTERNER.intern(new Date(date));
+    }
+
+    /**
+     * Returns the {@code Date} on the given {@code localDate}.
+     *
+     * @throws IllegalArgumentException if the year of {@code localDate} is not between 1998 and 2200.
+     */
+    public static Date of(LocalDate localDate) {
+        requireNonNull(localDate);
+        checkArgument(isValidYear(localDate.getYear()), MESSAGE_CONSTRAINTS);
+        return of(localDate.toString());
     }
 
     /**
      * Returns if a given string is a valid date.
      */
     public static boolean isValidDate(String test) {
-        if (test == null || !test.matches(VALIDATION_REGEX)) {
+        // Matches VALIDATION_REGEX and is a day that exists, checked by hand without parsing it into a LocalDate
+        if (test == null || test.length() != DATE_LENGTH
+                || test.charAt(4) != '-' || test.charAt(7) != '-'
+                || !isAsciiDigits(test, 0, 4) || !isAsciiDigits(test, 5, 7) || !isAsciiDigits(test, 8, 10)) {
             return false;
         }
 
-        try {
-            LocalDate date = LocalDate.parse(test);
-            int year = date.getYear();
-            return year >= MIN_YEAR && year <= MAX_YEAR;
-        } catch (DateTimeParseException e) {
-            return false;
+        int year = yearOf(test);
+        int month = monthOf(test);
+        int day = dayOf(test);
+        return isValidYear(year)
+                && month >= 1 && month <= 12
+                && day >= 1 && day <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    private static int yearOf(String date) {
+        return parseDigits(date, 0, 4);
+    }
+
+    private static int monthOf(String date) {
+        return parseDigits(date, 5, 7);
+    }
+
+    private static int dayOf(String date) {
+        return parseDigits(date, 8, 10);
+    }
+
+    /**
+     * Returns the number formed by the digits of {@code s} from {@code beginIndex} up to {@code endIndex}.
+     */
+    private static int parseDigits(String s, int beginIndex, int endIndex) {
+        int number = 0;
+        for (int i = beginIndex; i < endIndex; i++) {
+            number = number * 10 + (s.charAt(i) - '0');
         }
+        return number;
+    }
+
+    private static boolean isValidYear(int year) {
+        return year >= MIN_YEAR && year <= MAX_YEAR;
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to this date.
+     */
+    public int toEpochDay() {
+        return epochDay;
+    }
+
+    public LocalDate toLocalDate() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    @Override
+    public int compareTo(Date other) {
+        return Integer.compare(epochDay, other.epochDay);
     }
 
     @Override
@@ -68,12 +144,12 @@ public class Date {
         }
 
         Date otherDate = (Date) other;
-        return value.equals(otherDate.value);
+        return epochDay == otherDate.epochDay;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(epochDay);
     }
 
 }
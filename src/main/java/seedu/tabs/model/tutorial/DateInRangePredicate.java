@@ -0,0 +1,59 @@
+package seedu.tabs.model.tutorial;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tabs.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.tabs.commons.util.ToStringBuilder;
+import seedu.tabs.model.Model;
+
+/**
+ * Tests that a {@code Tutorial}'s {@code Date} is from a start date to an end date, both inclusive.
+ * When resolved against a {@code Model}, the tutorials in the range are found with a range scan of its date index.
+ */
+public class DateInRangePredicate implements IndexedTutorialPredicate {
+    private final Date start;
+    private final Date end;
+
+    /**
+     * Creates a predicate for the dates from {@code start} to {@code end}, both inclusive.
+     */
+    public DateInRangePredicate(Date start, Date end) {
+        requireAllNonNull(start, end);
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public boolean test(Tutorial aTutorial) {
+        int epochDay = aTutorial.getDate().toEpochDay();
+        return epochDay >= start.toEpochDay() && epochDay <= end.toEpochDay();
+    }
+
+    @Override
+    public Predicate<Tutorial> resolve(Model model) {
+        requireNonNull(model);
+        return IndexedTutorialPredicate.ofMatches(this, model.getTutorialsBetween(start, end), model);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DateInRangePredicate)) {
+            return false;
+        }
+
+        DateInRangePredicate otherDateInRangePredicate = (DateInRangePredicate) other;
+        return start.equals(otherDateInRangePredicate.start) && end.equals(otherDateInRangePredicate.end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("start", start).add("end", end).toString();
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.tabs.model.tutorial;
+
+import static seedu.tabs.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.tabs.model.Model;
+
+/**
+ * A {@code Predicate<Tutorial>} that can look up the tutorials it matches through the indexes of a {@code Model},
+ * instead of testing every tutorial the same way.
+ */
+public interface IndexedTutorialPredicate extends Predicate<Tutorial> {
+
+    /**
+     * Returns a predicate that matches the same tutorials as this one, but is cheaper to test on the tutorials
+     * currently in {@code model}.
+     */
+    Predicate<Tutorial> resolve(Model model);
+
+    /**
+     * Returns {@code predicate} resolved against {@code model} if it is an {@code IndexedTutorialPredicate},
+     * or {@code predicate} itself otherwise.
+     */
+    static Predicate<Tutorial> resolve(Predicate<Tutorial> predicate, Model model) {
+        if (predicate instanceof IndexedTutorialPredicate) {
+            return ((IndexedTutorialPredicate) predicate).resolve(model);
+        }
+        return predicate;
+    }
+
+    /**
+     * Returns a predicate that matches exactly the tutorials in {@code matches}, found through the indexes of
+     * {@code model}, for as long as {@code model} is unchanged, and tests tutorials with {@code predicate} after.
+     * {@code matches} must be the tutorials in {@code model} that {@code predicate} matches.
+     */
+    static Predicate<Tutorial> ofMatches(Predicate<Tutorial> predicate, Collection<Tutorial> matches, Model model) {
+        requireAllNonNull(predicate, matches, model);
+        Set<Tutorial> matchingTutorials = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchingTutorials.addAll(matches);
+        long version = model.getTAbsVersion();
+        return aTutorial -> model.getTAbsVersion() == version
+                ? matchingTutorials.contains(aTutorial)
+                : predicate.test(aTutorial);
+    }
+
+}
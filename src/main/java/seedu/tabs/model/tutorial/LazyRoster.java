@@ -0,0 +1,24 @@
+package seedu.tabs.model.tutorial;
+
+import java.util.Set;
+
+import seedu.tabs.model.student.Student;
+
+/**
+ * The students of a {@code Tutorial} that have not been loaded yet.
+ * The counts are known up front, so that they can be shown without loading the students.
+ */
+public interface LazyRoster {
+
+    int getNumberOfStudents();
+
+    int getNumberOfPresentStudents();
+
+    /**
+     * Returns a new, modifiable set of the students in the roster.
+     *
+     * @throws java.io.UncheckedIOException if the students could not be loaded.
+     */
+    Set<Student> loadStudents();
+
+}
@@ -2,6 +2,10 @@ package seedu.tabs.model.tutorial;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.tabs.commons.util.AppUtil.checkArgument;
+import static seedu.tabs.commons.util.StringUtil.isAsciiDigits;
+import static seedu.tabs.commons.util.StringUtil.isAsciiLetter;
+
+import seedu.tabs.model.util.Interner;
 
 /**
  * Represents a tutorial's module code in the TAbs.
@@ -13,6 +17,13 @@ public class ModuleCode {
             "Module codes should be 2-4 letters followed by 4 digits, and an optional letter (case-insensitive), "
             + "e.g., CS2103T, MA1521, ST2334, GESS1025.";
     public static final String VALIDATION_REGEX = "[A-Z]{2,4}\\d{4}[A-Z]?";
+
+    private static final int MIN_LETTERS = 2;
+    private static final int MAX_LETTERS = 4;
+    private static final int DIGITS = 4;
+
+    private static final Interner<ModuleCode> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -26,11 +37,35 @@ public class ModuleCode {
         value = moduleCode.toUpperCase();
     }
 
+    /**
+     * Returns the {@code ModuleCode} of {@code moduleCode}, which is shared with every other module code of the
+     * same module that was created this way.
+     *
+     * @param moduleCode A valid module code.
+     */
+    public static ModuleCode of(String moduleCode) {
+        return INTERNER.intern(new ModuleCode(moduleCode));
+    }
+
     /**
      * Returns true if a given string is a valid module code.
      */
     public static boolean isValidModuleCode(String test) {
-        return test.toUpperCase().matches(VALIDATION_REGEX);
+        // Matches VALIDATION_REGEX ignoring case, checked by hand to avoid compiling the regex on every call
+        int letters = 0;
+        while (letters < test.length() && letters <= MAX_LETTERS && isAsciiLetter(test.charAt(letters))) {
+            letters++;
+        }
+        if (letters < MIN_LETTERS || letters > MAX_LETTERS) {
+            return false;
+        }
+
+        int digitsEnd = letters + DIGITS;
+        if (test.length() < digitsEnd || !isAsciiDigits(test, letters, digitsEnd)) {
+            return false;
+        }
+        return test.length() == digitsEnd
+                || (test.length() == digitsEnd + 1 && isAsciiLetter(test.charAt(digitsEnd)));
     }
 
     @Override
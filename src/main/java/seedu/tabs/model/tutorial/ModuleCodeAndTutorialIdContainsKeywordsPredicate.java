@@ -1,14 +1,18 @@
 package seedu.tabs.model.tutorial;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.tabs.commons.util.ToStringBuilder;
+import seedu.tabs.model.Model;
 
 /**
  * Tests if a {@code Tutorial} satisfies all predicates in a given list (AND condition).
  */
-public class ModuleCodeAndTutorialIdContainsKeywordsPredicate implements Predicate<Tutorial> {
+public class ModuleCodeAndTutorialIdContainsKeywordsPredicate implements IndexedTutorialPredicate {
 
     private final List<Predicate<Tutorial>> predicates;
 
@@ -26,6 +30,15 @@ public class ModuleCodeAndTutorialIdContainsKeywordsPredicate implements Predica
         return predicates.stream().allMatch(predicate -> predicate.test(aTutorial));
     }
 
+    @Override
+    public Predicate<Tutorial> resolve(Model model) {
+        requireNonNull(model);
+        List<Predicate<Tutorial>> resolvedPredicates = predicates.stream()
+                .map(predicate -> IndexedTutorialPredicate.resolve(predicate, model))
+                .collect(Collectors.toList());
+        return aTutorial -> resolvedPredicates.stream().allMatch(predicate -> predicate.test(aTutorial));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
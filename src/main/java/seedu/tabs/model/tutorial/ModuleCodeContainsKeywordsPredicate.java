@@ -1,14 +1,20 @@
 package seedu.tabs.model.tutorial;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.tabs.commons.util.ToStringBuilder;
+import seedu.tabs.model.Model;
 
 /**
  * Tests that a {@code Tutorial}'s {@code ModuleCode} matches any of the keywords given.
+ * When resolved against a {@code Model}, the tutorials matching each keyword are found through the trigram index of
+ * module codes rather than by testing every tutorial.
  */
-public class ModuleCodeContainsKeywordsPredicate implements Predicate<Tutorial> {
+public class ModuleCodeContainsKeywordsPredicate implements IndexedTutorialPredicate {
     private final List<String> keywords;
 
     public ModuleCodeContainsKeywordsPredicate(List<String> keywords) {
@@ -22,6 +28,16 @@ public class ModuleCodeContainsKeywordsPredicate implements Predicate<Tutorial>
                         .contains(keyword.toLowerCase()));
     }
 
+    @Override
+    public Predicate<Tutorial> resolve(Model model) {
+        requireNonNull(model);
+        List<Tutorial> matches = new ArrayList<>();
+        for (String keyword : keywords) {
+            matches.addAll(model.getTutorialsByModuleCodeSubstring(keyword));
+        }
+        return IndexedTutorialPredicate.ofMatches(this, matches, model);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,49 @@
+package seedu.tabs.model.tutorial;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An index of tutorials keyed by {@code ModuleCode}, kept in sync with a list of unique tutorials.
+ * Module codes are kept in sorted order so that all module codes starting with a prefix can be found together.
+ * Tutorials of the same module are kept in the order they were added to the index.
+ */
+public class ModuleCodeIndex extends SortedTutorialIndex<String> {
+
+    public ModuleCodeIndex() {
+        super(tutorial -> tutorial.getModuleCode().value);
+    }
+
+    /**
+     * Returns the tutorials of the module with the given {@code moduleCode}.
+     */
+    public List<Tutorial> get(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        return get(moduleCode.value);
+    }
+
+    /**
+     * Returns the tutorials of all modules whose code starts with {@code prefix}, ignoring case,
+     * ordered by module code.
+     */
+    public List<Tutorial> getWithPrefix(String prefix) {
+        requireNonNull(prefix);
+        String upperCasePrefix = prefix.toUpperCase();
+        // Every module code starting with the prefix sorts before the prefix followed by the largest character
+        return getRange(upperCasePrefix, true, upperCasePrefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Returns the module codes of all tutorials in the index, in sorted order.
+     */
+    public Set<ModuleCode> getModuleCodes() {
+        return getFirstOfEachKey().stream()
+                .map(Tutorial::getModuleCode)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+}
@@ -0,0 +1,120 @@
+package seedu.tabs.model.tutorial;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tabs.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * An index of tutorials keyed by a field of each tutorial, kept in sync with a list of unique tutorials.
+ * Keys are kept in sorted order, so that the tutorials with keys in a range are found without scanning the others.
+ * Tutorials with the same key are kept in the order they were added to the index.
+ *
+ * @param <K> the type of the key of each tutorial.
+ */
+public class SortedTutorialIndex<K extends Comparable<? super K>> {
+
+    private final NavigableMap<K, Map<TutorialId, Tutorial>> tutorialsByKey = new TreeMap<>();
+    private final Function<Tutorial, K> keyOf;
+
+    /**
+     * Creates an empty index of tutorials keyed by {@code keyOf}.
+     */
+    public SortedTutorialIndex(Function<Tutorial, K> keyOf) {
+        requireNonNull(keyOf);
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Adds {@code toAdd} to the index.
+     * No other tutorial in the index may have the same ID.
+     */
+    public void add(Tutorial toAdd) {
+        requireNonNull(toAdd);
+        tutorialsByKey.computeIfAbsent(keyOf.apply(toAdd), key -> new LinkedHashMap<>())
+                .put(toAdd.getTutorialId(), toAdd);
+    }
+
+    /**
+     * Replaces {@code target} in the index with {@code editedTutorial}.
+     * A tutorial that keeps its ID and key keeps its place among the tutorials with the same key.
+     */
+    public void replace(Tutorial target, Tutorial editedTutorial) {
+        requireAllNonNull(target, editedTutorial);
+        K key = keyOf.apply(target);
+        Map<TutorialId, Tutorial> tutorials = tutorialsByKey.get(key);
+        if (tutorials != null && key.equals(keyOf.apply(editedTutorial))
+                && target.getTutorialId().equals(editedTutorial.getTutorialId())) {
+            tutorials.replace(target.getTutorialId(), editedTutorial);
+            return;
+        }
+
+        remove(target);
+        add(editedTutorial);
+    }
+
+    /**
+     * Removes {@code toRemove} from the index, if it is there.
+     */
+    public void remove(Tutorial toRemove) {
+        requireNonNull(toRemove);
+        K key = keyOf.apply(toRemove);
+        Map<TutorialId, Tutorial> tutorials = tutorialsByKey.get(key);
+        if (tutorials == null) {
+            return;
+        }
+        tutorials.remove(toRemove.getTutorialId());
+        if (tutorials.isEmpty()) {
+            tutorialsByKey.remove(key);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code tutorials}.
+     */
+    public void setTutorials(Collection<Tutorial> tutorials) {
+        requireAllNonNull(tutorials);
+        tutorialsByKey.clear();
+        tutorials.forEach(this::add);
+    }
+
+    /**
+     * Returns the tutorials with the given {@code key}.
+     */
+    public List<Tutorial> get(K key) {
+        requireNonNull(key);
+        Map<TutorialId, Tutorial> tutorials = tutorialsByKey.get(key);
+        return tutorials == null ? List.of() : List.copyOf(tutorials.values());
+    }
+
+    /**
+     * Returns the tutorials with keys from {@code fromKey} to {@code toKey}, ordered by key.
+     */
+    public List<Tutorial> getRange(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+        requireAllNonNull(fromKey, toKey);
+        List<Tutorial> tutorials = new ArrayList<>();
+        if (fromKey.compareTo(toKey) > 0) {
+            return tutorials;
+        }
+        tutorialsByKey.subMap(fromKey, fromInclusive, toKey, toInclusive).values()
+                .forEach(tutorialsWithKey -> tutorials.addAll(tutorialsWithKey.values()));
+        return tutorials;
+    }
+
+    /**
+     * Returns the first tutorial added with each key in the index, ordered by key.
+     */
+    public List<Tutorial> getFirstOfEachKey() {
+        List<Tutorial> tutorials = new ArrayList<>(tutorialsByKey.size());
+        tutorialsByKey.values().forEach(tutorialsWithKey -> tutorials.add(tutorialsWithKey.values().iterator().next()));
+        return tutorials;
+    }
+
+}
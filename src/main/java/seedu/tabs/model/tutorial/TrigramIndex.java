@@ -0,0 +1,170 @@
+package seedu.tabs.model.tutorial;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tabs.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index of tutorials by the trigrams (runs of three characters) of a text field of each tutorial, ignoring case,
+ * kept in sync with a list of unique tutorials.
+ * <p>
+ * A text containing a substring contains every trigram of the substring, so the texts containing a substring of
+ * at least three characters are found by intersecting the texts of each of its trigrams, and only those texts are
+ * checked for the substring. Shorter substrings are checked against each distinct text instead.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    /** The tutorials with each text, keyed by the lower case text. */
+    private final Map<String, Map<TutorialId, Tutorial>> tutorialsByText = new HashMap<>();
+    /** The lower case texts containing each trigram, keyed by the trigram packed into a long. */
+    private final Map<Long, Set<String>> textsByTrigram = new HashMap<>();
+    private final Function<Tutorial, String> textOf;
+
+    /**
+     * Creates an empty index of tutorials by the trigrams of {@code textOf}.
+     */
+    public TrigramIndex(Function<Tutorial, String> textOf) {
+        requireNonNull(textOf);
+        this.textOf = textOf;
+    }
+
+    /**
+     * Adds {@code toAdd} to the index.
+     * No other tutorial in the index may have the same ID.
+     */
+    public void add(Tutorial toAdd) {
+        requireNonNull(toAdd);
+        String text = textOf.apply(toAdd).toLowerCase();
+        Map<TutorialId, Tutorial> tutorials = tutorialsByText.get(text);
+        if (tutorials == null) {
+            tutorials = new LinkedHashMap<>();
+            tutorialsByText.put(text, tutorials);
+            for (long trigram : trigramsOf(text)) {
+                textsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(text);
+            }
+        }
+        tutorials.put(toAdd.getTutorialId(), toAdd);
+    }
+
+    /**
+     * Replaces {@code target} in the index with {@code editedTutorial}.
+     */
+    public void replace(Tutorial target, Tutorial editedTutorial) {
+        requireAllNonNull(target, editedTutorial);
+        remove(target);
+        add(editedTutorial);
+    }
+
+    /**
+     * Removes {@code toRemove} from the index, if it is there.
+     */
+    public void remove(Tutorial toRemove) {
+        requireNonNull(toRemove);
+        String text = textOf.apply(toRemove).toLowerCase();
+        Map<TutorialId, Tutorial> tutorials = tutorialsByText.get(text);
+        if (tutorials == null) {
+            return;
+        }
+        tutorials.remove(toRemove.getTutorialId());
+        if (!tutorials.isEmpty()) {
+            return;
+        }
+
+        tutorialsByText.remove(text);
+        for (long trigram : trigramsOf(text)) {
+            Set<String> texts = textsByTrigram.get(trigram);
+            texts.remove(text);
+            if (texts.isEmpty()) {
+                textsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code tutorials}.
+     */
+    public void setTutorials(Collection<Tutorial> tutorials) {
+        requireAllNonNull(tutorials);
+        tutorialsByText.clear();
+        textsByTrigram.clear();
+        tutorials.forEach(this::add);
+    }
+
+    /**
+     * Returns the tutorials whose text contains {@code substring}, ignoring case, in no particular order.
+     */
+    public List<Tutorial> getContaining(String substring) {
+        requireNonNull(substring);
+        String lowerCaseSubstring = substring.toLowerCase();
+        List<Tutorial> tutorials = new ArrayList<>();
+        for (String text : getCandidateTexts(lowerCaseSubstring)) {
+            if (text.contains(lowerCaseSubstring)) {
+                tutorials.addAll(tutorialsByText.get(text).values());
+            }
+        }
+        return tutorials;
+    }
+
+    /**
+     * Returns the texts that contain every trigram of {@code lowerCaseSubstring}, or every text if it is too short
+     * to have any trigrams.
+     */
+    private Collection<String> getCandidateTexts(String lowerCaseSubstring) {
+        Set<Long> trigrams = trigramsOf(lowerCaseSubstring);
+        if (trigrams.isEmpty()) {
+            return tutorialsByText.keySet();
+        }
+
+        List<Set<String>> postings = new ArrayList<>(trigrams.size());
+        for (long trigram : trigrams) {
+            Set<String> texts = textsByTrigram.get(trigram);
+            if (texts == null) {
+                return List.of();
+            }
+            postings.add(texts);
+        }
+
+        // Intersect starting from the rarest trigram, so that the fewest texts are looked up in the other sets
+        postings.sort(Comparator.comparingInt(Set::size));
+        List<String> candidates = new ArrayList<>();
+        for (String text : postings.get(0)) {
+            if (containsInAll(postings, text)) {
+                candidates.add(text);
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean containsInAll(List<Set<String>> postings, String text) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(text)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text}, each packed into a long.
+     */
+    private static Set<Long> trigramsOf(String text) {
+        Set<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return trigrams;
+    }
+
+}
@@ -2,14 +2,14 @@ package seedu.tabs.model.tutorial;
 
 import static seedu.tabs.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
 
 import seedu.tabs.commons.util.ToStringBuilder;
 import seedu.tabs.model.student.Student;
+import seedu.tabs.model.student.StudentRoster;
 
 /**
  * Represents a tutorial in TAbs.
@@ -27,21 +27,38 @@ public class Tutorial {
     private final Date date;
 
     // Data fields
-    private final Set<Student> students = new HashSet<>();
+    private StudentRoster students;
+    /** Students that are loaded on first use; null once {@code students} is set. */
+    private LazyRoster lazyRoster;
 
     /**
      * Every field must be present and not null.
      */
     public Tutorial(TutorialId tutorialId, ModuleCode moduleCode, Date date, Set<Student> students) {
         requireAllNonNull(tutorialId, moduleCode, date);
-        Set<Student> studentSet = students != null ? students : new HashSet<>();
+        Set<Student> studentSet = students != null ? students : Set.of();
         if (studentSet.size() > MAX_STUDENTS_PER_TUTORIAL) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
         this.tutorialId = tutorialId;
         this.moduleCode = moduleCode;
         this.date = date;
-        this.students.addAll(studentSet);
+        this.students = StudentRoster.of(studentSet);
+    }
+
+    /**
+     * Creates a {@code Tutorial} whose students are loaded from {@code lazyRoster} when they are first needed.
+     * Every field must be present and not null.
+     */
+    public Tutorial(TutorialId tutorialId, ModuleCode moduleCode, Date date, LazyRoster lazyRoster) {
+        requireAllNonNull(tutorialId, moduleCode, date, lazyRoster);
+        if (lazyRoster.getNumberOfStudents() > MAX_STUDENTS_PER_TUTORIAL) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        this.tutorialId = tutorialId;
+        this.moduleCode = moduleCode;
+        this.date = date;
+        this.lazyRoster = lazyRoster;
     }
 
     public TutorialId getTutorialId() {
@@ -58,10 +75,25 @@ public class Tutorial {
 
     /**
      * Returns an immutable student set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. The students are in order of student ID.
      */
     public Set<Student> getStudents() {
-        return Collections.unmodifiableSet(students);
+        return students();
+    }
+
+    /**
+     * Returns the students of the tutorial as a roster, which can be read without creating any {@code Student}.
+     */
+    public StudentRoster getRoster() {
+        return students();
+    }
+
+    /**
+     * Returns the roster of students that have not been loaded yet, or an empty {@code Optional} if the students
+     * have been loaded.
+     */
+    public synchronized Optional<LazyRoster> getLazyRoster() {
+        return Optional.ofNullable(lazyRoster);
     }
 
     /**
@@ -70,10 +102,10 @@ public class Tutorial {
      */
     public String getStudentsAsString() {
         final StringJoiner joiner = new StringJoiner(", ");
-        if (students.isEmpty()) {
+        if (students().isEmpty()) {
             return "None";
         } else {
-            students.forEach(student -> joiner.add(student.toString()));
+            students().forEach(student -> joiner.add(student.toString()));
             return joiner.toString();
         }
     }
@@ -81,22 +113,54 @@ public class Tutorial {
     /**
      * Returns the number of students in the tutorial.
      */
-    public int getNumberOfStudents() {
-        return students.size();
+    public synchronized int getNumberOfStudents() {
+        return lazyRoster != null ? lazyRoster.getNumberOfStudents() : students.size();
+    }
+
+    /**
+     * Returns the number of students in the tutorial who are marked as present.
+     */
+    public synchronized int getNumberOfPresentStudents() {
+        if (lazyRoster != null) {
+            return lazyRoster.getNumberOfPresentStudents();
+        }
+        return students.getNumberOfPresentStudents();
     }
 
     /**
      * Marks all the students in the {@code Tutorial} as present.
      */
     public void markAllStudents() {
-        students.forEach(Student::mark);
+        students().setAllPresent(true);
     }
 
     /**
      * Unmarks all the students in the {@code Tutorial}.
      */
     public void unmarkAllStudents() {
-        students.forEach(Student::unmark);
+        students().setAllPresent(false);
+    }
+
+    /**
+     * Returns a copy of this tutorial, whose students can be marked or unmarked without marking or unmarking the
+     * students of this tutorial. Students that have not been loaded yet are not loaded.
+     */
+    public synchronized Tutorial copy() {
+        if (lazyRoster != null) {
+            return new Tutorial(tutorialId, moduleCode, date, lazyRoster);
+        }
+        return new Tutorial(tutorialId, moduleCode, date, students);
+    }
+
+    /**
+     * Returns the students of the tutorial, loading them first if needed.
+     */
+    private synchronized StudentRoster students() {
+        if (lazyRoster != null) {
+            students = StudentRoster.of(lazyRoster.loadStudents());
+            lazyRoster = null;
+        }
+        return students;
     }
 
     /**
@@ -115,6 +179,8 @@ public class Tutorial {
     /**
      * Returns true if both tutorials have the same class details and list of students.
      * This defines a stronger notion of equality between two tutorials.
+     * The students are only loaded if the class details and the numbers of students are the same, and the tutorials
+     * do not share the same students that are yet to be loaded.
      */
     @Override
     public boolean equals(Object other) {
@@ -128,25 +194,36 @@ public class Tutorial {
         }
 
         Tutorial otherTutorial = (Tutorial) other;
-        return tutorialId.equals(otherTutorial.tutorialId)
-                && moduleCode.equals(otherTutorial.moduleCode)
-                && date.equals(otherTutorial.date)
-                && students.equals(otherTutorial.students);
+        if (!tutorialId.equals(otherTutorial.tutorialId)
+                || !moduleCode.equals(otherTutorial.moduleCode)
+                || !date.equals(otherTutorial.date)
+                || getNumberOfStudents() != otherTutorial.getNumberOfStudents()) {
+            return false;
+        }
+
+        Optional<LazyRoster> otherLazyRoster = otherTutorial.getLazyRoster();
+        if (otherLazyRoster.isPresent() && getLazyRoster().equals(otherLazyRoster)) {
+            return true;
+        }
+        return students().equals(otherTutorial.students());
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(tutorialId, moduleCode, date, students);
+        // The students are left out, so that hashing does not load them
+        return Objects.hash(tutorialId, moduleCode, date);
     }
 
+    /**
+     * Returns the class details of the tutorial, without its students, so that logging a tutorial does not load
+     * them.
+     */
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("tutorialId", tutorialId)
                 .add("moduleCode", moduleCode)
                 .add("date", date)
-                .add("students", students)
                 .toString();
     }
 
@@ -2,6 +2,8 @@ package seedu.tabs.model.tutorial;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.tabs.commons.util.AppUtil.checkArgument;
+import static seedu.tabs.commons.util.StringUtil.isAsciiDigits;
+import static seedu.tabs.commons.util.StringUtil.isAsciiLetter;
 
 /**
  * Represents a Tutorial's ID in the TAbs.
@@ -14,6 +16,8 @@ public class TutorialId {
 
     public static final String VALIDATION_REGEX = "[A-Z]\\d{1,8}";
 
+    private static final int MAX_DIGITS = 8;
+
     public final String id;
 
     /**
@@ -33,7 +37,10 @@ public class TutorialId {
      * Returns true if a given string is a valid tutorial ID.
      */
     public static boolean isValidTutorialId(String test) {
-        return test.toUpperCase().matches(VALIDATION_REGEX);
+        // Matches VALIDATION_REGEX ignoring case, checked by hand to avoid compiling the regex on every call
+        return test.length() >= 2 && test.length() <= MAX_DIGITS + 1
+                && isAsciiLetter(test.charAt(0))
+                && isAsciiDigits(test, 1, test.length());
     }
 
 
@@ -43,6 +43,13 @@ public class TutorialIdMatchesKeywordPredicate implements Predicate<Tutorial> {
         return this.keyword;
     }
 
+    /**
+     * Returns the keyword of the predicate as a {@code TutorialId}, for looking up the tutorial directly.
+     */
+    public TutorialId getTutorialId() {
+        return new TutorialId(keyword);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keyword", keyword).toString();
@@ -3,8 +3,11 @@ package seedu.tabs.model.tutorial;
 import static java.util.Objects.requireNonNull;
 import static seedu.tabs.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +23,8 @@ import seedu.tabs.model.tutorial.exceptions.TutorialNotFoundException;
  * exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * An index keyed by {@code TutorialId} is kept in sync with the list so that lookups by ID and
+ * uniqueness checks do not need to scan every tutorial.
  *
  * @see Tutorial#isSameTutorial(Tutorial)
  */
@@ -28,13 +33,22 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
     private final ObservableList<Tutorial> internalList = FXCollections.observableArrayList();
     private final ObservableList<Tutorial> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<TutorialId, Tutorial> tutorialIdIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent tutorial as the given argument.
      */
     public boolean contains(Tutorial toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTutorial);
+        return tutorialIdIndex.containsKey(toCheck.getTutorialId());
+    }
+
+    /**
+     * Returns the tutorial with the given {@code tutorialId}, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Tutorial> find(TutorialId tutorialId) {
+        requireNonNull(tutorialId);
+        return Optional.ofNullable(tutorialIdIndex.get(tutorialId));
     }
 
     /**
@@ -47,6 +61,7 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
             throw new DuplicateTutorialException();
         }
         internalList.add(toAdd);
+        tutorialIdIndex.put(toAdd.getTutorialId(), toAdd);
     }
 
     /**
@@ -67,6 +82,8 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
         }
 
         internalList.set(index, editedTutorial);
+        tutorialIdIndex.remove(target.getTutorialId());
+        tutorialIdIndex.put(editedTutorial.getTutorialId(), editedTutorial);
     }
 
     /**
@@ -78,11 +95,14 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
         if (!internalList.remove(toRemove)) {
             throw new TutorialNotFoundException();
         }
+        tutorialIdIndex.remove(toRemove.getTutorialId());
     }
 
     public void setTutorials(UniqueTutorialList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        tutorialIdIndex.clear();
+        tutorialIdIndex.putAll(replacement.tutorialIdIndex);
     }
 
     /**
@@ -91,11 +111,28 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
      */
     public void setTutorials(List<Tutorial> aTutorials) {
         requireAllNonNull(aTutorials);
-        if (!tutorialsAreUnique(aTutorials)) {
-            throw new DuplicateTutorialException();
-        }
+        Map<TutorialId, Tutorial> replacementIndex = indexUniqueTutorials(aTutorials);
 
         internalList.setAll(aTutorials);
+        tutorialIdIndex.clear();
+        tutorialIdIndex.putAll(replacementIndex);
+    }
+
+    /**
+     * Adds all of {@code tutorialsToAdd} to the end of the list in a single update.
+     * {@code tutorialsToAdd} must not contain duplicate tutorials, nor tutorials that already exist in the list.
+     */
+    public void addAll(List<Tutorial> tutorialsToAdd) {
+        requireAllNonNull(tutorialsToAdd);
+        Map<TutorialId, Tutorial> addedIndex = indexUniqueTutorials(tutorialsToAdd);
+        for (TutorialId tutorialId : addedIndex.keySet()) {
+            if (tutorialIdIndex.containsKey(tutorialId)) {
+                throw new DuplicateTutorialException();
+            }
+        }
+
+        internalList.addAll(tutorialsToAdd);
+        tutorialIdIndex.putAll(addedIndex);
     }
 
     /**
@@ -136,16 +173,17 @@ public class UniqueTutorialList implements Iterable<Tutorial> {
     }
 
     /**
-     * Returns true if {@code tutorials} contains only unique tutorials.
+     * Returns an index of {@code tutorials} keyed by {@code TutorialId}, built in a single pass.
+     *
+     * @throws DuplicateTutorialException if {@code tutorials} does not contain only unique tutorials.
      */
-    private boolean tutorialsAreUnique(List<Tutorial> aTutorials) {
-        for (int i = 0; i < aTutorials.size() - 1; i++) {
-            for (int j = i + 1; j < aTutorials.size(); j++) {
-                if (aTutorials.get(i).isSameTutorial(aTutorials.get(j))) {
-                    return false;
-                }
+    private static Map<TutorialId, Tutorial> indexUniqueTutorials(List<Tutorial> aTutorials) {
+        Map<TutorialId, Tutorial> index = new HashMap<>();
+        for (Tutorial tutorial : aTutorials) {
+            if (index.putIfAbsent(tutorial.getTutorialId(), tutorial) != null) {
+                throw new DuplicateTutorialException();
             }
         }
-        return true;
+        return index;
     }
 }
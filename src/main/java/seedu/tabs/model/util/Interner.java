@@ -0,0 +1,105 @@
+package seedu.tabs.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values can share one instance.
+ * Values are only weakly held, so values that are no longer used anywhere else are dropped from the pool.
+ * The pool is safe to use from several threads at once, and threads interning values do not block each other,
+ * so that tutorials can be converted on all cores without queueing on the pool.
+ *
+ * @param <T> the type of the values, which must be immutable and have value-based {@code equals} and
+ *            {@code hashCode}.
+ */
+public class Interner<T> {
+
+    /** Each canonical value, weakly held, mapped to itself. */
+    private final ConcurrentMap<WeakKey<T>, WeakKey<T>> canonicalValues = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> droppedValues = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, which is {@code value} itself if the pool has no
+     * instance equal to it yet.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        removeDroppedValues();
+
+        T canonicalValue = getCanonicalValue(canonicalValues.get(new WeakKey<>(value, null)));
+        if (canonicalValue != null) {
+            return canonicalValue;
+        }
+
+        WeakKey<T> key = new WeakKey<>(value, droppedValues);
+        while (true) {
+            WeakKey<T> canonicalKey = canonicalValues.putIfAbsent(key, key);
+            if (canonicalKey == null) {
+                return value;
+            }
+            canonicalValue = getCanonicalValue(canonicalKey);
+            if (canonicalValue != null) {
+                return canonicalValue;
+            }
+            // The equal value was dropped but its entry is not removed yet
+            canonicalValues.remove(canonicalKey, canonicalKey);
+        }
+    }
+
+    /**
+     * Returns the number of values in the pool.
+     */
+    public int size() {
+        removeDroppedValues();
+        return canonicalValues.size();
+    }
+
+    private T getCanonicalValue(WeakKey<T> canonicalKey) {
+        return canonicalKey == null ? null : canonicalKey.get();
+    }
+
+    private void removeDroppedValues() {
+        Reference<? extends T> droppedKey;
+        while ((droppedKey = droppedValues.poll()) != null) {
+            canonicalValues.remove(droppedKey, droppedKey);
+        }
+    }
+
+    /**
+     * A weakly held value that is equal to another {@code WeakKey} holding an equal value. Once its value is
+     * dropped, it is only equal to itself.
+     */
+    private static class WeakKey<T> extends WeakReference<T> {
+
+        private final int hashCode;
+
+        WeakKey(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            hashCode = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof WeakKey)) {
+                return false;
+            }
+            Object value = get();
+            return value != null && value.equals(((WeakKey<?>) other).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -41,9 +41,7 @@ public class SampleDataUtil {
 
     public static ReadOnlyTAbs getSampleTAbs() {
         TAbs sampleAb = new TAbs();
-        for (Tutorial sampleTutorial : getSampleTutorials()) {
-            sampleAb.addTutorial(sampleTutorial);
-        }
+        sampleAb.addTutorials(Arrays.asList(getSampleTutorials()));
         return sampleAb;
     }
 
@@ -0,0 +1,116 @@
+package seedu.tabs.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.tabs.commons.core.LogsCenter;
+import seedu.tabs.commons.exceptions.DataLoadingException;
+import seedu.tabs.commons.util.FileUtil;
+import seedu.tabs.model.ReadOnlyTAbs;
+
+/**
+ * A {@link TAbsStorage} that falls back to the backups kept by {@link FileUtil#writeToFileAtomically} when the
+ * data file is missing or cannot be loaded, and logs how long each save takes.
+ * <p>
+ * Backups are tried from newest to oldest, and the first one that loads is used. If none of them loads, the
+ * original problem with the data file is reported. Each backup is read through the wrapped storage, so a storage
+ * that keeps a journal beside its data file replays it on top of the backup.
+ */
+public class BackupRecoveringTAbsStorage implements TAbsStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BackupRecoveringTAbsStorage.class);
+
+    private final TAbsStorage tabsStorage;
+    private final int backupCount;
+
+    /**
+     * Creates a {@code BackupRecoveringTAbsStorage} that reads and writes through {@code tabsStorage}, and looks
+     * for up to {@code backupCount} backups of its data file.
+     */
+    public BackupRecoveringTAbsStorage(TAbsStorage tabsStorage, int backupCount) {
+        requireNonNull(tabsStorage);
+        this.tabsStorage = tabsStorage;
+        this.backupCount = backupCount;
+    }
+
+    @Override
+    public Path getTAbsFilePath() {
+        return tabsStorage.getTAbsFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTAbs> readTAbs() throws DataLoadingException {
+        return readTAbs(getTAbsFilePath());
+    }
+
+    /**
+     * Similar to {@link #readTAbs()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if neither the data file nor any of its backups could be loaded.
+     */
+    @Override
+    public Optional<ReadOnlyTAbs> readTAbs(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        DataLoadingException failure = null;
+        try {
+            Optional<ReadOnlyTAbs> tabs = tabsStorage.readTAbs(filePath);
+            if (tabs.isPresent()) {
+                return tabs;
+            }
+        } catch (DataLoadingException e) {
+            failure = e;
+        }
+
+        for (int generation = 1; generation <= backupCount; generation++) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath, generation);
+            if (!Files.exists(backupFilePath)) {
+                continue;
+            }
+            try {
+                Optional<ReadOnlyTAbs> tabs = tabsStorage.readTAbs(backupFilePath);
+                if (tabs.isPresent()) {
+                    logger.warning("Data file " + filePath + " could not be loaded, recovered data from backup "
+                            + backupFilePath);
+                    return tabs;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Backup " + backupFilePath + " could not be loaded either: " + e.getCause());
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void saveTAbs(ReadOnlyTAbs tabs) throws IOException {
+        saveTAbs(tabs, getTAbsFilePath());
+    }
+
+    @Override
+    public void saveTAbs(ReadOnlyTAbs tabs, Path filePath) throws IOException {
+        long start = System.nanoTime();
+        tabsStorage.saveTAbs(tabs, filePath);
+        logger.fine("Saved " + filePath + " in " + (System.nanoTime() - start) / 1000 + " us");
+    }
+
+    @Override
+    public void flushTAbs() throws IOException {
+        tabsStorage.flushTAbs();
+    }
+
+    @Override
+    public void closeTAbs() throws IOException {
+        tabsStorage.closeTAbs();
+    }
+
+}
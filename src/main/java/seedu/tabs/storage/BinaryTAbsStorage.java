@@ -0,0 +1,254 @@
+package seedu.tabs.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.tabs.commons.core.LogsCenter;
+import seedu.tabs.commons.exceptions.DataLoadingException;
+import seedu.tabs.commons.exceptions.IllegalValueException;
+import seedu.tabs.commons.util.FileUtil;
+import seedu.tabs.model.ReadOnlyTAbs;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.student.Student;
+import seedu.tabs.model.student.StudentRoster;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+
+/**
+ * A class to access TAbs data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The snapshot starts with a magic number and a format version, followed by a dictionary of the module codes in
+ * use. Each tutorial then refers to its module code by dictionary index, stores its date as an epoch day, and
+ * packs each student ID and attendance into a single int. Each save replaces the file atomically and keeps the
+ * previous versions as numbered backups.
+ */
+public class BinaryTAbsStorage implements TAbsStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final String MESSAGE_NOT_BINARY_FILE = "%s is not a TAbs binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "%s uses unsupported binary format version %d.";
+    public static final String MESSAGE_UNKNOWN_MODULE_CODE = "Tutorial refers to an unknown module code.";
+    public static final String MESSAGE_INVALID_COUNT = "%s contains an invalid count.";
+
+    static final int MAGIC_NUMBER = 0x54414253; // "TABS"
+    static final int FORMAT_VERSION = 1;
+
+    private static final int LETTER_COUNT = 26;
+    private static final int STUDENT_ID_NUMBER_LIMIT = 10_000_000;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTAbsStorage.class);
+
+    private final Path filePath;
+    private final int backupCount;
+
+    public BinaryTAbsStorage(Path filePath) {
+        this(filePath, FileUtil.DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code BinaryTAbsStorage} that keeps {@code backupCount} previous versions of the data file.
+     */
+    public BinaryTAbsStorage(Path filePath, int backupCount) {
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Returns the path of the binary data file that goes with the json data file at {@code jsonFilePath}.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        return FileUtil.replaceExtension(jsonFilePath, BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getTAbsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTAbs> readTAbs() throws DataLoadingException {
+        return readTAbs(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTAbs()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyTAbs> readTAbs(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(readSnapshot(in, filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveTAbs(ReadOnlyTAbs tabs) throws IOException {
+        saveTAbs(tabs, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTAbs(ReadOnlyTAbs)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTAbs(ReadOnlyTAbs tabs, Path filePath) throws IOException {
+        requireNonNull(tabs);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, backupCount, channel -> {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            writeSnapshot(tabs, out);
+            out.flush();
+        });
+    }
+
+    @Override
+    public void flushTAbs() {
+        // Every save is written to the file in full, so there is nothing to flush
+    }
+
+    @Override
+    public void closeTAbs() {
+        // The data is read in full, so nothing is kept open
+    }
+
+    private static void writeSnapshot(ReadOnlyTAbs tabs, DataOutputStream out) throws IOException {
+        List<Tutorial> tutorials = tabs.getTutorialList();
+        Map<String, Integer> moduleCodeIndexes = new HashMap<>();
+        List<String> moduleCodes = new ArrayList<>();
+        for (Tutorial tutorial : tutorials) {
+            String moduleCode = tutorial.getModuleCode().value;
+            if (!moduleCodeIndexes.containsKey(moduleCode)) {
+                moduleCodeIndexes.put(moduleCode, moduleCodes.size());
+                moduleCodes.add(moduleCode);
+            }
+        }
+
+        out.writeInt(MAGIC_NUMBER);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(moduleCodes.size());
+        for (String moduleCode : moduleCodes) {
+            out.writeUTF(moduleCode);
+        }
+
+        out.writeInt(tutorials.size());
+        for (Tutorial tutorial : tutorials) {
+            out.writeUTF(tutorial.getTutorialId().id);
+            out.writeInt(moduleCodeIndexes.get(tutorial.getModuleCode().value));
+            out.writeInt(tutorial.getDate().toEpochDay());
+            StudentRoster roster = tutorial.getRoster();
+            out.writeInt(roster.size());
+            for (int i = 0; i < roster.size(); i++) {
+                out.writeInt(roster.getPackedStudentId(i) * 2 + (roster.isPresent(i) ? 1 : 0));
+            }
+        }
+    }
+
+    private static TAbs readSnapshot(DataInputStream in, Path filePath) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IOException(String.format(MESSAGE_NOT_BINARY_FILE, filePath));
+        }
+        int version = in.readShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, filePath, version));
+        }
+
+        int moduleCodeCount = readCount(in, filePath);
+        List<String> moduleCodes = new ArrayList<>();
+        for (int i = 0; i < moduleCodeCount; i++) {
+            moduleCodes.add(in.readUTF());
+        }
+
+        int tutorialCount = readCount(in, filePath);
+        List<Tutorial> tutorials = new ArrayList<>();
+        Set<TutorialId> seenTutorialIds = new HashSet<>();
+        for (int i = 0; i < tutorialCount; i++) {
+            String tutorialId = in.readUTF();
+            int moduleCodeIndex = in.readInt();
+            if (moduleCodeIndex < 0 || moduleCodeIndex >= moduleCodes.size()) {
+                throw new IllegalValueException(MESSAGE_UNKNOWN_MODULE_CODE);
+            }
+            String date = LocalDate.ofEpochDay(in.readInt()).toString();
+
+            int studentCount = readCount(in, filePath);
+            Set<Student> students = new HashSet<>();
+            for (int j = 0; j < studentCount; j++) {
+                students.add(unpackStudent(in.readInt()));
+            }
+
+            Tutorial tutorial = JsonAdaptedTutorial.toModelType(tutorialId, moduleCodes.get(moduleCodeIndex), date,
+                    students);
+            if (!seenTutorialIds.add(tutorial.getTutorialId())) {
+                throw new IllegalValueException(JsonSerializableTAbs.MESSAGE_DUPLICATE_PERSON);
+            }
+            tutorials.add(tutorial);
+        }
+
+        TAbs tabs = new TAbs();
+        tabs.addTutorials(tutorials);
+        return tabs;
+    }
+
+    private static int readCount(DataInputStream in, Path filePath) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException(String.format(MESSAGE_INVALID_COUNT, filePath));
+        }
+        return count;
+    }
+
+    /**
+     * Packs the digits and check letter of the student's ID, and their attendance, into a single int.
+     */
+    static int packStudent(Student student) {
+        return StudentRoster.pack(student.studentId) * 2 + (student.getAttendance() ? 1 : 0);
+    }
+
+    /**
+     * Reverses {@link #packStudent(Student)}.
+     *
+     * @throws IllegalValueException if {@code packedStudent} does not hold a valid student ID.
+     */
+    static Student unpackStudent(int packedStudent) throws IllegalValueException {
+        boolean isPresent = (packedStudent & 1) == 1;
+        int number = (packedStudent >>> 1) / LETTER_COUNT;
+        if (packedStudent < 0 || number >= STUDENT_ID_NUMBER_LIMIT) {
+            throw new IllegalValueException(Student.MESSAGE_CONSTRAINTS);
+        }
+        return JsonAdaptedStudent.toModelType(StudentRoster.unpack(packedStudent >>> 1), isPresent);
+    }
+
+}
@@ -0,0 +1,360 @@
+package seedu.tabs.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.tabs.commons.core.LogsCenter;
+import seedu.tabs.commons.exceptions.DataLoadingException;
+import seedu.tabs.commons.exceptions.IllegalValueException;
+import seedu.tabs.commons.util.FileUtil;
+import seedu.tabs.commons.util.JsonUtil;
+import seedu.tabs.model.ReadOnlyTAbs;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.TutorialChanges;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+
+/**
+ * A class to access TAbs data stored as a json checkpoint file plus a journal of changes made since then.
+ * <p>
+ * Each save appends one line per added, edited or deleted tutorial to the journal, instead of rewriting the whole
+ * data file. The changed tutorials are the ones recorded by the saved data as the changes were made, so a save does
+ * not look at the tutorials that did not change. Reading replays the journal on top of the checkpoint. Once the
+ * journal grows past a threshold, it is folded back into the checkpoint on a background thread;
+ * {@link #flushTAbs()} does the same immediately. Every journal entry holds the full state of one tutorial, so
+ * replaying entries that are already part of the checkpoint leaves the data unchanged.
+ * <p>
+ * The entries folded into the checkpoint are kept beside the newest backup of the data file, so that reading that
+ * backup replays them, then the current journal, and loses none of the changes in the journal.
+ */
+public class JournaledTAbsStorage implements TAbsStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String CHECKPOINTING_JOURNAL_FILE_SUFFIX = ".journal.old";
+    public static final int DEFAULT_CHECKPOINT_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTAbsStorage.class);
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final Path checkpointingJournalFilePath;
+    private final Path journalBackupFilePath;
+    private final int checkpointThreshold;
+    private final JsonTAbsStorage checkpointStorage;
+    private final ExecutorService checkpointExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TAbs checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * True once the data file and journal are known to hold the data last read or saved, so that the changes made
+     * since then can be appended to the journal.
+     */
+    private boolean isJournaling;
+    private ReadOnlyTAbs lastSavedTAbs;
+    private int journalEntryCount;
+    private Future<?> pendingCheckpoint;
+
+    public JournaledTAbsStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledTAbsStorage} that checkpoints once the journal holds
+     * {@code checkpointThreshold} entries.
+     */
+    public JournaledTAbsStorage(Path filePath, int checkpointThreshold) {
+        this(filePath, checkpointThreshold, false);
+    }
+
+    /**
+     * Creates a {@code JournaledTAbsStorage} that reads the students of each tutorial in the checkpoint only when
+     * they are first needed if {@code isLazyRosterLoading} is true.
+     */
+    public JournaledTAbsStorage(Path filePath, int checkpointThreshold, boolean isLazyRosterLoading) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.checkpointingJournalFilePath =
+                filePath.resolveSibling(filePath.getFileName() + CHECKPOINTING_JOURNAL_FILE_SUFFIX);
+        this.journalBackupFilePath = FileUtil.getBackupFilePath(journalFilePath, 1);
+        this.checkpointThreshold = checkpointThreshold;
+        this.checkpointStorage = new JsonTAbsStorage(filePath, false, FileUtil.DEFAULT_BACKUP_COUNT,
+                isLazyRosterLoading);
+    }
+
+    @Override
+    public Path getTAbsFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTAbs> readTAbs() throws DataLoadingException {
+        return readTAbs(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTAbs()}.
+     * Only the data file of this storage and its backups have a journal; any other file is read as a plain json
+     * file. A backup is read with the entries kept beside it, if any, and the current journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyTAbs> readTAbs(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isDataFile = filePath.equals(this.filePath);
+        int backupGeneration = getBackupGeneration(filePath);
+        if (!isDataFile && backupGeneration == 0) {
+            return checkpointStorage.readTAbs(filePath);
+        }
+
+        awaitPendingCheckpoint();
+        if (isDataFile) {
+            isJournaling = false;
+        }
+        List<Path> journalFiles = new ArrayList<>();
+        if (backupGeneration == 1) {
+            journalFiles.add(journalBackupFilePath);
+        }
+        journalFiles.add(checkpointingJournalFilePath);
+        journalFiles.add(journalFilePath);
+
+        Optional<ReadOnlyTAbs> checkpoint = checkpointStorage.readTAbs(filePath);
+        boolean hasJournal = journalFiles.stream().anyMatch(FileUtil::isFileExists);
+        if (!checkpoint.isPresent() && (!isDataFile || !hasJournal)) {
+            return Optional.empty();
+        }
+
+        TAbs tabs = new TAbs(checkpoint.orElseGet(TAbs::new));
+        int replayedEntryCount = 0;
+        for (Path journalFile : journalFiles) {
+            replayedEntryCount += replayJournal(journalFile, tabs);
+        }
+        logger.info("Replayed " + replayedEntryCount + " journal entries on top of " + filePath);
+
+        if (isDataFile) {
+            // The changes made by replaying are already in the journal
+            tabs.takeChanges();
+            isJournaling = true;
+            lastSavedTAbs = tabs;
+            journalEntryCount = replayedEntryCount;
+        }
+        return Optional.of(tabs);
+    }
+
+    @Override
+    public void saveTAbs(ReadOnlyTAbs tabs) throws IOException {
+        saveTAbs(tabs, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTAbs(ReadOnlyTAbs)}.
+     * Only the data file of this storage has a journal; any other file is written in full as a plain json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTAbs(ReadOnlyTAbs tabs, Path filePath) throws IOException {
+        requireNonNull(tabs);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            checkpointStorage.saveTAbs(tabs, filePath);
+            return;
+        }
+
+        TutorialChanges changes = tabs.takeChanges();
+        if (!isJournaling || changes.isEverythingChanged() || changes.isOrderChanged()) {
+            // The journal cannot describe this change, so write the whole file instead
+            awaitPendingCheckpoint();
+            isJournaling = false;
+            rotateJournal();
+            checkpoint(tabs);
+            isJournaling = true;
+            lastSavedTAbs = tabs;
+            return;
+        }
+
+        lastSavedTAbs = tabs;
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        List<String> entries = new ArrayList<>();
+        for (TutorialId tutorialId : changes.getTutorialIds()) {
+            Optional<Tutorial> tutorial = changes.getTutorial(tutorialId);
+            entries.add(JsonUtil.toCompactJsonString(tutorial.isPresent()
+                    ? JsonAdaptedJournalEntry.put(tutorial.get())
+                    : JsonAdaptedJournalEntry.delete(tutorialId.id)));
+        }
+        try {
+            FileUtil.createParentDirsOfFile(journalFilePath);
+            Files.write(journalFilePath, entries, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ioe) {
+            // Some of the entries may have been written, so the next save writes the whole file instead
+            isJournaling = false;
+            throw ioe;
+        }
+        journalEntryCount += entries.size();
+
+        if (journalEntryCount >= checkpointThreshold) {
+            awaitPendingCheckpoint();
+            rotateJournal();
+            // Copying the tutorials is much cheaper than serializing them, which is left to the checkpoint thread.
+            // The changes of tabs were taken above, so taking a snapshot of it takes none.
+            ReadOnlyTAbs tabsToCheckpoint = tabs instanceof TAbsSnapshot ? tabs : TAbsSnapshot.of(tabs);
+            pendingCheckpoint = checkpointExecutor.submit(() -> {
+                try {
+                    checkpoint(tabsToCheckpoint);
+                } catch (IOException ioe) {
+                    logger.warning("Failed to checkpoint " + filePath + ", journal kept for replay: " + ioe);
+                }
+            });
+        }
+    }
+
+    /**
+     * Folds the journal into the data file, waiting for any checkpoint already running in the background.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    @Override
+    public void flushTAbs() throws IOException {
+        awaitPendingCheckpoint();
+        if (!isJournaling || journalEntryCount == 0) {
+            return;
+        }
+        rotateJournal();
+        checkpoint(lastSavedTAbs);
+    }
+
+    @Override
+    public void closeTAbs() throws IOException {
+        checkpointStorage.closeTAbs();
+    }
+
+    /**
+     * Returns how many versions old the backup of the data file at {@code filePath} is, or 0 if {@code filePath}
+     * is not a backup of the data file.
+     */
+    private int getBackupGeneration(Path filePath) {
+        for (int generation = 1; generation <= FileUtil.DEFAULT_BACKUP_COUNT; generation++) {
+            if (filePath.equals(FileUtil.getBackupFilePath(this.filePath, generation))) {
+                return generation;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Moves the entries of the journal aside so that they are kept until the next checkpoint completes.
+     */
+    private void rotateJournal() throws IOException {
+        journalEntryCount = 0;
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return;
+        }
+        if (FileUtil.isFileExists(checkpointingJournalFilePath)) {
+            // A previous checkpoint failed, so its entries are still needed
+            Files.write(checkpointingJournalFilePath, Files.readAllBytes(journalFilePath), StandardOpenOption.APPEND);
+            Files.delete(journalFilePath);
+            return;
+        }
+        Files.move(journalFilePath, checkpointingJournalFilePath, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes {@code tabs} to the data file, then keeps the journal entries it replaces beside the backup of the
+     * previous data file.
+     * Each tutorial is serialized as it is written, loading its students first if it has not loaded them yet, so
+     * {@code tabs} must not change until this returns. The data file is replaced atomically so that a crash midway
+     * leaves the previous checkpoint intact. The entries kept for the previous backup are discarded first, so that
+     * they are never replayed on top of a newer one.
+     */
+    private void checkpoint(ReadOnlyTAbs tabs) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.deleteIfExists(journalBackupFilePath);
+        StreamingJsonTAbsWriter.writeTAbs(tabs, filePath, false, FileUtil.DEFAULT_BACKUP_COUNT);
+        if (FileUtil.isFileExists(checkpointingJournalFilePath)) {
+            Files.move(checkpointingJournalFilePath, journalBackupFilePath, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private void awaitPendingCheckpoint() {
+        if (pendingCheckpoint == null) {
+            return;
+        }
+        try {
+            pendingCheckpoint.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Background checkpoint of " + filePath + " failed: " + e.getCause());
+        }
+        pendingCheckpoint = null;
+    }
+
+    /**
+     * Applies every entry in {@code journalFile} to {@code tabs} and returns the number of entries applied.
+     * A malformed last line is the result of an interrupted save and is ignored.
+     *
+     * @throws DataLoadingException if any other entry could not be read or applied.
+     */
+    private static int replayJournal(Path journalFile, TAbs tabs) throws DataLoadingException {
+        if (!FileUtil.isFileExists(journalFile)) {
+            return 0;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFile, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+
+        int appliedEntryCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of " + journalFile);
+                    break;
+                }
+                throw new DataLoadingException(ioe);
+            }
+
+            try {
+                entry.applyTo(tabs);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFile + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            appliedEntryCount++;
+        }
+        return appliedEntryCount;
+    }
+
+}
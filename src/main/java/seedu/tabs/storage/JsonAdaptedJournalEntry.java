@@ -0,0 +1,72 @@
+package seedu.tabs.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.tabs.commons.exceptions.IllegalValueException;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+
+/**
+ * Jackson-friendly version of a single change recorded in the TAbs journal.
+ * An entry either puts the full state of one tutorial, or deletes a tutorial by its ID.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry must either put or delete a tutorial.";
+
+    private final JsonAdaptedTutorial put;
+    private final String delete;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("put") JsonAdaptedTutorial put,
+            @JsonProperty("delete") String delete) {
+        this.put = put;
+        this.delete = delete;
+    }
+
+    /**
+     * Returns an entry that puts the current state of {@code tutorial}.
+     */
+    public static JsonAdaptedJournalEntry put(Tutorial tutorial) {
+        return new JsonAdaptedJournalEntry(new JsonAdaptedTutorial(tutorial), null);
+    }
+
+    /**
+     * Returns an entry that deletes the tutorial with the given {@code tutorialId}.
+     */
+    public static JsonAdaptedJournalEntry delete(String tutorialId) {
+        return new JsonAdaptedJournalEntry(null, tutorialId);
+    }
+
+    /**
+     * Applies this entry to {@code tabs}.
+     * Applying an entry that is already reflected in {@code tabs} leaves it unchanged.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public void applyTo(TAbs tabs) throws IllegalValueException {
+        if ((put == null) == (delete == null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+
+        if (put != null) {
+            Tutorial tutorial = put.toModelType();
+            tabs.findTutorial(tutorial.getTutorialId()).ifPresentOrElse(
+                existing -> tabs.setTutorial(existing, tutorial), () -> tabs.addTutorial(tutorial));
+            return;
+        }
+
+        if (!TutorialId.isValidTutorialId(delete)) {
+            throw new IllegalValueException(TutorialId.MESSAGE_CONSTRAINTS);
+        }
+        tabs.findTutorial(new TutorialId(delete)).ifPresent(tabs::removeTutorial);
+    }
+
+}
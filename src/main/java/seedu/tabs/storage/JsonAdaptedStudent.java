@@ -46,10 +46,28 @@ class JsonAdaptedStudent {
      * @throws IllegalValueException if there were any data constraints violated in the adapted student.
      */
     public Student toModelType() throws IllegalValueException {
+        return toModelType(studentId, isPresent);
+    }
+
+    /**
+     * Converts the given student details, as read from a data file, into the model's {@code Student} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the student details.
+     */
+    static Student toModelType(String studentId, boolean isPresent) throws IllegalValueException {
+        checkStudentId(studentId);
+        return new Student(studentId, isPresent);
+    }
+
+    /**
+     * Checks that {@code studentId}, as read from a data file, is a valid student ID.
+     *
+     * @throws IllegalValueException if {@code studentId} is not a valid student ID.
+     */
+    static void checkStudentId(String studentId) throws IllegalValueException {
         if (!Student.isValidStudentId(studentId)) {
             throw new IllegalValueException(Student.MESSAGE_CONSTRAINTS);
         }
-        return new Student(studentId, isPresent);
     }
 
 }
@@ -4,14 +4,16 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.tabs.commons.exceptions.IllegalValueException;
 import seedu.tabs.model.student.Student;
+import seedu.tabs.model.student.StudentRoster;
 import seedu.tabs.model.tutorial.Date;
+import seedu.tabs.model.tutorial.LazyRoster;
 import seedu.tabs.model.tutorial.ModuleCode;
 import seedu.tabs.model.tutorial.Tutorial;
 import seedu.tabs.model.tutorial.TutorialId;
@@ -27,6 +29,8 @@ class JsonAdaptedTutorial {
     private final String moduleCode;
     private final String date;
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
+    @JsonIgnore
+    private final LazyRoster lazyRoster;
 
     /**
      * Constructs a {@code JsonAdaptedTutorial} with the given tutorial details.
@@ -41,6 +45,18 @@ class JsonAdaptedTutorial {
         if (students != null) {
             this.students.addAll(students);
         }
+        this.lazyRoster = null;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedTutorial} with the given tutorial details, whose students are loaded from
+     * {@code lazyRoster} when first needed.
+     */
+    JsonAdaptedTutorial(String id, String moduleCode, String date, LazyRoster lazyRoster) {
+        this.tutorialId = id;
+        this.moduleCode = moduleCode;
+        this.date = date;
+        this.lazyRoster = lazyRoster;
     }
 
     /**
@@ -50,9 +66,11 @@ class JsonAdaptedTutorial {
         tutorialId = source.getTutorialId().id;
         moduleCode = source.getModuleCode().value;
         date = source.getDate().value;
-        students.addAll(source.getStudents().stream()
-                .map(JsonAdaptedStudent::new)
-                .collect(Collectors.toList()));
+        StudentRoster roster = source.getRoster();
+        for (int i = 0; i < roster.size(); i++) {
+            students.add(new JsonAdaptedStudent(roster.getStudentId(i), roster.isPresent(i)));
+        }
+        lazyRoster = null;
     }
 
     /**
@@ -61,11 +79,45 @@ class JsonAdaptedTutorial {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tutorial.
      */
     public Tutorial toModelType() throws IllegalValueException {
+        if (lazyRoster != null) {
+            return toModelType(tutorialId, moduleCode, date, lazyRoster);
+        }
+
         final List<Student> tutorialStudents = new ArrayList<>();
         for (JsonAdaptedStudent student : students) {
             tutorialStudents.add(student.toModelType());
         }
 
+        return toModelType(tutorialId, moduleCode, date, new HashSet<>(tutorialStudents));
+    }
+
+    /**
+     * Converts the given tutorial details, as read from a data file, into the model's {@code Tutorial} object.
+     * The {@code students} must already have been converted.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the tutorial details.
+     */
+    static Tutorial toModelType(String tutorialId, String moduleCode, String date, Set<Student> students)
+            throws IllegalValueException {
+        return toModelType(tutorialId, moduleCode, date, students, null);
+    }
+
+    /**
+     * Converts the given tutorial details, as read from a data file, into the model's {@code Tutorial} object,
+     * whose students are loaded from {@code lazyRoster} when first needed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the tutorial details.
+     */
+    static Tutorial toModelType(String tutorialId, String moduleCode, String date, LazyRoster lazyRoster)
+            throws IllegalValueException {
+        return toModelType(tutorialId, moduleCode, date, null, lazyRoster);
+    }
+
+    /**
+     * Converts the given tutorial details with either {@code students} or {@code lazyRoster}.
+     */
+    private static Tutorial toModelType(String tutorialId, String moduleCode, String date, Set<Student> students,
+            LazyRoster lazyRoster) throws IllegalValueException {
         if (tutorialId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     TutorialId.class.getSimpleName()));
@@ -82,7 +134,7 @@ class JsonAdaptedTutorial {
         if (!ModuleCode.isValidModuleCode(moduleCode)) {
             throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
         }
-        final ModuleCode modelModuleCode = new ModuleCode(moduleCode);
+        final ModuleCode modelModuleCode = ModuleCode.of(moduleCode);
 
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
@@ -90,10 +142,12 @@ class JsonAdaptedTutorial {
         if (!Date.isValidDate(date)) {
             throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
         }
-        final Date modelDate = new Date(date);
+        final Date modelDate = Date.of(date);
 
-        final Set<Student> modelStudents = new HashSet<>(tutorialStudents);
-        return new Tutorial(modelTutorialId, modelModuleCode, modelDate, modelStudents);
+        if (lazyRoster != null) {
+            return new Tutorial(modelTutorialId, modelModuleCode, modelDate, lazyRoster);
+        }
+        return new Tutorial(modelTutorialId, modelModuleCode, modelDate, students);
     }
 
 }
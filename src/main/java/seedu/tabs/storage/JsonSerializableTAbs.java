@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.tabs.commons.exceptions.IllegalValueException;
 import seedu.tabs.model.ReadOnlyTAbs;
 import seedu.tabs.model.TAbs;
-import seedu.tabs.model.tutorial.Tutorial;
 
 /**
  * An Immutable TAbs that is serializable to JSON format.
@@ -47,13 +46,7 @@ class JsonSerializableTAbs {
      */
     public TAbs toModelType() throws IllegalValueException {
         TAbs tabs = new TAbs();
-        for (JsonAdaptedTutorial jsonAdaptedTutorial : tutorials) {
-            Tutorial aTutorial = jsonAdaptedTutorial.toModelType();
-            if (tabs.hasTutorial(aTutorial)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            tabs.addTutorial(aTutorial);
-        }
+        tabs.addTutorials(ParallelTutorialConverter.convertAll(tutorials));
         return tabs;
     }
 
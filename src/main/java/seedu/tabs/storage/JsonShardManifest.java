@@ -0,0 +1,40 @@
+package seedu.tabs.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link ShardedTAbsStorage}.
+ * Lists the module codes that have a shard, and the IDs of all tutorials in TAbs order.
+ */
+class JsonShardManifest {
+
+    private final List<String> moduleCodes = new ArrayList<>();
+    private final List<String> tutorialIds = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given module codes and tutorial IDs.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("moduleCodes") List<String> moduleCodes,
+            @JsonProperty("tutorialIds") List<String> tutorialIds) {
+        if (moduleCodes != null) {
+            this.moduleCodes.addAll(moduleCodes);
+        }
+        if (tutorialIds != null) {
+            this.tutorialIds.addAll(tutorialIds);
+        }
+    }
+
+    public List<String> getModuleCodes() {
+        return moduleCodes;
+    }
+
+    public List<String> getTutorialIds() {
+        return tutorialIds;
+    }
+
+}
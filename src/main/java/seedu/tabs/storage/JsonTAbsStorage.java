@@ -3,7 +3,11 @@ package seedu.tabs.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -11,20 +15,56 @@ import seedu.tabs.commons.core.LogsCenter;
 import seedu.tabs.commons.exceptions.DataLoadingException;
 import seedu.tabs.commons.exceptions.IllegalValueException;
 import seedu.tabs.commons.util.FileUtil;
-import seedu.tabs.commons.util.JsonUtil;
 import seedu.tabs.model.ReadOnlyTAbs;
 
 /**
  * A class to access TAbs data stored as a json file on the hard disk.
+ * Each save replaces the file atomically and keeps the previous versions as numbered backups.
+ * <p>
+ * When reading students lazily, they are read from a private copy of the file taken when the data was read,
+ * so that the data file can be replaced by saves on any platform. The copy is kept open until the data is read
+ * again or {@link #closeTAbs()} is called, and is deleted once it is closed.
  */
 public class JsonTAbsStorage implements TAbsStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTAbsStorage.class);
+    private static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
 
     private Path filePath;
+    private final boolean isCompact;
+    private final int backupCount;
+    private final boolean isLazyRosterLoading;
+
+    /** The copy of the data file that students not loaded yet are read from, or null if there is none. */
+    private FileChannel rosterSnapshot;
 
     public JsonTAbsStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonTAbsStorage} that writes json without any whitespace if {@code isCompact} is true.
+     */
+    public JsonTAbsStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, FileUtil.DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code JsonTAbsStorage} that keeps {@code backupCount} previous versions of the data file.
+     */
+    public JsonTAbsStorage(Path filePath, boolean isCompact, int backupCount) {
+        this(filePath, isCompact, backupCount, false);
+    }
+
+    /**
+     * Creates a {@code JsonTAbsStorage} that reads the students of each tutorial only when they are first needed
+     * if {@code isLazyRosterLoading} is true.
+     */
+    public JsonTAbsStorage(Path filePath, boolean isCompact, int backupCount, boolean isLazyRosterLoading) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.backupCount = backupCount;
+        this.isLazyRosterLoading = isLazyRosterLoading;
     }
 
     public Path getTAbsFilePath() {
@@ -45,20 +85,55 @@ public class JsonTAbsStorage implements TAbsStorage {
     public Optional<ReadOnlyTAbs> readTAbs(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTAbs> jsonTAbs = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTAbs.class);
-        if (!jsonTAbs.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonTAbs.get().toModelType());
+            return Optional.of(isLazyRosterLoading
+                    ? readTAbsLazily(filePath)
+                    : StreamingJsonTAbsReader.readTAbs(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads the data file at {@code filePath} from a new copy of it, from which the students are loaded later.
+     * The copy that the data read before was loaded from is closed, so its students that were not loaded yet can
+     * no longer be loaded.
+     */
+    private synchronized ReadOnlyTAbs readTAbsLazily(Path filePath) throws IOException, IllegalValueException {
+        Path snapshotPath = Files.createTempFile(filePath.getFileName().toString(), SNAPSHOT_FILE_SUFFIX);
+        FileChannel snapshot;
+        try {
+            Files.copy(filePath, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+            snapshot = FileChannel.open(snapshotPath, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(snapshotPath);
+            throw ioe;
+        }
+
+        ReadOnlyTAbs tabs;
+        try {
+            tabs = StreamingJsonTAbsReader.readTAbsLazily(snapshot);
+        } catch (IOException | IllegalValueException | RuntimeException e) {
+            snapshot.close();
+            throw e;
+        }
+
+        if (rosterSnapshot != null) {
+            rosterSnapshot.close();
+        }
+        rosterSnapshot = snapshot;
+        return tabs;
+    }
+
     @Override
     public void saveTAbs(ReadOnlyTAbs tabs) throws IOException {
         saveTAbs(tabs, filePath);
@@ -73,8 +148,21 @@ public class JsonTAbsStorage implements TAbsStorage {
         requireNonNull(tabs);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTAbs(tabs), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        StreamingJsonTAbsWriter.writeTAbs(tabs, filePath, isCompact, backupCount);
+    }
+
+    @Override
+    public void flushTAbs() {
+        // Every save is written to the file in full, so there is nothing to flush
+    }
+
+    @Override
+    public synchronized void closeTAbs() throws IOException {
+        if (rosterSnapshot != null) {
+            rosterSnapshot.close();
+            rosterSnapshot = null;
+        }
     }
 
 }
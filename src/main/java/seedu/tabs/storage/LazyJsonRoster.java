@@ -0,0 +1,87 @@
+package seedu.tabs.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.tabs.commons.exceptions.IllegalValueException;
+import seedu.tabs.model.student.Student;
+import seedu.tabs.model.tutorial.LazyRoster;
+
+/**
+ * The students of a tutorial that are loaded on demand from their byte range in an open json data file.
+ * The students were validated when the file was read, so loading them can only fail on a read error, including
+ * the file having been closed.
+ */
+class LazyJsonRoster implements LazyRoster {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final FileChannel channel;
+    private final long startOffset;
+    private final long endOffset;
+    private final int studentCount;
+    private final int presentCount;
+
+    /**
+     * Creates a roster of the {@code studentCount} students in the json array between {@code startOffset},
+     * inclusive, and {@code endOffset}, exclusive, of the file open in {@code channel}.
+     */
+    LazyJsonRoster(FileChannel channel, long startOffset, long endOffset, int studentCount, int presentCount) {
+        this.channel = channel;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.studentCount = studentCount;
+        this.presentCount = presentCount;
+    }
+
+    @Override
+    public int getNumberOfStudents() {
+        return studentCount;
+    }
+
+    @Override
+    public int getNumberOfPresentStudents() {
+        return presentCount;
+    }
+
+    @Override
+    public Set<Student> loadStudents() {
+        ByteBuffer buffer = ByteBuffer.allocate((int) (endOffset - startOffset));
+        Set<Student> students = new HashSet<>();
+        try {
+            long position = startOffset;
+            while (buffer.hasRemaining()) {
+                int readCount = channel.read(buffer, position);
+                if (readCount < 0) {
+                    throw new EOFException("Data file ended before the students of a tutorial");
+                }
+                position += readCount;
+            }
+
+            List<JsonAdaptedStudent> adaptedStudents = new ArrayList<>();
+            try (JsonParser parser = JSON_FACTORY.createParser(buffer.array())) {
+                parser.nextToken();
+                StreamingJsonTAbsReader.readStudents(parser, adaptedStudents);
+            }
+            for (JsonAdaptedStudent adaptedStudent : adaptedStudents) {
+                students.add(adaptedStudent.toModelType());
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        } catch (IllegalValueException ive) {
+            throw new IllegalStateException("Students changed after they were validated", ive);
+        }
+        return students;
+    }
+
+}
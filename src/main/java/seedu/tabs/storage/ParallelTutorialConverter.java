@@ -0,0 +1,68 @@
+package seedu.tabs.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.tabs.commons.exceptions.IllegalValueException;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+
+/**
+ * Converts tutorials read from a data file into the model's {@code Tutorial} objects on all cores.
+ * <p>
+ * The converted tutorials keep the order they were read in, and the problem reported is the one a conversion in
+ * that order would have found first, be it an invalid tutorial or a duplicate tutorial.
+ */
+class ParallelTutorialConverter {
+
+    private ParallelTutorialConverter() {}
+
+    /**
+     * Converts each of {@code adaptedTutorials} and adds them to {@code tutorials}, in order.
+     * {@code seenTutorialIds} holds the IDs of the tutorials converted before, and is updated with the new ones.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the tutorials, or a tutorial
+     *     has the same ID as another.
+     */
+    static void convertAll(List<JsonAdaptedTutorial> adaptedTutorials, Collection<Tutorial> tutorials,
+            Set<TutorialId> seenTutorialIds) throws IllegalValueException {
+        int count = adaptedTutorials.size();
+        Tutorial[] converted = new Tutorial[count];
+        Exception[] failures = new Exception[count];
+        IntStream.range(0, count).parallel().forEach(i -> {
+            try {
+                converted[i] = adaptedTutorials.get(i).toModelType();
+            } catch (IllegalValueException | RuntimeException e) {
+                failures[i] = e;
+            }
+        });
+
+        for (int i = 0; i < count; i++) {
+            if (failures[i] instanceof IllegalValueException) {
+                throw (IllegalValueException) failures[i];
+            } else if (failures[i] != null) {
+                throw (RuntimeException) failures[i];
+            }
+            if (!seenTutorialIds.add(converted[i].getTutorialId())) {
+                throw new IllegalValueException(JsonSerializableTAbs.MESSAGE_DUPLICATE_PERSON);
+            }
+            tutorials.add(converted[i]);
+        }
+    }
+
+    /**
+     * Returns the tutorials converted from {@code adaptedTutorials}, in order.
+     *
+     * @see #convertAll(List, Collection, Set)
+     */
+    static List<Tutorial> convertAll(List<JsonAdaptedTutorial> adaptedTutorials) throws IllegalValueException {
+        List<Tutorial> tutorials = new ArrayList<>(adaptedTutorials.size());
+        convertAll(adaptedTutorials, tutorials, new HashSet<>());
+        return tutorials;
+    }
+
+}
@@ -0,0 +1,393 @@
+package seedu.tabs.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.tabs.commons.core.LogsCenter;
+import seedu.tabs.commons.exceptions.DataLoadingException;
+import seedu.tabs.commons.exceptions.IllegalValueException;
+import seedu.tabs.commons.util.FileUtil;
+import seedu.tabs.commons.util.JsonUtil;
+import seedu.tabs.model.ReadOnlyTAbs;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.TutorialChanges;
+import seedu.tabs.model.tutorial.Tutorial;
+
+/**
+ * A class to access TAbs data stored as one json file per module, plus a manifest, in a directory on the hard disk.
+ * <p>
+ * Each shard is a TAbs json data file holding the tutorials of one module. The manifest lists the modules that
+ * have a shard and the order of all tutorials. A save only rewrites the shards of the modules whose tutorials the
+ * saved data records as changed since the last save or load, and the manifest only if tutorials were added,
+ * removed or reordered. Shards are loaded in parallel.
+ * <p>
+ * A save first writes the new shards and manifest beside the ones they replace, then writes a commit file, and only
+ * then moves them into place and deletes the commit file. A save that was interrupted is completed by the next read
+ * or save if its commit file was written, and discarded otherwise, so a crash midway leaves either the old or the new
+ * version of every shard, and never a tutorial that moved to another module in both shards or in neither.
+ */
+public class ShardedTAbsStorage implements TAbsStorage {
+
+    public static final String SHARD_DIRECTORY_EXTENSION = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SHARD_FILE_EXTENSION = ".json";
+    public static final String STAGED_FILE_SUFFIX = ".staged";
+    public static final String COMMIT_FILE_NAME = "commit";
+    public static final String MESSAGE_MISPLACED_TUTORIAL = "Shard %s contains a tutorial of module %s.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedTAbsStorage.class);
+
+    private final Path shardDirectoryPath;
+    private final Path manifestFilePath;
+    private final Path commitFilePath;
+    private final int loadThreadCount;
+    private final JsonTAbsStorage singleFileStorage;
+
+    /** The module codes of the shards and the tutorial IDs in the manifest, or null if they are not known. */
+    private Set<String> persistedModuleCodes;
+    private List<String> persistedTutorialIds;
+
+    public ShardedTAbsStorage(Path shardDirectoryPath) {
+        this(shardDirectoryPath, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a {@code ShardedTAbsStorage} that loads up to {@code loadThreadCount} shards at the same time.
+     */
+    public ShardedTAbsStorage(Path shardDirectoryPath, int loadThreadCount) {
+        requireNonNull(shardDirectoryPath);
+        this.shardDirectoryPath = shardDirectoryPath;
+        this.manifestFilePath = shardDirectoryPath.resolve(MANIFEST_FILE_NAME);
+        this.commitFilePath = shardDirectoryPath.resolve(COMMIT_FILE_NAME);
+        this.loadThreadCount = Math.max(1, loadThreadCount);
+        this.singleFileStorage = new JsonTAbsStorage(manifestFilePath);
+    }
+
+    /**
+     * Returns the path of the shard directory that goes with the json data file at {@code jsonFilePath}.
+     */
+    public static Path toShardDirectoryPath(Path jsonFilePath) {
+        return FileUtil.replaceExtension(jsonFilePath, SHARD_DIRECTORY_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the manifest, which is updated by every save that changes any data.
+     */
+    @Override
+    public Path getTAbsFilePath() {
+        return manifestFilePath;
+    }
+
+    public Path getShardFilePath(String moduleCode) {
+        return shardDirectoryPath.resolve(moduleCode + SHARD_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyTAbs> readTAbs() throws DataLoadingException {
+        return readTAbs(manifestFilePath);
+    }
+
+    /**
+     * Similar to {@link #readTAbs()}.
+     * Only the manifest of this storage has shards; any other file is read as a plain json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyTAbs> readTAbs(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(manifestFilePath)) {
+            return singleFileStorage.readTAbs(filePath);
+        }
+
+        try {
+            completeInterruptedSave();
+        } catch (IOException ioe) {
+            logger.warning("Error completing an interrupted save to " + shardDirectoryPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(manifestFilePath, JsonShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<String> moduleCodes = manifest.get().getModuleCodes();
+        List<TAbs> shards = loadShards(moduleCodes);
+        TAbs tabs;
+        try {
+            tabs = mergeShards(moduleCodes, shards, manifest.get().getTutorialIds());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardDirectoryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        // The loaded data is what the shards hold, so it has no changes to save
+        tabs.takeChanges();
+        persistedModuleCodes = toModuleCodes(tabs);
+        persistedTutorialIds = toTutorialIds(tabs);
+        logger.info("Loaded " + shards.size() + " shards from " + shardDirectoryPath);
+        return Optional.of(tabs);
+    }
+
+    @Override
+    public void saveTAbs(ReadOnlyTAbs tabs) throws IOException {
+        saveTAbs(tabs, manifestFilePath);
+    }
+
+    /**
+     * Similar to {@link #saveTAbs(ReadOnlyTAbs)}.
+     * Only the manifest of this storage has shards; any other file is written in full as a plain json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTAbs(ReadOnlyTAbs tabs, Path filePath) throws IOException {
+        requireNonNull(tabs);
+        requireNonNull(filePath);
+        if (!filePath.equals(manifestFilePath)) {
+            singleFileStorage.saveTAbs(tabs, filePath);
+            return;
+        }
+
+        TutorialChanges changes = tabs.takeChanges();
+        Set<String> currentModuleCodes = toModuleCodes(tabs);
+        List<String> currentTutorialIds = toTutorialIds(tabs);
+        Set<String> previousModuleCodes = persistedModuleCodes;
+        List<String> previousTutorialIds = persistedTutorialIds;
+        boolean isPersistedStateKnown = previousModuleCodes != null;
+        // Marked unknown until the save completes, so that a failed save is followed by a full one
+        persistedModuleCodes = null;
+        persistedTutorialIds = null;
+
+        Set<String> changedModuleCodes = new HashSet<>(currentModuleCodes);
+        if (isPersistedStateKnown && !changes.isEverythingChanged()) {
+            changedModuleCodes.clear();
+            changes.getModuleCodes().forEach(moduleCode -> changedModuleCodes.add(moduleCode.value));
+            changedModuleCodes.retainAll(currentModuleCodes);
+        }
+
+        Files.createDirectories(shardDirectoryPath);
+        completeInterruptedSave();
+        Map<String, List<String>> changedShards = toSerializedShards(tabs, changedModuleCodes);
+        for (Map.Entry<String, List<String>> shard : changedShards.entrySet()) {
+            StreamingJsonTAbsWriter.writeSerializedTutorials(shard.getValue(),
+                    toStagedFilePath(getShardFilePath(shard.getKey())), false, 0);
+        }
+
+        boolean isManifestChanged = !isPersistedStateKnown || !currentTutorialIds.equals(previousTutorialIds)
+                || !currentModuleCodes.equals(previousModuleCodes);
+        if (isManifestChanged) {
+            JsonUtil.saveJsonFile(new JsonShardManifest(new ArrayList<>(currentModuleCodes), currentTutorialIds),
+                    toStagedFilePath(manifestFilePath));
+        }
+        if (isManifestChanged || !changedShards.isEmpty()) {
+            // The save takes effect once the commit file is written
+            FileUtil.writeToFile(commitFilePath, "");
+            completeInterruptedSave();
+        }
+        if (isManifestChanged) {
+            deleteUnlistedShards(currentModuleCodes);
+        } else if (!changedShards.isEmpty()) {
+            Files.setLastModifiedTime(manifestFilePath, FileTime.fromMillis(System.currentTimeMillis()));
+        }
+        logger.fine("Wrote " + changedShards.size() + " of " + currentModuleCodes.size() + " shards to "
+                + shardDirectoryPath);
+
+        persistedModuleCodes = currentModuleCodes;
+        persistedTutorialIds = currentTutorialIds;
+    }
+
+    @Override
+    public void flushTAbs() {
+        // Every save is written to the shards in full, so there is nothing to flush
+    }
+
+    @Override
+    public void closeTAbs() {
+        // The shards are read in full, so nothing is kept open
+    }
+
+    /**
+     * Reads the shard of each of {@code moduleCodes} on a thread pool, returning them in the same order.
+     *
+     * @throws DataLoadingException if any shard could not be loaded.
+     */
+    private List<TAbs> loadShards(List<String> moduleCodes) throws DataLoadingException {
+        if (moduleCodes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        ExecutorService loader = Executors.newFixedThreadPool(Math.min(loadThreadCount, moduleCodes.size()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "TAbs shard loader");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            List<Future<TAbs>> pendingShards = new ArrayList<>();
+            for (String moduleCode : moduleCodes) {
+                Path shardFilePath = getShardFilePath(moduleCode);
+                pendingShards.add(loader.submit(() -> StreamingJsonTAbsReader.readTAbs(shardFilePath)));
+            }
+
+            List<TAbs> shards = new ArrayList<>();
+            for (int i = 0; i < pendingShards.size(); i++) {
+                shards.add(awaitShard(pendingShards.get(i), getShardFilePath(moduleCodes.get(i))));
+            }
+            return shards;
+        } finally {
+            loader.shutdownNow();
+        }
+    }
+
+    private static TAbs awaitShard(Future<TAbs> pendingShard, Path shardFilePath) throws DataLoadingException {
+        try {
+            return pendingShard.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            logger.warning("Error reading from shard " + shardFilePath + ": " + e.getCause());
+            throw new DataLoadingException(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        }
+    }
+
+    /**
+     * Returns the tutorials of all {@code shards} in the order of {@code tutorialIds}.
+     * Tutorials missing from {@code tutorialIds} are placed last.
+     *
+     * @throws IllegalValueException if a shard holds a tutorial of another module, or a tutorial is in two shards.
+     */
+    private static TAbs mergeShards(List<String> moduleCodes, List<TAbs> shards, List<String> tutorialIds)
+            throws IllegalValueException {
+        Map<String, Tutorial> tutorials = new LinkedHashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            for (Tutorial tutorial : shards.get(i).getTutorialList()) {
+                String moduleCode = tutorial.getModuleCode().value;
+                if (!moduleCode.equals(moduleCodes.get(i))) {
+                    throw new IllegalValueException(String.format(MESSAGE_MISPLACED_TUTORIAL, moduleCodes.get(i),
+                            moduleCode));
+                }
+                if (tutorials.put(tutorial.getTutorialId().id, tutorial) != null) {
+                    throw new IllegalValueException(JsonSerializableTAbs.MESSAGE_DUPLICATE_PERSON);
+                }
+            }
+        }
+
+        List<Tutorial> orderedTutorials = new ArrayList<>(tutorials.size());
+        for (String tutorialId : tutorialIds) {
+            Tutorial tutorial = tutorials.remove(tutorialId);
+            if (tutorial != null) {
+                orderedTutorials.add(tutorial);
+            }
+        }
+        orderedTutorials.addAll(tutorials.values());
+
+        TAbs tabs = new TAbs();
+        tabs.addTutorials(orderedTutorials);
+        return tabs;
+    }
+
+    /**
+     * Moves the staged files of a save into place if the save was committed, or deletes them otherwise, then deletes
+     * the commit file.
+     */
+    private void completeInterruptedSave() throws IOException {
+        if (!Files.isDirectory(shardDirectoryPath)) {
+            return;
+        }
+
+        boolean isCommitted = FileUtil.isFileExists(commitFilePath);
+        try (DirectoryStream<Path> stagedFilePaths =
+                Files.newDirectoryStream(shardDirectoryPath, "*" + STAGED_FILE_SUFFIX)) {
+            for (Path stagedFilePath : stagedFilePaths) {
+                if (isCommitted) {
+                    String fileName = stagedFilePath.getFileName().toString();
+                    FileUtil.replaceFile(stagedFilePath, stagedFilePath.resolveSibling(
+                            fileName.substring(0, fileName.length() - STAGED_FILE_SUFFIX.length())));
+                } else {
+                    Files.delete(stagedFilePath);
+                }
+            }
+        }
+        Files.deleteIfExists(commitFilePath);
+    }
+
+    private static Path toStagedFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + STAGED_FILE_SUFFIX);
+    }
+
+    /**
+     * Deletes the shards of modules that are not in {@code moduleCodes}.
+     */
+    private void deleteUnlistedShards(Set<String> moduleCodes) throws IOException {
+        Set<Path> listedShardFilePaths = new HashSet<>();
+        for (String moduleCode : moduleCodes) {
+            listedShardFilePaths.add(getShardFilePath(moduleCode));
+        }
+
+        try (DirectoryStream<Path> shardFilePaths =
+                Files.newDirectoryStream(shardDirectoryPath, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path shardFilePath : shardFilePaths) {
+                if (!shardFilePath.equals(manifestFilePath) && !listedShardFilePaths.contains(shardFilePath)) {
+                    Files.delete(shardFilePath);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the compact json of each tutorial in {@code tabs} of a module in {@code moduleCodes}, grouped by
+     * module code, in TAbs order. Tutorials of other modules are not serialized.
+     */
+    private static Map<String, List<String>> toSerializedShards(ReadOnlyTAbs tabs, Set<String> moduleCodes)
+            throws IOException {
+        Map<String, List<String>> shards = new LinkedHashMap<>();
+        for (Tutorial tutorial : tabs.getTutorialList()) {
+            String moduleCode = tutorial.getModuleCode().value;
+            if (moduleCodes.contains(moduleCode)) {
+                shards.computeIfAbsent(moduleCode, key -> new ArrayList<>())
+                        .add(JsonUtil.toCompactJsonString(new JsonAdaptedTutorial(tutorial)));
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * Returns the module codes of the tutorials in {@code tabs}, in the order each first appears.
+     */
+    private static Set<String> toModuleCodes(ReadOnlyTAbs tabs) {
+        Set<String> moduleCodes = new LinkedHashSet<>();
+        for (Tutorial tutorial : tabs.getTutorialList()) {
+            moduleCodes.add(tutorial.getModuleCode().value);
+        }
+        return moduleCodes;
+    }
+
+    private static List<String> toTutorialIds(ReadOnlyTAbs tabs) {
+        List<String> tutorialIds = new ArrayList<>();
+        for (Tutorial tutorial : tabs.getTutorialList()) {
+            tutorialIds.add(tutorial.getTutorialId().id);
+        }
+        return tutorialIds;
+    }
+
+}
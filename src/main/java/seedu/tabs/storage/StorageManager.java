@@ -75,4 +75,15 @@ public class StorageManager implements Storage {
         tabsStorage.saveTAbs(tabs, filePath);
     }
 
+    @Override
+    public void flushTAbs() throws IOException {
+        logger.fine("Attempting to flush data file: " + tabsStorage.getTAbsFilePath());
+        tabsStorage.flushTAbs();
+    }
+
+    @Override
+    public void closeTAbs() throws IOException {
+        tabsStorage.closeTAbs();
+    }
+
 }
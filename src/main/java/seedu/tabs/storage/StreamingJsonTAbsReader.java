@@ -0,0 +1,224 @@
+package seedu.tabs.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.tabs.commons.exceptions.IllegalValueException;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+
+/**
+ * Reads a TAbs json data file token by token, converting each tutorial into the model's {@code Tutorial} as soon
+ * as it has been read.
+ * <p>
+ * Accepts the same files as {@link JsonSerializableTAbs} and reports the same validation errors, without holding
+ * the file contents or the adapted tutorials and students in memory. When reading lazily, the students of each
+ * tutorial are only validated and counted, and are loaded from the file when first needed.
+ * Parsing is sequential, while converting the tutorials parsed so far is spread across all cores.
+ */
+class StreamingJsonTAbsReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int CONVERSION_BATCH_SIZE = 4096;
+
+    private StreamingJsonTAbsReader() {}
+
+    /**
+     * Returns the TAbs stored in the json file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated in the file.
+     */
+    static TAbs readTAbs(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JSON_FACTORY.createParser(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return readTAbs(parser, null);
+        }
+    }
+
+    /**
+     * Returns the TAbs stored in the json file open in {@code channel}, with the students of each tutorial loaded
+     * from {@code channel} when first needed.
+     * The channel is left open for loading students, and must not be closed while any of them are still needed.
+     *
+     * @throws IOException if the file could not be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated in the file.
+     */
+    static TAbs readTAbsLazily(FileChannel channel) throws IOException, IllegalValueException {
+        channel.position(0);
+        try (JsonParser parser = JSON_FACTORY.createParser(
+                new BufferedInputStream(Channels.newInputStream(channel)))) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return readTAbs(parser, channel);
+        }
+    }
+
+    /**
+     * Reads the TAbs data that {@code parser} is at the start of.
+     * Students are loaded eagerly if {@code rosterChannel} is null, and lazily from {@code rosterChannel} otherwise.
+     * Tutorials are read in batches, and each batch is converted on all cores while keeping the file order.
+     */
+    private static TAbs readTAbs(JsonParser parser, FileChannel rosterChannel)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.nextToken() == JsonToken.START_OBJECT, "TAbs data");
+
+        List<Tutorial> tutorials = new ArrayList<>();
+        Set<TutorialId> seenTutorialIds = new HashSet<>();
+        List<JsonAdaptedTutorial> pendingTutorials = new ArrayList<>(CONVERSION_BATCH_SIZE);
+        try {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals("tutorials") || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                expect(parser, value == JsonToken.START_ARRAY, "list of tutorials");
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    pendingTutorials.add(readTutorial(parser, rosterChannel));
+                    if (pendingTutorials.size() == CONVERSION_BATCH_SIZE) {
+                        ParallelTutorialConverter.convertAll(pendingTutorials, tutorials, seenTutorialIds);
+                        pendingTutorials.clear();
+                    }
+                }
+            }
+        } catch (IOException | IllegalValueException e) {
+            // A problem with any tutorial read before this one comes first in the file
+            ParallelTutorialConverter.convertAll(pendingTutorials, tutorials, seenTutorialIds);
+            throw e;
+        }
+        ParallelTutorialConverter.convertAll(pendingTutorials, tutorials, seenTutorialIds);
+
+        TAbs tabs = new TAbs();
+        tabs.addTutorials(tutorials);
+        return tabs;
+    }
+
+    /**
+     * Reads the tutorial object that {@code parser} is positioned at, without validating it.
+     * If {@code rosterChannel} is not null, its students are validated and counted instead of being read.
+     *
+     * @see JsonAdaptedTutorial#toModelType()
+     */
+    private static JsonAdaptedTutorial readTutorial(JsonParser parser, FileChannel rosterChannel)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.getCurrentToken() == JsonToken.START_OBJECT, "tutorial");
+
+        String tutorialId = null;
+        String moduleCode = null;
+        String date = null;
+        List<JsonAdaptedStudent> students = new ArrayList<>();
+        LazyJsonRoster lazyRoster = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "id":
+            case "tutorialId":
+                tutorialId = readString(parser);
+                break;
+            case "moduleCode":
+                moduleCode = readString(parser);
+                break;
+            case "date":
+                date = readString(parser);
+                break;
+            case "students":
+                if (rosterChannel == null || parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+                    readStudents(parser, students);
+                } else {
+                    lazyRoster = scanStudents(parser, rosterChannel);
+                }
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        if (lazyRoster != null) {
+            return new JsonAdaptedTutorial(tutorialId, moduleCode, date, lazyRoster);
+        }
+        return new JsonAdaptedTutorial(tutorialId, moduleCode, date, students);
+    }
+
+    /**
+     * Reads the list of students that {@code parser} is positioned at into {@code students}, without validating
+     * them.
+     */
+    static void readStudents(JsonParser parser, List<JsonAdaptedStudent> students) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+
+        expect(parser, parser.getCurrentToken() == JsonToken.START_ARRAY, "list of students");
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser, parser.getCurrentToken() == JsonToken.START_OBJECT, "student");
+
+            String studentId = null;
+            boolean isPresent = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldName.equals("studentId")) {
+                    studentId = readString(parser);
+                } else if (fieldName.equals("isPresent")) {
+                    isPresent = parser.getValueAsBoolean();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            students.add(new JsonAdaptedStudent(studentId, isPresent));
+        }
+    }
+
+    /**
+     * Validates and counts the list of students that {@code parser} is positioned at, without loading them.
+     * Students with the same ID are only counted once, as they would be when loaded.
+     *
+     * @see JsonAdaptedStudent#toModelType()
+     */
+    private static LazyJsonRoster scanStudents(JsonParser parser, FileChannel rosterChannel)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.getCurrentToken() == JsonToken.START_ARRAY, "list of students");
+        long startOffset = parser.getTokenLocation().getByteOffset();
+        List<JsonAdaptedStudent> students = new ArrayList<>();
+        readStudents(parser, students);
+        long endOffset = parser.getTokenLocation().getByteOffset() + 1;
+
+        Set<String> studentIds = new HashSet<>();
+        int presentCount = 0;
+        for (JsonAdaptedStudent student : students) {
+            JsonAdaptedStudent.checkStudentId(student.getstudentId());
+            if (studentIds.add(student.getstudentId().toUpperCase()) && student.getAttendance()) {
+                presentCount++;
+            }
+        }
+        return new LazyJsonRoster(rosterChannel, startOffset, endOffset, studentIds.size(), presentCount);
+    }
+
+    private static String readString(JsonParser parser) throws IOException {
+        expect(parser, parser.getCurrentToken().isScalarValue(), "text value");
+        return parser.getValueAsString();
+    }
+
+    private static void expect(JsonParser parser, boolean condition, String expected) throws JsonParseException {
+        if (!condition) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + parser.getCurrentToken());
+        }
+    }
+
+}
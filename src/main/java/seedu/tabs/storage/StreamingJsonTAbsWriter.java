@@ -0,0 +1,112 @@
+package seedu.tabs.storage;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.tabs.commons.util.FileUtil;
+import seedu.tabs.model.ReadOnlyTAbs;
+import seedu.tabs.model.student.StudentRoster;
+import seedu.tabs.model.tutorial.Tutorial;
+
+/**
+ * Writes a TAbs json data file token by token, straight from the model.
+ * <p>
+ * Produces the same document as serializing {@link JsonSerializableTAbs}, without first copying the tutorials
+ * and students into adapted objects or building the document as a String. In compact mode the document is
+ * written without any whitespace. Files are replaced atomically, keeping the requested number of backups.
+ */
+class StreamingJsonTAbsWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private StreamingJsonTAbsWriter() {}
+
+    /**
+     * Writes {@code tabs} to the json file at {@code filePath}, replacing its contents and keeping
+     * {@code backupCount} backups of the previous contents.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void writeTAbs(ReadOnlyTAbs tabs, Path filePath, boolean isCompact, int backupCount) throws IOException {
+        writeDocument(filePath, isCompact, backupCount, generator -> {
+            for (Tutorial tutorial : tabs.getTutorialList()) {
+                writeTutorial(generator, tutorial);
+            }
+        });
+    }
+
+    /**
+     * Writes the tutorials in {@code tutorialsJson}, each already serialized as a json object, to the json file
+     * at {@code filePath}, replacing its contents and keeping {@code backupCount} backups of the previous contents.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void writeSerializedTutorials(List<String> tutorialsJson, Path filePath, boolean isCompact,
+            int backupCount) throws IOException {
+        writeDocument(filePath, isCompact, backupCount, generator -> {
+            for (String tutorialJson : tutorialsJson) {
+                try (JsonParser parser = JSON_FACTORY.createParser(tutorialJson)) {
+                    parser.nextToken();
+                    generator.copyCurrentStructure(parser);
+                }
+            }
+        });
+    }
+
+    private static void writeDocument(Path filePath, boolean isCompact, int backupCount,
+            TutorialsWriter tutorialsWriter) throws IOException {
+        FileUtil.writeToFileAtomically(filePath, backupCount, channel -> {
+            try (JsonGenerator generator =
+                    JSON_FACTORY.createGenerator(Channels.newOutputStream(channel), JsonEncoding.UTF8)) {
+                if (!isCompact) {
+                    generator.useDefaultPrettyPrinter();
+                }
+
+                generator.writeStartObject();
+                generator.writeFieldName("tutorials");
+                generator.writeStartArray();
+                tutorialsWriter.writeTutorials(generator);
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * Writes {@code tutorial} with the same fields as {@link JsonAdaptedTutorial}.
+     */
+    private static void writeTutorial(JsonGenerator generator, Tutorial tutorial) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("tutorialId", tutorial.getTutorialId().id);
+        generator.writeStringField("moduleCode", tutorial.getModuleCode().value);
+        generator.writeStringField("date", tutorial.getDate().value);
+        generator.writeFieldName("students");
+        generator.writeStartArray();
+        StudentRoster roster = tutorial.getRoster();
+        for (int i = 0; i < roster.size(); i++) {
+            generator.writeStartObject();
+            generator.writeStringField("studentId", roster.getStudentId(i));
+            generator.writeBooleanField("isPresent", roster.isPresent(i));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the elements of the tutorials array.
+     */
+    @FunctionalInterface
+    private interface TutorialsWriter {
+        void writeTutorials(JsonGenerator generator) throws IOException;
+    }
+
+}
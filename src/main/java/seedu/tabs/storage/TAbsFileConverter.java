@@ -0,0 +1,88 @@
+package seedu.tabs.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.tabs.commons.core.LogsCenter;
+import seedu.tabs.commons.exceptions.DataLoadingException;
+import seedu.tabs.model.ReadOnlyTAbs;
+
+/**
+ * Copies TAbs data between storages that use different file formats.
+ */
+public class TAbsFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(TAbsFileConverter.class);
+
+    private TAbsFileConverter() {}
+
+    /**
+     * Copies the data in {@code source} into {@code target} if the data file of {@code source} is newer than that
+     * of {@code target}, or {@code target} has no data file yet.
+     * Returns true if any data was copied.
+     *
+     * @throws DataLoadingException if the data in {@code source} could not be loaded.
+     * @throws IOException if there was any problem writing to the data file of {@code target}.
+     */
+    public static boolean importIfNewer(TAbsStorage source, TAbsStorage target)
+            throws DataLoadingException, IOException {
+        Path sourceFilePath = source.getTAbsFilePath();
+        Path targetFilePath = target.getTAbsFilePath();
+        if (!Files.exists(sourceFilePath)) {
+            return false;
+        }
+        if (Files.exists(targetFilePath) && Files.getLastModifiedTime(sourceFilePath)
+                .compareTo(Files.getLastModifiedTime(targetFilePath)) <= 0) {
+            return false;
+        }
+
+        Optional<ReadOnlyTAbs> sourceData = source.readTAbs();
+        if (!sourceData.isPresent()) {
+            return false;
+        }
+        logger.info("Importing data from " + sourceFilePath + " into " + targetFilePath);
+        target.saveTAbs(sourceData.get());
+        target.flushTAbs();
+        return true;
+    }
+
+    /**
+     * Copies the data in whichever of {@code sources} has the newest data file into {@code target}, if that data
+     * file is newer than that of {@code target}, or {@code target} has no data file yet.
+     * Returns true if any data was copied. The newest source is closed afterwards, as it is not read again.
+     *
+     * @throws DataLoadingException if the data in the newest source could not be loaded.
+     * @throws IOException if there was any problem writing to the data file of {@code target}.
+     */
+    public static boolean importFromNewest(List<TAbsStorage> sources, TAbsStorage target)
+            throws DataLoadingException, IOException {
+        TAbsStorage newestSource = null;
+        FileTime newestModifiedTime = null;
+        for (TAbsStorage source : sources) {
+            Path sourceFilePath = source.getTAbsFilePath();
+            if (!Files.exists(sourceFilePath)) {
+                continue;
+            }
+            FileTime modifiedTime = Files.getLastModifiedTime(sourceFilePath);
+            if (newestModifiedTime == null || modifiedTime.compareTo(newestModifiedTime) > 0) {
+                newestSource = source;
+                newestModifiedTime = modifiedTime;
+            }
+        }
+        if (newestSource == null) {
+            return false;
+        }
+        try {
+            return importIfNewer(newestSource, target);
+        } finally {
+            // The source is not read again, and the data read from it has been written in full
+            newestSource.closeTAbs();
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package seedu.tabs.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tabs.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.tabs.model.ReadOnlyTAbs;
+import seedu.tabs.model.TutorialChanges;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+
+/**
+ * A copy of TAbs data taken to be saved later, together with the changes made since the previous save.
+ * Neither is affected by later changes to the data it was taken from. The copy is a plain list of tutorials, without
+ * the indexes of a {@code TAbs}, since saving only goes through the tutorials in order.
+ * <p>
+ * Snapshots taken one after another by a {@link Taker} share the copies of the tutorials that did not change between
+ * them, since the copies are never changed once taken.
+ */
+class TAbsSnapshot implements ReadOnlyTAbs {
+
+    private final ObservableList<Tutorial> tutorials;
+    private final TutorialChanges changes;
+
+    private TAbsSnapshot(ObservableList<Tutorial> tutorials, TutorialChanges changes) {
+        requireAllNonNull(tutorials, changes);
+        this.tutorials = tutorials;
+        this.changes = changes;
+    }
+
+    /**
+     * Returns a snapshot of {@code tabs}, taking the changes it has recorded.
+     */
+    static TAbsSnapshot of(ReadOnlyTAbs tabs) {
+        return new Taker().take(tabs);
+    }
+
+    /**
+     * Returns a snapshot with the data of {@code laterSnapshot}, and the changes of both this snapshot and
+     * {@code laterSnapshot}, for when this snapshot is replaced before it is saved.
+     */
+    TAbsSnapshot followedBy(TAbsSnapshot laterSnapshot) {
+        TutorialChanges allChanges = new TutorialChanges();
+        allChanges.addAll(changes);
+        allChanges.addAll(laterSnapshot.changes);
+        return new TAbsSnapshot(laterSnapshot.tutorials, allChanges);
+    }
+
+    @Override
+    public ObservableList<Tutorial> getTutorialList() {
+        return tutorials;
+    }
+
+    /**
+     * Returns the changes made before this snapshot was taken. The same changes are returned every time, so that
+     * a snapshot that failed to be saved can be saved again.
+     */
+    @Override
+    public TutorialChanges takeChanges() {
+        return changes;
+    }
+
+    /**
+     * Takes snapshots of TAbs data one after another, copying only the tutorials that the data records as changed
+     * since the previous snapshot, and reusing the copies of the other tutorials.
+     * Copying every tutorial is left to the first snapshot, and to snapshots of other data or of data that changed
+     * as a whole.
+     */
+    static class Taker {
+
+        /** The copy of each tutorial in the data last taken a snapshot of, by tutorial ID. */
+        private final Map<TutorialId, Tutorial> tutorialCopies = new HashMap<>();
+        private ReadOnlyTAbs lastTAbs;
+
+        /**
+         * Returns a snapshot of {@code tabs}, taking the changes it has recorded.
+         */
+        synchronized TAbsSnapshot take(ReadOnlyTAbs tabs) {
+            requireNonNull(tabs);
+            // The changed tutorials are copied along with the changes, so those copies are reused below
+            TutorialChanges changes = tabs.takeChanges().copy();
+            if (tabs != lastTAbs || changes.isEverythingChanged()) {
+                tutorialCopies.clear();
+                for (Tutorial tutorial : tabs.getTutorialList()) {
+                    tutorialCopies.put(tutorial.getTutorialId(), tutorial.copy());
+                }
+                lastTAbs = tabs;
+            } else {
+                for (TutorialId tutorialId : changes.getTutorialIds()) {
+                    Optional<Tutorial> changedTutorial = changes.getTutorial(tutorialId);
+                    if (changedTutorial.isPresent()) {
+                        tutorialCopies.put(tutorialId, changedTutorial.get());
+                    } else {
+                        tutorialCopies.remove(tutorialId);
+                    }
+                }
+            }
+
+            ObservableList<Tutorial> tabsTutorials = tabs.getTutorialList();
+            List<Tutorial> tutorials = new ArrayList<>(tabsTutorials.size());
+            for (Tutorial tutorial : tabsTutorials) {
+                tutorials.add(tutorialCopies.computeIfAbsent(tutorial.getTutorialId(), tutorialId -> tutorial.copy()));
+            }
+            return new TAbsSnapshot(FXCollections.unmodifiableObservableList(FXCollections.observableList(tutorials)),
+                    changes);
+        }
+
+    }
+
+}
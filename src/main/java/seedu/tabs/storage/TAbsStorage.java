@@ -43,4 +43,17 @@ public interface TAbsStorage {
      */
     void saveTAbs(ReadOnlyTAbs tabs, Path filePath) throws IOException;
 
+    /**
+     * Writes any changes held back by the storage through to the data file.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushTAbs() throws IOException;
+
+    /**
+     * Closes anything the storage keeps open to load the parts of the data last read that are loaded on first use.
+     * Those parts can no longer be loaded afterwards.
+     * @throws IOException if there was any problem closing the files.
+     */
+    void closeTAbs() throws IOException;
+
 }
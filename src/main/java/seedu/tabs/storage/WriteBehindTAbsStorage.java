@@ -0,0 +1,174 @@
+package seedu.tabs.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.tabs.commons.core.Config.SavePolicy;
+import seedu.tabs.commons.core.LogsCenter;
+import seedu.tabs.commons.exceptions.DataLoadingException;
+import seedu.tabs.model.ReadOnlyTAbs;
+
+/**
+ * A {@link TAbsStorage} that saves TAbs data on a background thread, so that callers do not wait on the disk.
+ * <p>
+ * Each save takes a copy of the data and hands it to the background thread. Only the tutorials changed since the
+ * previous save are copied; the copies of the others are shared with the previous copy. Saves that arrive before the
+ * previous copy has been written replace it, so a burst of changes results in a single write. The changes recorded
+ * by the data are copied along with it, and those of replaced copies are kept, so that the write covers all of them.
+ * When the write happens is decided by the {@link SavePolicy}. A failed write is passed to the write failure handler
+ * as soon as it happens, reported again by the next call to {@link #saveTAbs(ReadOnlyTAbs)} or {@link #flushTAbs()},
+ * and retried with the next write.
+ */
+public class WriteBehindTAbsStorage implements TAbsStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindTAbsStorage.class);
+
+    private final TAbsStorage tabsStorage;
+    private final SavePolicy savePolicy;
+    private final long saveIntervalMillis;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TAbs writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final TAbsSnapshot.Taker snapshotTaker = new TAbsSnapshot.Taker();
+    private final AtomicReference<TAbsSnapshot> pendingSnapshot = new AtomicReference<>();
+    private final AtomicBoolean isWriteScheduled = new AtomicBoolean();
+    private final AtomicReference<IOException> lastFailure = new AtomicReference<>();
+    private volatile Consumer<IOException> writeFailureHandler = failure -> {};
+
+    /**
+     * Creates a {@code WriteBehindTAbsStorage} that writes through to {@code tabsStorage} according to
+     * {@code savePolicy}.
+     *
+     * @param saveIntervalMillis minimum time between writes, only used by {@link SavePolicy#INTERVAL}.
+     */
+    public WriteBehindTAbsStorage(TAbsStorage tabsStorage, SavePolicy savePolicy, long saveIntervalMillis) {
+        requireNonNull(tabsStorage);
+        requireNonNull(savePolicy);
+        this.tabsStorage = tabsStorage;
+        this.savePolicy = savePolicy;
+        this.saveIntervalMillis = saveIntervalMillis;
+    }
+
+    /**
+     * Sets the handler that is called with the problem each time a write in the background fails.
+     * The handler is called on the background thread.
+     */
+    public void setWriteFailureHandler(Consumer<IOException> writeFailureHandler) {
+        requireNonNull(writeFailureHandler);
+        this.writeFailureHandler = writeFailureHandler;
+    }
+
+    @Override
+    public Path getTAbsFilePath() {
+        return tabsStorage.getTAbsFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTAbs> readTAbs() throws DataLoadingException {
+        return tabsStorage.readTAbs();
+    }
+
+    @Override
+    public Optional<ReadOnlyTAbs> readTAbs(Path filePath) throws DataLoadingException {
+        return tabsStorage.readTAbs(filePath);
+    }
+
+    /**
+     * Queues a copy of {@code tabs} to be written to the data file.
+     *
+     * @throws IOException if an earlier write in the background failed.
+     */
+    @Override
+    public void saveTAbs(ReadOnlyTAbs tabs) throws IOException {
+        requireNonNull(tabs);
+        // A copy that is unaffected by later changes, including changes to attendance
+        pendingSnapshot.accumulateAndGet(snapshotTaker.take(tabs),
+                (unwritten, snapshot) -> unwritten == null ? snapshot : unwritten.followedBy(snapshot));
+
+        if (savePolicy != SavePolicy.ON_EXIT && isWriteScheduled.compareAndSet(false, true)) {
+            long delayMillis = savePolicy == SavePolicy.INTERVAL ? saveIntervalMillis : 0;
+            writer.schedule(this::writePendingSnapshot, delayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        throwLastFailure();
+    }
+
+    /**
+     * Similar to {@link #saveTAbs(ReadOnlyTAbs)}.
+     * Any file other than the data file of this storage is written immediately.
+     */
+    @Override
+    public void saveTAbs(ReadOnlyTAbs tabs, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getTAbsFilePath())) {
+            saveTAbs(tabs);
+            return;
+        }
+        tabsStorage.saveTAbs(tabs, filePath);
+    }
+
+    /**
+     * Writes any queued data, waiting for a write already in progress, then flushes the underlying storage.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    @Override
+    public void flushTAbs() throws IOException {
+        try {
+            writer.submit(this::writePendingSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        throwLastFailure();
+        tabsStorage.flushTAbs();
+    }
+
+    @Override
+    public void closeTAbs() throws IOException {
+        tabsStorage.closeTAbs();
+    }
+
+    private void writePendingSnapshot() {
+        isWriteScheduled.set(false);
+        TAbsSnapshot snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            tabsStorage.saveTAbs(snapshot);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save " + getTAbsFilePath() + " in the background: " + ioe);
+            lastFailure.set(ioe);
+            // Keep the changes for the next write, along with the newer data queued since, if any
+            pendingSnapshot.accumulateAndGet(snapshot,
+                    (newer, failed) -> newer == null ? failed : failed.followedBy(newer));
+            writeFailureHandler.accept(ioe);
+        }
+    }
+
+    private void throwLastFailure() throws IOException {
+        IOException failure = lastFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+}
@@ -34,6 +34,7 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private TutorialListPanel tutorialListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -121,7 +122,9 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getTAbsFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getTAbsFilePath());
+        statusBarFooter.setAttendanceSummary(logic.getAttendanceSummary());
+        logic.addAttendanceSummaryListener(statusBarFooter::setAttendanceSummary);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -168,6 +171,14 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows {@code message} as an error in the result display.
+     */
+    void showErrorMessage(String message) {
+        logger.warning(message);
+        resultDisplay.setErrorMessage(message);
+    }
+
     public TutorialListPanel getTutorialListPanel() {
         return tutorialListPanel;
     }
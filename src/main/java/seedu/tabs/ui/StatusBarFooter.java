@@ -6,6 +6,7 @@ import java.nio.file.Paths;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.tabs.model.AttendanceSummary;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -13,9 +14,12 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String ATTENDANCE_FORMAT = "%1$d/%2$d students present across %3$d tutorial(s)";
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label attendanceStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +29,12 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows the attendance totals in {@code attendanceSummary}.
+     */
+    public void setAttendanceSummary(AttendanceSummary attendanceSummary) {
+        attendanceStatus.setText(String.format(ATTENDANCE_FORMAT, attendanceSummary.getNumberOfPresentStudents(),
+                attendanceSummary.getNumberOfStudents(), attendanceSummary.getNumberOfTutorials()));
+    }
+
 }
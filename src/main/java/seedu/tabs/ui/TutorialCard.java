@@ -1,12 +1,11 @@
 package seedu.tabs.ui;
 
-import java.util.Comparator;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.tabs.model.student.StudentRoster;
 import seedu.tabs.model.tutorial.Tutorial;
 
 /**
@@ -53,23 +52,20 @@ public class TutorialCard extends UiPart<Region> {
         date.setText("📅 " + aTutorial.getDate().value);
 
         // Calculate attendance
-        long presentCount = aTutorial.getStudents().stream()
-                .filter(student -> student.getAttendance())
-                .count();
-        int totalCount = aTutorial.getStudents().size();
+        int presentCount = aTutorial.getNumberOfPresentStudents();
+        int totalCount = aTutorial.getNumberOfStudents();
         attendanceCount.setText(presentCount + "/" + totalCount + " present");
 
-        // Add student labels
-        aTutorial.getStudents().stream()
-                .sorted(Comparator.comparing(student -> student.studentId))
-                .forEach(student -> {
-                    Label studentLabel = new Label(student.studentId);
-                    if (student.getAttendance()) {
-                        studentLabel.getStyleClass().add("student-present");
-                    } else {
-                        studentLabel.getStyleClass().add("student-absent");
-                    }
-                    students.getChildren().add(studentLabel);
-                });
+        // Add student labels, which the roster already keeps in order of student ID
+        StudentRoster roster = aTutorial.getRoster();
+        for (int i = 0; i < roster.size(); i++) {
+            Label studentLabel = new Label(roster.getStudentId(i));
+            if (roster.isPresent(i)) {
+                studentLabel.getStyleClass().add("student-present");
+            } else {
+                studentLabel.getStyleClass().add("student-absent");
+            }
+            students.getChildren().add(studentLabel);
+        }
     }
 }
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code message} to the user as an error that did not come from a command. */
+    void showErrorMessage(String message);
+
 }
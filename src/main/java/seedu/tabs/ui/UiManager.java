@@ -50,6 +50,11 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showErrorMessage(String message) {
+        mainWindow.showErrorMessage(message);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
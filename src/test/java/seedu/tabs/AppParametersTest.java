@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -39,10 +40,54 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("script", "semester.txt");
+        parametersStub.unnamedParameters.add("--continue");
+        expected.setScriptPath(Paths.get("semester.txt"));
+        expected.setContinuingScriptOnError(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_noScript() {
+        parametersStub.namedParameters.put("script", "a\0");
+        expected.setScriptPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_apiPort() {
+        parametersStub.namedParameters.put("port", "8080");
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        // not a port number -> API not served
+        assertEquals(new AppParameters(), AppParameters.parse("--port=http"));
+        assertEquals(new AppParameters(), AppParameters.parse("--port=65536"));
+        assertEquals(new AppParameters(), AppParameters.parse("--port=-1"));
+    }
+
+    @Test
+    public void parse_commandLineArguments_namedAndUnnamed() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("semester.txt"));
+        expected.setContinuingScriptOnError(true);
+        assertEquals(expected, AppParameters.parse("--headless", "--config=config.json", "--script=semester.txt",
+                "--continue"));
+
+        // no arguments -> default parameters
+        assertEquals(new AppParameters(), AppParameters.parse());
+
+        // named parameter with an invalid path -> ignored
+        assertEquals(new AppParameters(), AppParameters.parse("--config=a\0"));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=null, isContinuingScriptOnError=false, apiPort=null}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,10 +111,26 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("script.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different handling of errors in the script -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setContinuingScriptOnError(true);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different API port -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setApiPort(8080);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
+        private List<String> unnamedParameters = new ArrayList<>();
 
         @Override
         public List<String> getRaw() {
@@ -78,7 +139,7 @@ public class AppParametersTest {
 
         @Override
         public List<String> getUnnamed() {
-            throw new AssertionError("should not be called");
+            return Collections.unmodifiableList(unnamedParameters);
         }
 
         @Override
@@ -0,0 +1,116 @@
+package seedu.tabs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.tabs.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tabs.commons.core.Config;
+import seedu.tabs.commons.util.ConfigUtil;
+import seedu.tabs.logic.LogicManager;
+import seedu.tabs.logic.commands.ExitCommand;
+import seedu.tabs.logic.commands.ListCommand;
+import seedu.tabs.model.ModelManager;
+import seedu.tabs.model.UserPrefs;
+import seedu.tabs.storage.JsonTAbsStorage;
+import seedu.tabs.storage.JsonUserPrefsStorage;
+import seedu.tabs.storage.StorageManager;
+import seedu.tabs.testutil.Benchmark;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream error = new ByteArrayOutputStream();
+
+    @Test
+    public void run_commands_feedbackPrintedUntilExit() throws Exception {
+        StorageManager storage = new StorageManager(new JsonTAbsStorage(temporaryFolder.resolve("tabs.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        HeadlessApp app = new HeadlessApp(new LogicManager(new ModelManager(), storage));
+
+        int failureCount = run(app, "list\n\n  \nunknown_command\nexit\nlist\n", false);
+
+        assertEquals(1, failureCount);
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS, ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), getOutput());
+        assertEquals(lines(MESSAGE_UNKNOWN_COMMAND), error.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_endOfInputWithPrompt_promptsBeforeEachCommand() throws Exception {
+        StorageManager storage = new StorageManager(new JsonTAbsStorage(temporaryFolder.resolve("tabs.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        HeadlessApp app = new HeadlessApp(new LogicManager(new ModelManager(), storage));
+
+        assertEquals(0, run(app, "list\n", true));
+        assertEquals(HeadlessApp.PROMPT + lines(ListCommand.MESSAGE_SUCCESS) + HeadlessApp.PROMPT, getOutput());
+    }
+
+    @Test
+    public void run_onLogicExecutor_commandsRunOnExecutor() throws Exception {
+        StorageManager storage = new StorageManager(new JsonTAbsStorage(temporaryFolder.resolve("tabs.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        ExecutorService logicExecutor = Executors.newSingleThreadExecutor();
+        try {
+            HeadlessApp app = new HeadlessApp(new LogicManager(new ModelManager(), storage), logicExecutor);
+
+            assertEquals(1, run(app, "list\nunknown_command\n", false));
+            assertEquals(lines(ListCommand.MESSAGE_SUCCESS), getOutput());
+            assertEquals(lines(MESSAGE_UNKNOWN_COMMAND), error.toString(StandardCharsets.UTF_8));
+        } finally {
+            logicExecutor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void benchmark_startup_freshDataFolder() throws Exception {
+        Config config = new Config();
+        config.setUserPrefsFilePath(temporaryFolder.resolve("preferences.json"));
+        Path configPath = temporaryFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configPath);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTAbsFilePath(temporaryFolder.resolve("data").resolve("tabs.json"));
+        new JsonUserPrefsStorage(config.getUserPrefsFilePath()).saveUserPrefs(userPrefs);
+
+        // From the command-line arguments to the feedback of the first command, as a user or cron job waits for
+        long start = System.nanoTime();
+        AppComponents components = AppComponents.init(AppParameters.parse("--config=" + configPath, "--headless"));
+        run(new HeadlessApp(components.getLogic()), "list\nexit\n", false);
+        long startupMillis = (System.nanoTime() - start) / 1_000_000;
+        components.stop();
+
+        System.out.printf("Headless startup and first command: %d ms%n", startupMillis);
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS, ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), getOutput());
+    }
+
+    private int run(HeadlessApp app, String input, boolean isPrompting) throws Exception {
+        return app.run(new BufferedReader(new StringReader(input)),
+                new PrintStream(output, true, StandardCharsets.UTF_8),
+                new PrintStream(error, true, StandardCharsets.UTF_8), isPrompting);
+    }
+
+    private String getOutput() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+
+}
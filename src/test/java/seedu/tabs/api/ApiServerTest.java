@@ -0,0 +1,219 @@
+package seedu.tabs.api;
+
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_A;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_B;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS1010_C303;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
+
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tabs.commons.util.JsonUtil;
+import seedu.tabs.logic.LogicManager;
+import seedu.tabs.logic.Messages;
+import seedu.tabs.model.Model;
+import seedu.tabs.model.ModelManager;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.UserPrefs;
+import seedu.tabs.model.student.Student;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+import seedu.tabs.storage.JsonTAbsStorage;
+import seedu.tabs.storage.JsonUserPrefsStorage;
+import seedu.tabs.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final int IDLE_CONNECTION_COUNT = 2000;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ExecutorService logicExecutor = Executors.newSingleThreadExecutor();
+    private Model model;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(TAbs.deepCopyOf(getTypicalTAbs()), new UserPrefs());
+        StorageManager storage = new StorageManager(new JsonTAbsStorage(temporaryFolder.resolve("tabs.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        apiServer = new ApiServer(new LogicManager(model, storage), logicExecutor);
+        apiServer.start(0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+        logicExecutor.shutdown();
+    }
+
+    @Test
+    public void getTutorials_noQuery_allTutorials() throws Exception {
+        HttpResponse<String> response = get("");
+
+        assertEquals(HTTP_OK, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+        JsonApiTutorial[] tutorials = JsonUtil.fromJsonString(response.body(), JsonApiTutorial[].class);
+        assertEquals(model.getTAbs().getTutorialList().size(), tutorials.length);
+        assertEquals(TUTORIAL_CS1010_C303.getTutorialId().id, tutorials[2].getTutorialId());
+        assertEquals("CS1010", tutorials[2].getModuleCode());
+        assertEquals(TUTORIAL_CS1010_C303.getDate().value, tutorials[2].getDate());
+        assertEquals(2, tutorials[2].getStudentCount());
+    }
+
+    @Test
+    public void getTutorials_find_matchingTutorialsWithoutChangingFilteredList() throws Exception {
+        int filteredCount = model.getFilteredTutorialList().size();
+
+        HttpResponse<String> response = get("?find=" + URLEncoder.encode("m/CS2103T", StandardCharsets.UTF_8));
+
+        assertEquals(HTTP_OK, response.statusCode());
+        JsonApiTutorial[] tutorials = JsonUtil.fromJsonString(response.body(), JsonApiTutorial[].class);
+        assertEquals(1, tutorials.length);
+        assertEquals(TUTORIAL_CS2103T_A101.getTutorialId().id, tutorials[0].getTutorialId());
+        assertEquals(filteredCount, model.getFilteredTutorialList().size());
+    }
+
+    @Test
+    public void getTutorials_invalidFind_badRequest() throws Exception {
+        assertEquals(HTTP_BAD_REQUEST, get("?find=").statusCode());
+        assertEquals(HTTP_BAD_REQUEST, get("?find=" + URLEncoder.encode("x/CS", StandardCharsets.UTF_8))
+                .statusCode());
+    }
+
+    @Test
+    public void getStudents_existingTutorial_studentsWithAttendance() throws Exception {
+        HttpResponse<String> response = get("/C303/students");
+
+        assertEquals(HTTP_OK, response.statusCode());
+        JsonApiStudent[] students = JsonUtil.fromJsonString(response.body(), JsonApiStudent[].class);
+        assertEquals(List.of(VALID_STUDENT_A, VALID_STUDENT_B),
+                Arrays.stream(students).map(JsonApiStudent::getStudentId).toList());
+        assertFalse(students[0].isPresent());
+    }
+
+    @Test
+    public void getStudents_invalidOrMissingTutorial_errorWithMessage() throws Exception {
+        HttpResponse<String> response = get("/Z999/students");
+        assertEquals(HTTP_NOT_FOUND, response.statusCode());
+        assertEquals(Messages.MESSAGE_TUTORIAL_ID_NOT_FOUND, messageOf(response));
+
+        response = get("/not-an-id!/students");
+        assertEquals(HTTP_BAD_REQUEST, response.statusCode());
+        assertEquals(TutorialId.MESSAGE_CONSTRAINTS, messageOf(response));
+    }
+
+    @Test
+    public void markAndUnmark_validStudents_attendanceChangedAndSaved() throws Exception {
+        HttpResponse<String> response = post("/C303/mark", "{\"studentIds\": [\"" + VALID_STUDENT_B + "\"]}");
+
+        assertEquals(HTTP_OK, response.statusCode());
+        assertTrue(messageOf(response).contains(VALID_STUDENT_B));
+        assertTrue(isPresent("C303", VALID_STUDENT_B));
+        assertFalse(isPresent("C303", VALID_STUDENT_A));
+        assertTrue(temporaryFolder.resolve("tabs.json").toFile().exists());
+
+        response = post("/C303/unmark", "{\"studentIds\": [\"" + VALID_STUDENT_B + "\"]}");
+        assertEquals(HTTP_OK, response.statusCode());
+        assertFalse(isPresent("C303", VALID_STUDENT_B));
+    }
+
+    @Test
+    public void markAndUnmark_filteredList_filterKept() throws Exception {
+        model.updateFilteredTutorialList(tutorial -> tutorial.getTutorialId().id.equals("A101"));
+        String body = "{\"studentIds\": [\"" + VALID_STUDENT_B + "\"]}";
+
+        assertEquals(HTTP_OK, post("/C303/mark", body).statusCode());
+        assertEquals(HTTP_OK, post("/C303/unmark", body).statusCode());
+
+        assertEquals(List.of(TUTORIAL_CS2103T_A101), model.getFilteredTutorialList());
+    }
+
+    @Test
+    public void mark_invalidRequest_badRequestAndUnchanged() throws Exception {
+        assertEquals(HTTP_BAD_REQUEST, post("/C303/mark", "not json").statusCode());
+        assertEquals(HTTP_BAD_REQUEST, post("/C303/mark", "{\"studentIds\": []}").statusCode());
+
+        // a student ID that would add a prefix to the command
+        HttpResponse<String> response = post("/C303/mark", "{\"studentIds\": [\"" + VALID_STUDENT_B + " t/A101\"]}");
+        assertEquals(HTTP_BAD_REQUEST, response.statusCode());
+        assertEquals(Student.MESSAGE_CONSTRAINTS, messageOf(response));
+
+        // a student not in the tutorial fails as the command does
+        assertEquals(HTTP_BAD_REQUEST, post("/A101/mark", "{\"studentIds\": [\"A0000000A\"]}").statusCode());
+
+        assertFalse(isPresent("C303", VALID_STUDENT_B));
+    }
+
+    @Test
+    public void route_unknownEndpointOrMethod_error() throws Exception {
+        assertEquals(HTTP_NOT_FOUND, get("/C303").statusCode());
+        assertEquals(HTTP_NOT_FOUND, get("/C303/grades").statusCode());
+        assertEquals(HTTP_BAD_METHOD, get("/C303/mark").statusCode());
+        assertEquals(HTTP_BAD_METHOD, post("", "{}").statusCode());
+    }
+
+    @Test
+    public void serve_thousandsOfIdleConnections_stillAnswers() throws Exception {
+        URI uri = apiServer.getUri();
+        List<Socket> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < IDLE_CONNECTION_COUNT; i++) {
+                connections.add(new Socket(uri.getHost(), uri.getPort()));
+            }
+            assertEquals(HTTP_OK, get("").statusCode());
+        } finally {
+            for (Socket connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    private boolean isPresent(String tutorialId, String studentId) {
+        Tutorial tutorial = model.findTutorial(new TutorialId(tutorialId)).orElseThrow();
+        return tutorial.getRoster().isPresent(tutorial.getRoster().indexOf(studentId));
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(apiServer.getUri() + pathAndQuery)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiServer.getUri() + path))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String messageOf(HttpResponse<String> response) throws Exception {
+        return JsonUtil.fromJsonString(response.body(), JsonApiMessage.class).getMessage();
+    }
+
+}
@@ -1,13 +1,23 @@
 package seedu.tabs.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tabs.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,59 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_contentsReplaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "first version");
+        FileUtil.writeToFile(file, "second");
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 1)));
+        assertFalse(Files.exists(testFolder.resolve("file.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void replaceFile_existingTarget_contentsReplaced() throws Exception {
+        Path source = testFolder.resolve("file.txt.new");
+        Path target = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(target, "old");
+        FileUtil.writeToFile(source, "new");
+
+        FileUtil.replaceFile(source, target);
+
+        assertEquals("new", FileUtil.readFromFile(target));
+        assertFalse(Files.exists(source));
+    }
+
+    @Test
+    public void writeToFileAtomically_manyWrites_keepsNewestBackups() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        for (int i = 1; i <= 5; i++) {
+            FileUtil.writeToFileAtomically(file, 2, writerOf("version " + i));
+        }
+
+        assertEquals("version 5", FileUtil.readFromFile(file));
+        assertEquals("version 4", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 3)));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_fileAndBackupsUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, 2, writerOf("old"));
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, 2, channel -> {
+            channel.write(ByteBuffer.wrap("partial".getBytes()));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 1)));
+    }
+
+    private static FileUtil.ChannelWriter writerOf(String content) {
+        return channel -> channel.write(ByteBuffer.wrap(content.getBytes()));
+    }
+
 }
@@ -140,4 +140,25 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for isAsciiLetter and isAsciiDigits --------------------------------------
+
+    @Test
+    public void isAsciiLetter() {
+        assertTrue(StringUtil.isAsciiLetter('A'));
+        assertTrue(StringUtil.isAsciiLetter('z'));
+        assertFalse(StringUtil.isAsciiLetter('@')); // just before 'A'
+        assertFalse(StringUtil.isAsciiLetter('[')); // just after 'Z'
+        assertFalse(StringUtil.isAsciiLetter('1'));
+        assertFalse(StringUtil.isAsciiLetter('\u0131')); // dotless i, upper cased to 'I'
+    }
+
+    @Test
+    public void isAsciiDigits() {
+        assertTrue(StringUtil.isAsciiDigits("a0123456789", 1, 11));
+        assertTrue(StringUtil.isAsciiDigits("abc", 1, 1)); // no characters
+        assertFalse(StringUtil.isAsciiDigits("12a4", 0, 4));
+        assertFalse(StringUtil.isAsciiDigits("1/:", 0, 3)); // just before and after '0' to '9'
+        assertFalse(StringUtil.isAsciiDigits("\u0661", 0, 1)); // an Arabic-Indic digit
+    }
+
 }
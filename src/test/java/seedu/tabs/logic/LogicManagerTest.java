@@ -10,7 +10,9 @@ import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_TEST_C123;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.tabs.logic.commands.AddTutorialCommand;
 import seedu.tabs.logic.commands.CommandResult;
 import seedu.tabs.logic.commands.ListCommand;
+import seedu.tabs.logic.commands.RunScriptCommand;
 import seedu.tabs.logic.commands.exceptions.CommandException;
 import seedu.tabs.logic.parser.exceptions.ParseException;
 import seedu.tabs.model.Model;
@@ -80,6 +83,57 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandsWithoutChanges_skipsSave() throws Exception {
+        int[] saveCount = new int[1];
+        JsonTAbsStorage tabsStorage = new JsonTAbsStorage(temporaryFolder.resolve("tabs.json")) {
+            @Override
+            public void saveTAbs(ReadOnlyTAbs tabs, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveTAbs(tabs, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(tabsStorage, userPrefsStorage));
+
+        // The first command always saves so that a missing data file is created
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(AddTutorialCommand.COMMAND_WORD + TUTORIAL_DESC_C123 + MODULE_CODE_DESC_CS2103T
+                + DATE_DESC_C123);
+        assertEquals(2, saveCount[0]);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_runScript_savesOnce() throws Exception {
+        int[] saveCount = new int[1];
+        JsonTAbsStorage tabsStorage = new JsonTAbsStorage(temporaryFolder.resolve("tabs.json")) {
+            @Override
+            public void saveTAbs(ReadOnlyTAbs tabs, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveTAbs(tabs, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(tabsStorage, userPrefsStorage));
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(
+                AddTutorialCommand.COMMAND_WORD + TUTORIAL_DESC_C123 + MODULE_CODE_DESC_CS2103T + DATE_DESC_C123,
+                "mark_all" + TUTORIAL_DESC_C123,
+                "copy_tutorial t/C124 from/C123 d/2025-03-01"));
+
+        logic.execute(RunScriptCommand.COMMAND_WORD + " " + scriptPath);
+        assertEquals(1, saveCount[0]);
+        assertEquals(2, model.getTAbs().getTutorialList().size());
+    }
+
     @Test
     public void getFilteredTutorialList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredTutorialList().remove(0));
@@ -19,7 +19,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -29,12 +31,14 @@ import javafx.collections.ObservableList;
 import seedu.tabs.commons.core.GuiSettings;
 import seedu.tabs.logic.Messages;
 import seedu.tabs.logic.commands.exceptions.CommandException;
+import seedu.tabs.model.AttendanceSummary;
 import seedu.tabs.model.Model;
 import seedu.tabs.model.ReadOnlyTAbs;
 import seedu.tabs.model.ReadOnlyUserPrefs;
 import seedu.tabs.model.TAbs;
 import seedu.tabs.model.student.Student;
 import seedu.tabs.model.tutorial.Date;
+import seedu.tabs.model.tutorial.ModuleCode;
 import seedu.tabs.model.tutorial.Tutorial;
 import seedu.tabs.model.tutorial.TutorialId;
 import seedu.tabs.model.tutorial.TutorialIdMatchesKeywordPredicate;
@@ -110,6 +114,16 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Tutorial> findTutorial(TutorialId aTutorialId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getTAbsVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteTutorial(Tutorial target) {
             throw new AssertionError("This method should not be called.");
@@ -129,6 +143,56 @@ public class AddStudentCommandTest {
         public void updateFilteredTutorialList(Predicate<Tutorial> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Tutorial> getTutorialsByModuleCode(ModuleCode moduleCode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Tutorial> getTutorialsByModuleCodePrefix(String prefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<ModuleCode> getModuleCodes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Tutorial> getTutorialsBetween(Date start, Date end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Tutorial> getTutorialsOfStudent(Student student) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AttendanceSummary getAttendanceSummary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AttendanceSummary getAttendanceSummary(ModuleCode moduleCode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addAttendanceSummaryListener(Consumer<AttendanceSummary> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Tutorial> getTutorialsByTutorialIdSubstring(String substring) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Tutorial> getTutorialsByModuleCodeSubstring(String substring) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -155,6 +219,11 @@ public class AddStudentCommandTest {
             return tAbs;
         }
 
+        @Override
+        public Optional<Tutorial> findTutorial(TutorialId aTutorialId) {
+            return tAbs.findTutorial(aTutorialId);
+        }
+
         @Override
         public ObservableList<Tutorial> getFilteredTutorialList() {
             return filtered;
@@ -3,22 +3,27 @@ package seedu.tabs.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.tabs.logic.commands.CommandTestUtil.NON_EXISTENT_TUTORIAL_ID;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_MODULE_CODE_CS2103T;
 import static seedu.tabs.logic.commands.CommandTestUtil.VALID_MODULE_CODE_MA1521;
 import static seedu.tabs.logic.commands.CommandTestUtil.VALID_TUTORIAL_T456;
 import static seedu.tabs.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.tabs.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.tabs.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.tabs.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_MA1521_B202;
 import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.tabs.logic.Messages;
 import seedu.tabs.logic.commands.EditTutorialCommand.EditTutorialDescriptor;
+import seedu.tabs.model.AttendanceSummary;
 import seedu.tabs.model.Model;
 import seedu.tabs.model.ModelManager;
 import seedu.tabs.model.TAbs;
 import seedu.tabs.model.UserPrefs;
+import seedu.tabs.model.tutorial.ModuleCode;
 import seedu.tabs.model.tutorial.Tutorial;
 import seedu.tabs.model.tutorial.TutorialIdMatchesKeywordPredicate;
 import seedu.tabs.testutil.EditTutorialDescriptorBuilder;
@@ -120,6 +125,49 @@ public class EditTutorialCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_moduleCodeChanged_attendanceSummariesOfBothModulesUpdated() throws Exception {
+        ModuleCode cs2103t = new ModuleCode(VALID_MODULE_CODE_CS2103T);
+        ModuleCode ma1521 = new ModuleCode(VALID_MODULE_CODE_MA1521);
+        AttendanceSummary cs2103tSummary = model.getAttendanceSummary(cs2103t);
+        AttendanceSummary ma1521Summary = model.getAttendanceSummary(ma1521);
+        AttendanceSummary summary = model.getAttendanceSummary();
+        assertEquals(1, cs2103tSummary.getNumberOfTutorials());
+        assertEquals(1, ma1521Summary.getNumberOfTutorials());
+
+        new EditTutorialCommand(new TutorialIdMatchesKeywordPredicate(TUTORIAL_CS2103T_A101.getTutorialId().id),
+                new EditTutorialDescriptorBuilder().withModuleCode(VALID_MODULE_CODE_MA1521).build()).execute(model);
+
+        assertEquals(AttendanceSummary.EMPTY, model.getAttendanceSummary(cs2103t));
+        assertEquals(new AttendanceSummary(2,
+                cs2103tSummary.getNumberOfStudents() + ma1521Summary.getNumberOfStudents(),
+                cs2103tSummary.getNumberOfPresentStudents() + ma1521Summary.getNumberOfPresentStudents()),
+                model.getAttendanceSummary(ma1521));
+        assertEquals(summary, model.getAttendanceSummary());
+    }
+
+    @Test
+    public void execute_moduleCodeAndIdChangedToNewModule_attendanceSummaryMovedToNewModule() throws Exception {
+        ModuleCode ma1521 = new ModuleCode(VALID_MODULE_CODE_MA1521);
+        ModuleCode newModuleCode = new ModuleCode("CS9999");
+        AttendanceSummary ma1521Summary = model.getAttendanceSummary(ma1521);
+        assertEquals(1, ma1521Summary.getNumberOfTutorials());
+
+        new EditTutorialCommand(new TutorialIdMatchesKeywordPredicate(TUTORIAL_MA1521_B202.getTutorialId().id),
+                new EditTutorialDescriptorBuilder().withId(VALID_TUTORIAL_T456).withModuleCode("CS9999").build())
+                .execute(model);
+
+        assertEquals(AttendanceSummary.EMPTY, model.getAttendanceSummary(ma1521));
+        assertEquals(ma1521Summary, model.getAttendanceSummary(newModuleCode));
+
+        // Moving it back restores the totals of the original module
+        new EditTutorialCommand(new TutorialIdMatchesKeywordPredicate(VALID_TUTORIAL_T456),
+                new EditTutorialDescriptorBuilder().withModuleCode(VALID_MODULE_CODE_MA1521).build()).execute(model);
+
+        assertEquals(ma1521Summary, model.getAttendanceSummary(ma1521));
+        assertEquals(AttendanceSummary.EMPTY, model.getAttendanceSummary(newModuleCode));
+    }
+
     @Test
     public void execute_duplicateTutorial_failure() {
         // Edit the second tutorial to be identical to the first -> duplicate
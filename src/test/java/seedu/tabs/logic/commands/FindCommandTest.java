@@ -11,21 +11,33 @@ import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
 import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_MA2001_F606;
 import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.tabs.model.Model;
 import seedu.tabs.model.ModelManager;
+import seedu.tabs.model.TAbs;
 import seedu.tabs.model.UserPrefs;
+import seedu.tabs.model.tutorial.Date;
+import seedu.tabs.model.tutorial.ModuleCode;
 import seedu.tabs.model.tutorial.ModuleCodeContainsKeywordsPredicate;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
 import seedu.tabs.model.tutorial.TutorialIdContainsKeywordsPredicate;
+import seedu.tabs.testutil.Benchmark;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
  */
 public class FindCommandTest {
+    private static final int BENCHMARK_TUTORIAL_COUNT = 100_000;
+
     private Model model = new ModelManager(getTypicalTAbs(), new UserPrefs());
     private Model expectedModel = new ModelManager(getTypicalTAbs(), new UserPrefs());
 
@@ -127,6 +139,46 @@ public class FindCommandTest {
                 model.getFilteredTutorialList());
     }
 
+    @Benchmark
+    public void benchmark_indexedAgainstScan() throws Exception {
+        TAbs tabs = new TAbs();
+        List<Tutorial> tutorials = new ArrayList<>(BENCHMARK_TUTORIAL_COUNT);
+        for (int i = 0; i < BENCHMARK_TUTORIAL_COUNT; i++) {
+            tutorials.add(new Tutorial(new TutorialId("T" + i), new ModuleCode("CS" + (1000 + i % 500)),
+                    new Date("2025-01-15"), Set.of()));
+        }
+        tabs.addTutorials(tutorials);
+        Model largeModel = new ModelManager(tabs, new UserPrefs());
+
+        List<Predicate<Tutorial>> predicates = List.of(
+                prepareTutorialIdPredicate("T4242 T99999"),
+                prepareModuleCodePredicate("cs1234"));
+        for (Predicate<Tutorial> predicate : predicates) {
+            // Check that both ways find the same tutorials, which also warms up both before they are timed
+            largeModel.updateFilteredTutorialList(predicate);
+            List<Tutorial> scanned = List.copyOf(largeModel.getFilteredTutorialList());
+            new FindCommand(predicate).execute(largeModel);
+            assertEquals(scanned, largeModel.getFilteredTutorialList());
+
+            long scanNanos = Long.MAX_VALUE;
+            long indexedNanos = Long.MAX_VALUE;
+            for (int run = 0; run < 5; run++) {
+                // A new predicate object each run, as the filtered list is only refiltered when its predicate changes
+                long start = System.nanoTime();
+                largeModel.updateFilteredTutorialList(predicate::test);
+                largeModel.getFilteredTutorialList().size();
+                scanNanos = Math.min(scanNanos, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                new FindCommand(predicate).execute(largeModel);
+                indexedNanos = Math.min(indexedNanos, System.nanoTime() - start);
+            }
+
+            System.out.printf("find %s in 100k tutorials: scan %.2f ms, trigram index %.2f ms (%.1fx)%n",
+                    predicate, scanNanos / 1e6, indexedNanos / 1e6, (double) scanNanos / indexedNanos);
+        }
+    }
+
     @Test
     public void toStringMethod() {
         TutorialIdContainsKeywordsPredicate predicate =
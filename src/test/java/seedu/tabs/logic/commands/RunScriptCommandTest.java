@@ -0,0 +1,152 @@
+package seedu.tabs.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.tabs.logic.commands.RunScriptCommand.MESSAGE_ABORTED;
+import static seedu.tabs.logic.commands.RunScriptCommand.MESSAGE_FAILED_LINE;
+import static seedu.tabs.logic.commands.RunScriptCommand.MESSAGE_NESTED_SCRIPT;
+import static seedu.tabs.logic.commands.RunScriptCommand.MESSAGE_SKIPPED_FAILURES;
+import static seedu.tabs.logic.commands.RunScriptCommand.MESSAGE_SUCCESS;
+import static seedu.tabs.testutil.Assert.assertThrows;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tabs.logic.commands.exceptions.CommandException;
+import seedu.tabs.model.Model;
+import seedu.tabs.model.ModelManager;
+import seedu.tabs.model.UserPrefs;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+
+public class RunScriptCommandTest {
+
+    private static final String ADD_TUTORIAL = "add_tutorial t/Z1 m/CS2103T d/2025-03-01 id/A1111111A id/A2222222B";
+    private static final String COPY_TUTORIAL = "copy_tutorial t/Z2 from/Z1 d/2025-03-08";
+    private static final String MARK_STUDENT = "mark id/A1111111A t/Z2";
+    private static final String MARK_ALL_TYPICAL = "mark_all t/A101";
+    private static final String ADD_DUPLICATE_TUTORIAL = "add_tutorial t/A101 m/CS2103T d/2025-03-01";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalTAbs(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunScriptCommand(null, false));
+    }
+
+    @Test
+    public void execute_validScript_allCommandsApplied() throws Exception {
+        Path scriptPath = writeScript("# Set up the semester", ADD_TUTORIAL, "", COPY_TUTORIAL, "  " + MARK_STUDENT);
+        long versionBefore = model.getTAbsVersion();
+
+        CommandResult result = new RunScriptCommand(scriptPath, false).execute(model);
+
+        assertEquals(String.format(MESSAGE_SUCCESS, 3, scriptPath), result.getFeedbackToUser());
+        // The TAbs is replaced once, however many commands the script has
+        assertEquals(versionBefore + 1, model.getTAbsVersion());
+        assertEquals(getTypicalTAbs().getTutorialList().size() + 2, model.getFilteredTutorialList().size());
+        Tutorial copiedTutorial = model.findTutorial(new TutorialId("Z2")).get();
+        assertEquals(2, copiedTutorial.getNumberOfStudents());
+        assertEquals(1, copiedTutorial.getNumberOfPresentStudents());
+        assertEquals(0, model.findTutorial(new TutorialId("Z1")).get().getNumberOfPresentStudents());
+    }
+
+    @Test
+    public void execute_failingCommand_noChanges() throws Exception {
+        Path scriptPath = writeScript(MARK_ALL_TYPICAL, ADD_DUPLICATE_TUTORIAL, ADD_TUTORIAL);
+        String failure = String.format(MESSAGE_FAILED_LINE, 2, ADD_DUPLICATE_TUTORIAL,
+                AddTutorialCommand.MESSAGE_DUPLICATE_TUTORIAL);
+        Tutorial typicalTutorial = model.findTutorial(new TutorialId("A101")).get();
+
+        assertCommandFailure(new RunScriptCommand(scriptPath, false), model,
+                String.format(MESSAGE_ABORTED, scriptPath, failure));
+        // Students marked by the script before it failed are not marked in the TAbs
+        assertEquals(0, typicalTutorial.getNumberOfPresentStudents());
+        assertFalse(model.findTutorial(new TutorialId("Z1")).isPresent());
+    }
+
+    @Test
+    public void execute_failingCommandContinuingOnError_failingCommandSkipped() throws Exception {
+        Path scriptPath = writeScript(ADD_TUTORIAL, ADD_DUPLICATE_TUTORIAL, "unknown_command", COPY_TUTORIAL);
+
+        CommandResult result = new RunScriptCommand(scriptPath, true).execute(model);
+
+        String failures = String.format(MESSAGE_FAILED_LINE, 2, ADD_DUPLICATE_TUTORIAL,
+                AddTutorialCommand.MESSAGE_DUPLICATE_TUTORIAL) + "\n"
+                + String.format(MESSAGE_FAILED_LINE, 3, "unknown_command", "Unknown command");
+        assertEquals(String.format(MESSAGE_SKIPPED_FAILURES, 2, scriptPath, 2, failures),
+                result.getFeedbackToUser());
+        assertTrue(model.findTutorial(new TutorialId("Z1")).isPresent());
+        assertTrue(model.findTutorial(new TutorialId("Z2")).isPresent());
+    }
+
+    @Test
+    public void execute_scriptRunningScript_noChanges() throws Exception {
+        Path scriptPath = writeScript(ADD_TUTORIAL, RunScriptCommand.COMMAND_WORD + " other.txt");
+        String failure = String.format(MESSAGE_FAILED_LINE, 2, RunScriptCommand.COMMAND_WORD + " other.txt",
+                MESSAGE_NESTED_SCRIPT);
+
+        assertCommandFailure(new RunScriptCommand(scriptPath, false), model,
+                String.format(MESSAGE_ABORTED, scriptPath, failure));
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path scriptPath = temporaryFolder.resolve("missing.txt");
+        assertThrows(CommandException.class, () -> new RunScriptCommand(scriptPath, false).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand runScriptCommand = new RunScriptCommand(Paths.get("a.txt"), false);
+
+        // same values -> returns true
+        assertTrue(runScriptCommand.equals(new RunScriptCommand(Paths.get("a.txt"), false)));
+
+        // same object -> returns true
+        assertTrue(runScriptCommand.equals(runScriptCommand));
+
+        // null -> returns false
+        assertFalse(runScriptCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(runScriptCommand.equals(1));
+
+        // different script -> returns false
+        assertFalse(runScriptCommand.equals(new RunScriptCommand(Paths.get("b.txt"), false)));
+
+        // different handling of errors -> returns false
+        assertFalse(runScriptCommand.equals(new RunScriptCommand(Paths.get("a.txt"), true)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RunScriptCommand runScriptCommand = new RunScriptCommand(Paths.get("a.txt"), true);
+        String expected = RunScriptCommand.class.getCanonicalName() + "{scriptPath=a.txt, isContinuingOnError=true}";
+        assertEquals(expected, runScriptCommand.toString());
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, String.join("\n", lines).getBytes());
+        return scriptPath;
+    }
+
+}
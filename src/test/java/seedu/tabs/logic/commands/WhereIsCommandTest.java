@@ -0,0 +1,86 @@
+package seedu.tabs.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_A;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_B;
+import static seedu.tabs.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tabs.model.Model;
+import seedu.tabs.model.ModelManager;
+import seedu.tabs.model.UserPrefs;
+import seedu.tabs.model.student.Student;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.testutil.TutorialBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code WhereIsCommand}.
+ */
+public class WhereIsCommandTest {
+
+    private static final Student STUDENT_A = new Student(VALID_STUDENT_A);
+    private static final Student STUDENT_B = new Student(VALID_STUDENT_B);
+    private static final Student STUDENT_NOT_ENROLLED = new Student("A0000000Z");
+
+    private Model model = new ModelManager(getTypicalTAbs(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalTAbs(), new UserPrefs());
+
+    @Test
+    public void execute_manyStudents_listsTutorialsOfEach() {
+        WhereIsCommand command = new WhereIsCommand(List.of(STUDENT_B, STUDENT_NOT_ENROLLED, STUDENT_A));
+        String expectedMessage = String.format(WhereIsCommand.MESSAGE_STUDENT_TUTORIALS, VALID_STUDENT_B,
+                "C303 (CS1010)") + "\n"
+                + String.format(WhereIsCommand.MESSAGE_STUDENT_NOT_IN_TUTORIALS, "A0000000Z") + "\n"
+                + String.format(WhereIsCommand.MESSAGE_STUDENT_TUTORIALS, VALID_STUDENT_A,
+                "A101 (CS2103T), B202 (MA1521), C303 (CS1010), D404 (ST2334)");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_tutorialsChangedAfterLookup_reflectsChanges() {
+        new WhereIsCommand(List.of(STUDENT_B)).execute(model);
+
+        Tutorial c303 = model.getTutorialsOfStudent(STUDENT_B).get(0);
+        model.setTutorial(c303, new TutorialBuilder(c303).withStudents(VALID_STUDENT_A).build());
+        model.addTutorial(new TutorialBuilder().withId("Z1").withModuleCode("CS2101")
+                .withStudents(VALID_STUDENT_B).build());
+
+        String expectedMessage = String.format(WhereIsCommand.MESSAGE_STUDENT_TUTORIALS, VALID_STUDENT_B,
+                "Z1 (CS2101)");
+        assertEquals(expectedMessage, new WhereIsCommand(List.of(STUDENT_B)).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        WhereIsCommand whereIsACommand = new WhereIsCommand(List.of(STUDENT_A));
+        WhereIsCommand whereIsABCommand = new WhereIsCommand(List.of(STUDENT_A, STUDENT_B));
+
+        // same object -> returns true
+        assertTrue(whereIsACommand.equals(whereIsACommand));
+
+        // same values -> returns true
+        assertTrue(whereIsACommand.equals(new WhereIsCommand(List.of(new Student(VALID_STUDENT_A)))));
+
+        // different types -> returns false
+        assertFalse(whereIsACommand.equals(1));
+
+        // null -> returns false
+        assertFalse(whereIsACommand.equals(null));
+
+        // different students -> returns false
+        assertFalse(whereIsACommand.equals(whereIsABCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        WhereIsCommand command = new WhereIsCommand(List.of(STUDENT_A));
+        String expected = WhereIsCommand.class.getCanonicalName() + "{students=" + List.of(STUDENT_A) + "}";
+        assertEquals(expected, command.toString());
+    }
+}
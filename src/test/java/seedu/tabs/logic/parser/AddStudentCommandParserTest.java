@@ -0,0 +1,44 @@
+package seedu.tabs.logic.parser;
+
+import static seedu.tabs.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tabs.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tabs.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tabs.logic.commands.AddStudentCommand;
+import seedu.tabs.logic.commands.CommandTestUtil;
+import seedu.tabs.model.student.Student;
+import seedu.tabs.model.tutorial.TutorialId;
+import seedu.tabs.testutil.TypicalPredicates;
+
+public class AddStudentCommandParserTest {
+    private final AddStudentCommandParser parser = new AddStudentCommandParser();
+    private final Set<Student> studentSet = new HashSet<>(List.of(
+            new Student(CommandTestUtil.VALID_STUDENT_A)
+    ));
+
+    @Test
+    public void parse_validArgs_returnsAddStudentCommand() {
+        String userInput = CommandTestUtil.TUTORIAL_DESC_C123 + CommandTestUtil.STUDENT_DESC_A;
+        assertParseSuccess(parser, userInput,
+                new AddStudentCommand(studentSet, TypicalPredicates.PREDICATE_KEYWORD_C123));
+    }
+
+    @Test
+    public void parse_missingTutorialIdPrefix_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddStudentCommand.MESSAGE_USAGE);
+        String userInput = CommandTestUtil.VALID_TUTORIAL_C123 + CommandTestUtil.STUDENT_DESC_A;
+        assertParseFailure(parser, userInput, expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidTutorialId_failure() {
+        String userInput = CommandTestUtil.INVALID_TUTORIAL_DESC + CommandTestUtil.STUDENT_DESC_A;
+        assertParseFailure(parser, userInput, TutorialId.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -5,14 +5,22 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.tabs.testutil.Benchmark;
+
 public class ArgumentTokenizerTest {
 
     private final Prefix unknownPrefix = new Prefix("--u");
     private final Prefix pSlash = new Prefix("p/");
     private final Prefix dashT = new Prefix("-t");
     private final Prefix hatQ = new Prefix("^Q");
+    private final Prefix[] allPrefixes = CliSyntax.getAllPrefixes();
 
     @Test
     public void tokenize_emptyArgsString_noValues() {
@@ -136,6 +144,104 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenizeAllPrefix_prefixEndingAnotherPrefix_longestPrefixTaken() {
+        String argsString = " t/T01 id/A1231231Y d/2025-01-15 from/T02 tid/x";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenizeAllPrefix(argsString);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, CliSyntax.TUTORIAL_ID.prefix, "T01");
+        assertArgumentPresent(argMultimap, CliSyntax.STUDENT.prefix, "A1231231Y");
+        assertArgumentPresent(argMultimap, CliSyntax.DATE.prefix, "2025-01-15");
+        assertArgumentPresent(argMultimap, CliSyntax.FROM.prefix, "T02 tid/x");
+        assertSameAsRescanning(argsString);
+    }
+
+    @Test
+    public void tokenizeAllPrefix_sameAsRescanning() {
+        Random random = new Random(21);
+        String[] pieces = {" ", "  ", "t/", "m/", "d/", "id/", "from/", "i", "fro", "x", "\t", "/"};
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder argsString = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int j = 0; j < length; j++) {
+                argsString.append(pieces[random.nextInt(pieces.length)]);
+            }
+            assertSameAsRescanning(argsString.toString());
+        }
+    }
+
+    @Benchmark
+    public void benchmark_singlePassAgainstRescanning() {
+        for (int argumentCount : new int[] {1, 100, 5_000}) {
+            StringBuilder argsBuilder = new StringBuilder(" t/T01");
+            for (int i = 0; i < argumentCount; i++) {
+                argsBuilder.append(String.format(" id/A%07dX", i));
+            }
+            String argsString = argsBuilder.toString();
+            int repeats = Math.max(1, 50_000 / argumentCount);
+
+            // Warms up both tokenizers before they are timed
+            assertSameAsRescanning(argsString);
+            long rescanningNanos = Long.MAX_VALUE;
+            long singlePassNanos = Long.MAX_VALUE;
+            for (int run = 0; run < 5; run++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < repeats; i++) {
+                    tokenizeByRescanning(argsString, allPrefixes);
+                }
+                rescanningNanos = Math.min(rescanningNanos, (System.nanoTime() - start) / repeats);
+
+                start = System.nanoTime();
+                for (int i = 0; i < repeats; i++) {
+                    ArgumentTokenizer.tokenizeAllPrefix(argsString);
+                }
+                singlePassNanos = Math.min(singlePassNanos, (System.nanoTime() - start) / repeats);
+            }
+
+            System.out.printf("tokenize %d id/ arguments: rescanning %.1f us, single pass %.1f us (%.1fx)%n",
+                    argumentCount, rescanningNanos / 1e3, singlePassNanos / 1e3,
+                    (double) rescanningNanos / singlePassNanos);
+        }
+    }
+
+    /**
+     * Asserts that {@code argsString} is tokenized with all prefixes the same way as by rescanning it once per prefix.
+     */
+    private void assertSameAsRescanning(String argsString) {
+        ArgumentMultimap expected = tokenizeByRescanning(argsString, allPrefixes);
+        ArgumentMultimap actual = ArgumentTokenizer.tokenizeAllPrefix(argsString);
+        assertEquals(expected.getPreamble(), actual.getPreamble(), argsString);
+        for (Prefix prefix : allPrefixes) {
+            assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix), argsString);
+        }
+    }
+
+    /**
+     * Tokenizes {@code argsString} by searching it for each prefix in turn and sorting the positions found, which
+     * is how {@code ArgumentTokenizer} used to tokenize, to check against and to time against.
+     */
+    private static ArgumentMultimap tokenizeByRescanning(String argsString, Prefix... prefixes) {
+        List<Map.Entry<Integer, Prefix>> positions = new ArrayList<>();
+        for (Prefix prefix : prefixes) {
+            int prefixIndex = argsString.indexOf(" " + prefix.getPrefix());
+            while (prefixIndex != -1) {
+                positions.add(Map.entry(prefixIndex + 1, prefix));
+                prefixIndex = argsString.indexOf(" " + prefix.getPrefix(), prefixIndex + 1);
+            }
+        }
+        positions.sort(Map.Entry.comparingByKey());
+        positions.add(0, Map.entry(0, new Prefix("")));
+        positions.add(Map.entry(argsString.length(), new Prefix("")));
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        for (int i = 0; i < positions.size() - 1; i++) {
+            Prefix prefix = positions.get(i).getValue();
+            int valueStartPos = positions.get(i).getKey() + prefix.getPrefix().length();
+            argMultimap.put(prefix, argsString.substring(valueStartPos, positions.get(i + 1).getKey()).trim());
+        }
+        return argMultimap;
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
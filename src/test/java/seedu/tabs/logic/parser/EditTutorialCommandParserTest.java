@@ -2,6 +2,7 @@ package seedu.tabs.logic.parser;
 
 import static seedu.tabs.logic.commands.CommandTestUtil.DATE_DESC_C123;
 import static seedu.tabs.logic.commands.CommandTestUtil.INVALID_DATE_DESC;
+import static seedu.tabs.logic.commands.CommandTestUtil.INVALID_FROM_DESC;
 import static seedu.tabs.logic.commands.CommandTestUtil.INVALID_MODULE_CODE_DESC;
 import static seedu.tabs.logic.commands.CommandTestUtil.INVALID_TUTORIAL_DESC;
 import static seedu.tabs.logic.commands.CommandTestUtil.MODULE_CODE_DESC_CS2103T;
@@ -56,6 +57,9 @@ public class EditTutorialCommandParserTest {
 
     @Test
     public void parse_invalidValue_failure() {
+        // invalid tutorial id to edit
+        assertParseFailure(parser, INVALID_FROM_DESC + TUTORIAL_DESC_T456, TutorialId.MESSAGE_CONSTRAINTS);
+
         // invalid new tutorial id
         assertParseFailure(parser, FROM_DESC_C123 + INVALID_TUTORIAL_DESC, TutorialId.MESSAGE_CONSTRAINTS);
 
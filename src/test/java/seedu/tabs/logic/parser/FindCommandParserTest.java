@@ -6,11 +6,15 @@ import static seedu.tabs.logic.commands.CommandTestUtil.VALID_MODULE_CODE_MA1521
 import static seedu.tabs.logic.commands.CommandTestUtil.VALID_TUTORIAL_C123;
 import static seedu.tabs.logic.commands.CommandTestUtil.VALID_TUTORIAL_C2;
 import static seedu.tabs.logic.commands.CommandTestUtil.VALID_TUTORIAL_T456;
+import static seedu.tabs.logic.parser.CliSyntax.DATE;
 import static seedu.tabs.logic.parser.CliSyntax.MODULE_CODE;
 import static seedu.tabs.logic.parser.CliSyntax.TUTORIAL_ID;
 import static seedu.tabs.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.tabs.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -20,6 +24,8 @@ import org.junit.jupiter.api.Test;
 
 import seedu.tabs.logic.Messages;
 import seedu.tabs.logic.commands.FindCommand;
+import seedu.tabs.model.tutorial.Date;
+import seedu.tabs.model.tutorial.DateInRangePredicate;
 import seedu.tabs.model.tutorial.ModuleCodeAndTutorialIdContainsKeywordsPredicate;
 import seedu.tabs.model.tutorial.ModuleCodeContainsKeywordsPredicate;
 import seedu.tabs.model.tutorial.Tutorial;
@@ -149,4 +155,49 @@ public class FindCommandParserTest {
                 "Keywords should only contain alphanumeric characters (letters and digits).");
     }
 
+    @Test
+    public void parse_dateRange_returnsFindCommand() {
+        assertParseSuccess(parser, " " + DATE.prefix + "2025-03-01..2025-03-31", new FindCommand(
+                new DateInRangePredicate(new Date("2025-03-01"), new Date("2025-03-31"))));
+
+        // whitespace around the dates is ignored
+        assertParseSuccess(parser, " " + DATE.prefix + " 2025-03-01 .. 2025-03-31 ", new FindCommand(
+                new DateInRangePredicate(new Date("2025-03-01"), new Date("2025-03-31"))));
+
+        // a single date is a range of one day
+        assertParseSuccess(parser, " " + DATE.prefix + "2025-03-01", new FindCommand(
+                new DateInRangePredicate(new Date("2025-03-01"), new Date("2025-03-01"))));
+
+        // combined with another field
+        List<Predicate<Tutorial>> predicates = Arrays.asList(
+                new ModuleCodeContainsKeywordsPredicate(Collections.singletonList(VALID_MODULE_CODE_CS2103T)),
+                new DateInRangePredicate(new Date("2025-03-01"), new Date("2025-03-31")));
+        assertParseSuccess(parser, " " + MODULE_CODE.prefix + VALID_MODULE_CODE_CS2103T + " " + DATE.prefix
+                + "2025-03-01..2025-03-31", new FindCommand(new ModuleCodeAndTutorialIdContainsKeywordsPredicate(
+                        predicates)));
+    }
+
+    @Test
+    public void parse_dateRangeShortcuts_rangeAroundToday() {
+        // 2025-03-12 is a Wednesday
+        FindCommandParser fixedDateParser = new FindCommandParser(
+                Clock.fixed(Instant.parse("2025-03-12T10:00:00Z"), ZoneOffset.UTC));
+
+        assertParseSuccess(fixedDateParser, " " + DATE.prefix + "today", new FindCommand(
+                new DateInRangePredicate(new Date("2025-03-12"), new Date("2025-03-12"))));
+        assertParseSuccess(fixedDateParser, " " + DATE.prefix + "This  Week", new FindCommand(
+                new DateInRangePredicate(new Date("2025-03-10"), new Date("2025-03-16"))));
+    }
+
+    @Test
+    public void parse_invalidDateRange_failure() {
+        assertParseFailure(parser, " " + DATE.prefix + "2025-03-31..2025-03-01",
+                FindCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " " + DATE.prefix + "2025-03-01..", Date.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + DATE.prefix + "2025-02-30..2025-03-01", Date.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + DATE.prefix + "yesterday", Date.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + DATE.prefix + "2025-03-01 " + DATE.prefix + "2025-03-02",
+                Messages.getErrorMessageForDuplicatePrefixes(DATE.prefix));
+    }
+
 }
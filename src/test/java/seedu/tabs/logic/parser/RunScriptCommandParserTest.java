@@ -0,0 +1,33 @@
+package seedu.tabs.logic.parser;
+
+import static seedu.tabs.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tabs.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tabs.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tabs.logic.commands.RunScriptCommand;
+
+public class RunScriptCommandParserTest {
+
+    private RunScriptCommandParser parser = new RunScriptCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunScriptCommand() {
+        assertParseSuccess(parser, " semester.txt", new RunScriptCommand(Paths.get("semester.txt"), false));
+        assertParseSuccess(parser, "  scripts/semester 1.txt  ",
+                new RunScriptCommand(Paths.get("scripts/semester 1.txt"), false));
+        assertParseSuccess(parser, " semester.txt --continue", new RunScriptCommand(Paths.get("semester.txt"), true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " --continue", expectedMessage);
+        assertParseFailure(parser, " a\0b", expectedMessage);
+    }
+
+}
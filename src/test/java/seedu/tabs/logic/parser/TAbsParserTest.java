@@ -6,6 +6,7 @@ import static seedu.tabs.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.tabs.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.tabs.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,7 +22,10 @@ import seedu.tabs.logic.commands.ExitCommand;
 import seedu.tabs.logic.commands.FindCommand;
 import seedu.tabs.logic.commands.HelpCommand;
 import seedu.tabs.logic.commands.ListCommand;
+import seedu.tabs.logic.commands.RunScriptCommand;
+import seedu.tabs.logic.commands.WhereIsCommand;
 import seedu.tabs.logic.parser.exceptions.ParseException;
+import seedu.tabs.model.student.Student;
 import seedu.tabs.model.tutorial.Tutorial;
 import seedu.tabs.model.tutorial.TutorialIdContainsKeywordsPredicate;
 import seedu.tabs.model.tutorial.TutorialIdMatchesKeywordPredicate;
@@ -40,6 +44,13 @@ public class TAbsParserTest {
         assertEquals(new AddTutorialCommand(aTutorial), command);
     }
 
+    @Test
+    public void parseCommand_runScript() throws Exception {
+        RunScriptCommand command = (RunScriptCommand) parser.parseCommand(
+                RunScriptCommand.COMMAND_WORD + " semester.txt " + RunScriptCommand.CONTINUE_ON_ERROR_FLAG);
+        assertEquals(new RunScriptCommand(Paths.get("semester.txt"), true), command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -105,6 +116,13 @@ public class TAbsParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_whereIs() throws Exception {
+        WhereIsCommand command = (WhereIsCommand) parser.parseCommand(
+                WhereIsCommand.COMMAND_WORD + " " + CliSyntax.STUDENT + "A1231231Y " + CliSyntax.STUDENT + "A3213213Y");
+        assertEquals(new WhereIsCommand(List.of(new Student("A1231231Y"), new Student("A3213213Y"))), command);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,53 @@
+package seedu.tabs.logic.parser;
+
+import static seedu.tabs.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tabs.logic.commands.CommandTestUtil.INVALID_STUDENT_DESC;
+import static seedu.tabs.logic.commands.CommandTestUtil.STUDENT_DESC_A;
+import static seedu.tabs.logic.commands.CommandTestUtil.STUDENT_DESC_B;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_A;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_B;
+import static seedu.tabs.logic.parser.CliSyntax.TUTORIAL_ID;
+import static seedu.tabs.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tabs.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tabs.logic.Messages;
+import seedu.tabs.logic.commands.WhereIsCommand;
+import seedu.tabs.model.student.Student;
+
+public class WhereIsCommandParserTest {
+
+    private WhereIsCommandParser parser = new WhereIsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsWhereIsCommand() {
+        // one student
+        assertParseSuccess(parser, STUDENT_DESC_A, new WhereIsCommand(List.of(new Student(VALID_STUDENT_A))));
+
+        // many students, in the order given
+        assertParseSuccess(parser, STUDENT_DESC_B + STUDENT_DESC_A,
+                new WhereIsCommand(List.of(new Student(VALID_STUDENT_B), new Student(VALID_STUDENT_A))));
+
+        // repeated students are only looked up once
+        assertParseSuccess(parser, STUDENT_DESC_A + STUDENT_DESC_B + " id/" + VALID_STUDENT_A.toLowerCase(),
+                new WhereIsCommand(List.of(new Student(VALID_STUDENT_A), new Student(VALID_STUDENT_B))));
+    }
+
+    @Test
+    public void parse_missingStudent_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, WhereIsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, VALID_STUDENT_A, expectedMessage);
+        assertParseFailure(parser, "preamble" + STUDENT_DESC_A, expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, STUDENT_DESC_A + INVALID_STUDENT_DESC, Student.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, STUDENT_DESC_A + " " + TUTORIAL_ID.prefix + "T1",
+                Messages.getErrorMessageForExtraPrefixes(TUTORIAL_ID.prefix));
+    }
+}
@@ -2,7 +2,10 @@ package seedu.tabs.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_A;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_B;
 import static seedu.tabs.model.Model.PREDICATE_SHOW_ALL_TUTORIALS;
 import static seedu.tabs.testutil.Assert.assertThrows;
 import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
@@ -10,13 +13,20 @@ import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_MA1521_B202;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.tabs.commons.core.GuiSettings;
+import seedu.tabs.model.tutorial.ModuleCode;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
 import seedu.tabs.model.tutorial.TutorialIdContainsKeywordsPredicate;
 import seedu.tabs.testutil.TAbsBuilder;
+import seedu.tabs.testutil.TutorialBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +98,51 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasTutorial(TUTORIAL_CS2103T_A101));
     }
 
+    @Test
+    public void hasTutorialId_tutorialInTAbs_returnsTrue() {
+        modelManager.addTutorial(TUTORIAL_CS2103T_A101);
+        assertTrue(modelManager.hasTutorialId(TUTORIAL_CS2103T_A101.getTutorialId()));
+        assertFalse(modelManager.hasTutorialId(TUTORIAL_MA1521_B202.getTutorialId()));
+    }
+
+    @Test
+    public void findTutorial_nullTutorialId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findTutorial(null));
+    }
+
+    @Test
+    public void findTutorial_tutorialInTAbs_returnsTutorial() {
+        modelManager.addTutorial(TUTORIAL_CS2103T_A101);
+        assertEquals(Optional.of(TUTORIAL_CS2103T_A101), modelManager.findTutorial(new TutorialId("A101")));
+    }
+
+    @Test
+    public void findTutorial_tutorialNotInTAbs_returnsEmpty() {
+        modelManager.addTutorial(TUTORIAL_CS2103T_A101);
+        assertEquals(Optional.empty(), modelManager.findTutorial(TUTORIAL_MA1521_B202.getTutorialId()));
+    }
+
+    @Test
+    public void getTAbsVersion_afterModification_changes() {
+        long initialVersion = modelManager.getTAbsVersion();
+        modelManager.addTutorial(TUTORIAL_CS2103T_A101);
+        long versionAfterAdd = modelManager.getTAbsVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        modelManager.setTutorial(TUTORIAL_CS2103T_A101, TUTORIAL_CS2103T_A101);
+        assertNotEquals(versionAfterAdd, modelManager.getTAbsVersion());
+    }
+
+    @Test
+    public void getTAbsVersion_afterQueries_unchanged() {
+        modelManager.addTutorial(TUTORIAL_CS2103T_A101);
+        long version = modelManager.getTAbsVersion();
+        modelManager.hasTutorial(TUTORIAL_CS2103T_A101);
+        modelManager.findTutorial(TUTORIAL_MA1521_B202.getTutorialId());
+        modelManager.updateFilteredTutorialList(PREDICATE_SHOW_ALL_TUTORIALS);
+        assertEquals(version, modelManager.getTAbsVersion());
+    }
+
     @Test
     public void getFilteredTutorialList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredTutorialList().remove(0));
@@ -142,6 +197,55 @@ public class ModelManagerTest {
         assertFalse(originalTutorial.getStudents() == copiedTutorial.getStudents());
     }
 
+    @Test
+    public void getAttendanceSummary_updatedIncrementally() {
+        Tutorial cs2103tA101 = new TutorialBuilder().withId("A101").withModuleCode("CS2103T")
+                .withStudents(VALID_STUDENT_A, VALID_STUDENT_B).build();
+        Tutorial cs2103tB202 = new TutorialBuilder().withId("B202").withModuleCode("CS2103T")
+                .withStudents(VALID_STUDENT_A).build();
+        Tutorial ma1521C303 = new TutorialBuilder().withId("C303").withModuleCode("MA1521").withStudents().build();
+        assertEquals(AttendanceSummary.EMPTY, modelManager.getAttendanceSummary());
+        modelManager.setTAbs(new TAbsBuilder().withTutorial(cs2103tA101).withTutorial(cs2103tB202).build());
+        modelManager.addTutorial(ma1521C303);
+        assertEquals(new AttendanceSummary(3, 3, 0), modelManager.getAttendanceSummary());
+
+        // Tutorials marked in place before they are set are counted from what they last added
+        cs2103tA101.markAllStudents();
+        modelManager.setTutorial(cs2103tA101, cs2103tA101);
+        assertEquals(new AttendanceSummary(3, 3, 2), modelManager.getAttendanceSummary());
+        assertEquals(new AttendanceSummary(2, 3, 2), modelManager.getAttendanceSummary(new ModuleCode("CS2103T")));
+
+        Tutorial movedB202 = new TutorialBuilder(cs2103tB202).withModuleCode("MA1521").build();
+        modelManager.setTutorial(cs2103tB202, movedB202);
+        assertEquals(new AttendanceSummary(1, 2, 2), modelManager.getAttendanceSummary(new ModuleCode("CS2103T")));
+        assertEquals(new AttendanceSummary(2, 1, 0), modelManager.getAttendanceSummary(new ModuleCode("MA1521")));
+
+        modelManager.deleteTutorial(cs2103tA101);
+        assertEquals(new AttendanceSummary(2, 1, 0), modelManager.getAttendanceSummary());
+        assertEquals(AttendanceSummary.EMPTY, modelManager.getAttendanceSummary(new ModuleCode("CS2103T")));
+    }
+
+    @Test
+    public void addAttendanceSummaryListener_tutorialsChanged_listenerGivenNewSummary() {
+        List<AttendanceSummary> attendanceSummaries = new ArrayList<>();
+        modelManager.addAttendanceSummaryListener(attendanceSummaries::add);
+        Tutorial tutorial = new TutorialBuilder().withId("A101").withStudents(VALID_STUDENT_A, VALID_STUDENT_B).build();
+
+        modelManager.addTutorial(tutorial);
+        tutorial.markAllStudents();
+        modelManager.setTutorial(tutorial, tutorial);
+        modelManager.deleteTutorial(tutorial);
+        modelManager.setTAbs(new TAbsBuilder().withTutorial(tutorial).build());
+
+        assertEquals(Arrays.asList(new AttendanceSummary(1, 2, 0), new AttendanceSummary(1, 2, 2),
+                AttendanceSummary.EMPTY, new AttendanceSummary(1, 2, 2)), attendanceSummaries);
+    }
+
+    @Test
+    public void addAttendanceSummaryListener_nullListener_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.addAttendanceSummaryListener(null));
+    }
+
     @Test
     public void equals() {
         TAbs tabs = new TAbsBuilder().withTutorial(TUTORIAL_CS2103T_A101).withTutorial(TUTORIAL_MA1521_B202).build();
@@ -0,0 +1,101 @@
+package seedu.tabs.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_A;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_B;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS1010_C303;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_MA1521_B202;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_ST2334_D404;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTutorials;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tabs.model.student.Student;
+import seedu.tabs.model.tutorial.LazyRoster;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+import seedu.tabs.testutil.TutorialBuilder;
+
+public class StudentTutorialIndexTest {
+
+    private static final Student STUDENT_A = new Student(VALID_STUDENT_A);
+    private static final Student STUDENT_B = new Student(VALID_STUDENT_B);
+
+    private final StudentTutorialIndex index = new StudentTutorialIndex();
+
+    @Test
+    public void getTutorials_afterChanges_tutorialsOfStudent() {
+        index.setTutorials(getTypicalTutorials());
+        assertEquals(List.of(TUTORIAL_CS1010_C303), index.getTutorials(STUDENT_B));
+
+        Tutorial editedTutorial = new TutorialBuilder(TUTORIAL_CS2103T_A101).withStudents(VALID_STUDENT_B).build();
+        index.remove(TUTORIAL_CS2103T_A101);
+        index.add(editedTutorial);
+        index.remove(TUTORIAL_CS1010_C303);
+
+        assertEquals(List.of(editedTutorial), index.getTutorials(STUDENT_B));
+        assertEquals(List.of(TUTORIAL_MA1521_B202, TUTORIAL_ST2334_D404), index.getTutorials(STUDENT_A));
+        assertEquals(List.of(), index.getTutorials(new Student("A9999999Z")));
+    }
+
+    @Test
+    public void getTutorials_lazyRoster_loadedOnFirstLookupOnly() {
+        index.setTutorials(getTypicalTutorials());
+        CountingLazyRoster lazyRoster = new CountingLazyRoster(Set.of(STUDENT_B));
+        Tutorial lazyTutorial = new Tutorial(new TutorialId("Z999"),
+                TUTORIAL_CS2103T_A101.getModuleCode(), TUTORIAL_CS2103T_A101.getDate(), lazyRoster);
+        index.add(lazyTutorial);
+        assertTrue(lazyTutorial.getLazyRoster().isPresent());
+
+        assertEquals(List.of(TUTORIAL_CS1010_C303, lazyTutorial), index.getTutorials(STUDENT_B));
+        assertEquals(List.of(TUTORIAL_CS1010_C303, lazyTutorial), index.getTutorials(STUDENT_B));
+        assertEquals(1, lazyRoster.loadCount);
+    }
+
+    @Test
+    public void remove_lazyRosterNotLoaded_rosterStaysUnloaded() {
+        CountingLazyRoster lazyRoster = new CountingLazyRoster(Set.of(STUDENT_B));
+        Tutorial lazyTutorial = new Tutorial(TUTORIAL_CS2103T_A101.getTutorialId(),
+                TUTORIAL_CS2103T_A101.getModuleCode(), TUTORIAL_CS2103T_A101.getDate(), lazyRoster);
+        index.setTutorials(List.of(lazyTutorial));
+        index.remove(lazyTutorial);
+
+        assertEquals(List.of(), index.getTutorials(STUDENT_B));
+        assertEquals(0, lazyRoster.loadCount);
+    }
+
+    /**
+     * A {@code LazyRoster} that counts how many times its students are loaded.
+     */
+    private static class CountingLazyRoster implements LazyRoster {
+        private final Set<Student> students;
+        private int loadCount;
+
+        CountingLazyRoster(Set<Student> students) {
+            this.students = students;
+        }
+
+        @Override
+        public int getNumberOfStudents() {
+            return students.size();
+        }
+
+        @Override
+        public int getNumberOfPresentStudents() {
+            return 0;
+        }
+
+        @Override
+        public Set<Student> loadStudents() {
+            loadCount++;
+            return new HashSet<>(students);
+        }
+    }
+
+}
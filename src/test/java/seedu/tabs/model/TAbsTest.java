@@ -4,19 +4,27 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_A;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_B;
 import static seedu.tabs.testutil.Assert.assertThrows;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS1010_C303;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2040_E505;
 import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_MA1521_B202;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_ST2334_D404;
 import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.tabs.model.tutorial.Date;
+import seedu.tabs.model.tutorial.ModuleCode;
 import seedu.tabs.model.tutorial.Tutorial;
 import seedu.tabs.model.tutorial.exceptions.DuplicateTutorialException;
 import seedu.tabs.testutil.TutorialBuilder;
@@ -77,6 +85,132 @@ public class TAbsTest {
         assertTrue(tabs.hasTutorial(editedAlice));
     }
 
+    @Test
+    public void addTutorials_uniqueTutorials_addsAll() {
+        TAbs typicalTAbs = getTypicalTAbs();
+        tabs.addTutorials(typicalTAbs.getTutorialList());
+        assertEquals(typicalTAbs, tabs);
+    }
+
+    @Test
+    public void addTutorials_duplicateTutorials_throwsDuplicateTutorialException() {
+        List<Tutorial> newTutorials = Arrays.asList(TUTORIAL_CS2103T_A101, TUTORIAL_CS2103T_A101);
+        assertThrows(DuplicateTutorialException.class, () -> tabs.addTutorials(newTutorials));
+    }
+
+    @Test
+    public void getTutorialsByModuleCode_updatedIncrementally() {
+        Tutorial cs2103tB202 = new TutorialBuilder().withId("B202").withModuleCode("CS2103T").build();
+        tabs.addTutorial(TUTORIAL_CS2103T_A101);
+        tabs.addTutorials(List.of(cs2103tB202, TUTORIAL_CS1010_C303));
+        assertEquals(List.of(TUTORIAL_CS2103T_A101, cs2103tB202),
+                tabs.getTutorialsByModuleCode(new ModuleCode("cs2103t")));
+
+        // Editing a tutorial keeps its place among the tutorials of its module
+        Tutorial editedA101 = new TutorialBuilder(TUTORIAL_CS2103T_A101).withStudents(VALID_STUDENT_B).build();
+        tabs.setTutorial(TUTORIAL_CS2103T_A101, editedA101);
+        assertEquals(List.of(editedA101, cs2103tB202), tabs.getTutorialsByModuleCode(new ModuleCode("CS2103T")));
+
+        // Changing the module code of a tutorial moves it to the other module
+        Tutorial movedB202 = new TutorialBuilder(cs2103tB202).withModuleCode("CS1010").build();
+        tabs.setTutorial(cs2103tB202, movedB202);
+        assertEquals(List.of(editedA101), tabs.getTutorialsByModuleCode(new ModuleCode("CS2103T")));
+        assertEquals(List.of(TUTORIAL_CS1010_C303, movedB202),
+                tabs.getTutorialsByModuleCode(new ModuleCode("CS1010")));
+
+        tabs.removeTutorial(editedA101);
+        assertEquals(List.of(), tabs.getTutorialsByModuleCode(new ModuleCode("CS2103T")));
+        assertEquals(Set.of(new ModuleCode("CS1010")), tabs.getModuleCodes());
+    }
+
+    @Test
+    public void getTutorialsByModuleCodePrefix_matchingModules_orderedByModuleCode() {
+        tabs.resetData(getTypicalTAbs());
+        assertEquals(List.of(TUTORIAL_CS1010_C303, TUTORIAL_CS2040_E505, TUTORIAL_CS2103T_A101),
+                tabs.getTutorialsByModuleCodePrefix("CS"));
+        assertEquals(List.of(TUTORIAL_CS2040_E505, TUTORIAL_CS2103T_A101), tabs.getTutorialsByModuleCodePrefix("cs2"));
+        assertEquals(List.of(), tabs.getTutorialsByModuleCodePrefix("CS9"));
+    }
+
+    @Test
+    public void getTutorialsBetween_updatedIncrementally_orderedByDate() {
+        tabs.resetData(getTypicalTAbs());
+        Date start = new Date("2025-01-15");
+        Date end = new Date("2025-02-01");
+        assertEquals(List.of(TUTORIAL_MA1521_B202, TUTORIAL_CS1010_C303, TUTORIAL_ST2334_D404, TUTORIAL_CS2040_E505),
+                tabs.getTutorialsBetween(start, end));
+
+        Tutorial movedA101 = new TutorialBuilder(TUTORIAL_CS2103T_A101).withDate("2025-01-20").build();
+        tabs.setTutorial(TUTORIAL_CS2103T_A101, movedA101);
+        tabs.removeTutorial(TUTORIAL_ST2334_D404);
+        assertEquals(List.of(TUTORIAL_MA1521_B202, TUTORIAL_CS1010_C303, movedA101, TUTORIAL_CS2040_E505),
+                tabs.getTutorialsBetween(start, end));
+
+        assertEquals(List.of(), tabs.getTutorialsBetween(end, start));
+    }
+
+    @Test
+    public void getTutorialsBySubstring_updatedIncrementally() {
+        tabs.resetData(getTypicalTAbs());
+        assertEquals(Set.of(TUTORIAL_CS2103T_A101), Set.copyOf(tabs.getTutorialsByTutorialIdSubstring("a10")));
+        assertEquals(Set.of(TUTORIAL_CS2040_E505, TUTORIAL_CS2103T_A101),
+                Set.copyOf(tabs.getTutorialsByModuleCodeSubstring("cs2")));
+        assertEquals(Set.of(TUTORIAL_CS2103T_A101), Set.copyOf(tabs.getTutorialsByModuleCodeSubstring("2103T")));
+        assertEquals(List.of(), tabs.getTutorialsByModuleCodeSubstring("CS9"));
+
+        // Substrings shorter than a trigram are still matched
+        assertEquals(Set.of(TUTORIAL_MA1521_B202), Set.copyOf(tabs.getTutorialsByTutorialIdSubstring("b")));
+
+        Tutorial renamedA101 = new TutorialBuilder(TUTORIAL_CS2103T_A101).withId("Z909").withModuleCode("MA9999")
+                .build();
+        tabs.setTutorial(TUTORIAL_CS2103T_A101, renamedA101);
+        assertEquals(List.of(), tabs.getTutorialsByTutorialIdSubstring("A101"));
+        assertEquals(List.of(renamedA101), tabs.getTutorialsByTutorialIdSubstring("z909"));
+        assertEquals(Set.of(TUTORIAL_CS2040_E505), Set.copyOf(tabs.getTutorialsByModuleCodeSubstring("cs2")));
+        assertEquals(List.of(renamedA101), tabs.getTutorialsByModuleCodeSubstring("999"));
+
+        tabs.removeTutorial(renamedA101);
+        assertEquals(List.of(), tabs.getTutorialsByModuleCodeSubstring("999"));
+    }
+
+    @Test
+    public void takeChanges_singleTutorialChanges_recordedInOrder() {
+        TAbs typicalTAbs = new TAbs(getTypicalTAbs());
+        assertTrue(typicalTAbs.takeChanges().isEmpty());
+
+        Tutorial editedTutorial = new TutorialBuilder(TUTORIAL_CS1010_C303).withStudents(VALID_STUDENT_A).build();
+        typicalTAbs.setTutorial(TUTORIAL_CS1010_C303, editedTutorial);
+        typicalTAbs.removeTutorial(TUTORIAL_MA1521_B202);
+        TutorialChanges changes = typicalTAbs.takeChanges();
+
+        assertFalse(changes.isEverythingChanged());
+        assertFalse(changes.isOrderChanged());
+        assertEquals(List.of(TUTORIAL_CS1010_C303.getTutorialId(), TUTORIAL_MA1521_B202.getTutorialId()),
+                List.copyOf(changes.getTutorialIds()));
+        assertEquals(editedTutorial, changes.getTutorial(TUTORIAL_CS1010_C303.getTutorialId()).get());
+        assertFalse(changes.getTutorial(TUTORIAL_MA1521_B202.getTutorialId()).isPresent());
+        assertEquals(Set.of(TUTORIAL_CS1010_C303.getModuleCode(), TUTORIAL_MA1521_B202.getModuleCode()),
+                changes.getModuleCodes());
+
+        // Taking the changes starts recording anew
+        assertTrue(typicalTAbs.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void takeChanges_tutorialAddedBack_orderChanged() {
+        TAbs typicalTAbs = new TAbs(getTypicalTAbs());
+        typicalTAbs.removeTutorial(TUTORIAL_CS2103T_A101);
+        typicalTAbs.addTutorial(TUTORIAL_CS2103T_A101);
+        assertTrue(typicalTAbs.takeChanges().isOrderChanged());
+    }
+
+    @Test
+    public void takeChanges_allDataReplaced_everythingChanged() {
+        TAbs typicalTAbs = new TAbs(getTypicalTAbs());
+        typicalTAbs.resetData(new TAbs());
+        assertTrue(typicalTAbs.takeChanges().isEverythingChanged());
+    }
+
     @Test
     public void getTutorialList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> tabs.getTutorialList().remove(0));
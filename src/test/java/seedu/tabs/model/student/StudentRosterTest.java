@@ -0,0 +1,168 @@
+package seedu.tabs.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.testutil.Assert.assertThrows;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tabs.testutil.Benchmark;
+
+public class StudentRosterTest {
+
+    private static final int TUTORIAL_COUNT = 10_000;
+    private static final int STUDENTS_PER_TUTORIAL = 100;
+
+    @Test
+    public void pack_unpack_roundTrip() {
+        for (String studentId : List.of("A0000000A", "A1234567X", "A9999999Z")) {
+            assertEquals(studentId, StudentRoster.unpack(StudentRoster.pack(studentId)));
+        }
+        assertTrue(StudentRoster.pack("A1234567Z") < StudentRoster.pack("A1234568A"));
+    }
+
+    @Test
+    public void of_students_sortedByStudentIdWithAttendance() {
+        StudentRoster roster = StudentRoster.of(List.of(new Student("A3213213Y", true), new Student("A1231231Y"),
+                new Student("a3213213y", false)));
+
+        assertEquals(2, roster.size());
+        assertEquals("A1231231Y", roster.getStudentId(0));
+        assertFalse(roster.isPresent(0));
+        assertEquals("A3213213Y", roster.getStudentId(1));
+        assertEquals(1, roster.getNumberOfPresentStudents());
+        assertEquals(List.of(new Student("A1231231Y"), new Student("A3213213Y")), new ArrayList<>(roster));
+    }
+
+    @Test
+    public void contains() {
+        StudentRoster roster = StudentRoster.of(Set.of(new Student("A1231231Y"), new Student("A3213213Y")));
+        assertTrue(roster.contains(new Student("A1231231Y", true)));
+        assertFalse(roster.contains(new Student("A1231231Z")));
+        assertFalse(roster.contains("A1231231Y"));
+        assertTrue(roster.indexOf("A3213213Y") >= 0);
+        assertTrue(roster.indexOf("A0000000A") < 0);
+    }
+
+    @Test
+    public void equalsAndHashCode_sameAsOtherSets() {
+        Set<Student> students = new HashSet<>(List.of(new Student("A1231231Y"), new Student("A3213213Y", true)));
+        StudentRoster roster = StudentRoster.of(students);
+
+        assertEquals(students, roster);
+        assertEquals(roster, students);
+        assertEquals(students.hashCode(), roster.hashCode());
+        assertEquals(roster, StudentRoster.of(Set.of(new Student("A1231231Y", true), new Student("A3213213Y"))));
+        assertFalse(roster.equals(StudentRoster.of(Set.of(new Student("A1231231Y")))));
+    }
+
+    @Test
+    public void mark_studentOfRoster_marksRoster() {
+        StudentRoster roster = StudentRoster.of(Set.of(new Student("A1231231Y"), new Student("A3213213Y")));
+        for (Student student : roster) {
+            student.mark();
+        }
+        assertEquals(2, roster.getNumberOfPresentStudents());
+
+        roster.iterator().next().unmark();
+        assertFalse(roster.isPresent(0));
+
+        // Copies do not share attendance with the roster
+        StudentRoster copy = StudentRoster.of(roster);
+        copy.setPresent(1, false);
+        assertTrue(roster.isPresent(1));
+    }
+
+    @Test
+    public void setAllPresent_manyStudents_marksAndCountsEveryStudent() {
+        List<Student> students = new ArrayList<>();
+        for (int s = 0; s < 150; s++) {
+            students.add(new Student(String.format("A%07dX", s), s % 3 == 0));
+        }
+        StudentRoster roster = StudentRoster.of(students);
+        assertEquals(50, roster.getNumberOfPresentStudents());
+        assertEquals(List.of("A0000000X", "A0000003X"), roster.getStudentIds(true).subList(0, 2));
+        assertEquals(List.of("A0000001X", "A0000002X"), roster.getStudentIds(false).subList(0, 2));
+        assertEquals(100, roster.getStudentIds(false).size());
+
+        roster.setAllPresent(true);
+        assertEquals(150, roster.getNumberOfPresentStudents());
+        assertEquals(List.of(), roster.getStudentIds(false));
+        assertTrue(roster.iterator().next().getAttendance());
+
+        roster.setAllPresent(false);
+        assertEquals(0, roster.getNumberOfPresentStudents());
+        assertEquals(150, roster.getStudentIds(false).size());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        StudentRoster roster = StudentRoster.of(Set.of(new Student("A1231231Y")));
+        assertThrows(UnsupportedOperationException.class, () -> roster.add(new Student("A3213213Y")));
+        assertThrows(UnsupportedOperationException.class, () -> roster.remove(new Student("A3213213Y")));
+        assertThrows(UnsupportedOperationException.class, roster::clear);
+    }
+
+    @Benchmark
+    public void benchmark_footprint_rosterAgainstHashSet() {
+        long rosterBytes = measureFootprint(() -> {
+            List<StudentRoster> rosters = new ArrayList<>(TUTORIAL_COUNT);
+            for (int t = 0; t < TUTORIAL_COUNT; t++) {
+                rosters.add(StudentRoster.of(createStudents(t)));
+            }
+            return rosters;
+        });
+
+        long hashSetBytes = measureFootprint(() -> {
+            List<Set<Student>> rosters = new ArrayList<>(TUTORIAL_COUNT);
+            for (int t = 0; t < TUTORIAL_COUNT; t++) {
+                rosters.add(new HashSet<>(createStudents(t)));
+            }
+            return rosters;
+        });
+        int enrolments = TUTORIAL_COUNT * STUDENTS_PER_TUTORIAL;
+        System.out.printf("%d enrolments: HashSet<Student> %d MB (%d B each), StudentRoster %d MB (%d B each)%n",
+                enrolments, hashSetBytes >> 20, hashSetBytes / enrolments, rosterBytes >> 20,
+                rosterBytes / enrolments);
+    }
+
+    /**
+     * Returns the students of the tutorial numbered {@code tutorial}, with IDs distinct from other tutorials'.
+     */
+    private static List<Student> createStudents(int tutorial) {
+        List<Student> students = new ArrayList<>(STUDENTS_PER_TUTORIAL);
+        for (int s = 0; s < STUDENTS_PER_TUTORIAL; s++) {
+            students.add(new Student(String.format("A%07dX", tutorial * STUDENTS_PER_TUTORIAL + s), s % 2 == 0));
+        }
+        return students;
+    }
+
+    /**
+     * Returns roughly how many bytes of the heap the object created by {@code factory} takes up.
+     */
+    private static long measureFootprint(Supplier<Object> factory) {
+        long before = usedMemory();
+        Object created = factory.get();
+        long after = usedMemory();
+        // Keeps the created object reachable until it has been measured
+        Reference.reachabilityFence(created);
+        return after - before;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -4,6 +4,9 @@ import static seedu.tabs.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.tabs.testutil.Benchmark;
+import seedu.tabs.testutil.ValidatorBenchmark;
+
 public class StudentTest {
 
     @Test
@@ -23,4 +26,19 @@ public class StudentTest {
         assertThrows(NullPointerException.class, () -> Student.isValidStudentId(null));
     }
 
+    @Test
+    public void isValidStudentId_sameAsRegex() {
+        createValidatorBenchmark().assertSameAsReference();
+    }
+
+    @Benchmark
+    public void benchmark_isValidStudentId() {
+        createValidatorBenchmark().run();
+    }
+
+    private static ValidatorBenchmark createValidatorBenchmark() {
+        return new ValidatorBenchmark("isValidStudentId",
+                test -> test.toUpperCase().matches(Student.VALIDATION_REGEX), Student::isValidStudentId,
+                "A1231231Y", "a0000000a", "A9999999Z");
+    }
 }
@@ -0,0 +1,81 @@
+package seedu.tabs.model.tutorial;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tabs.model.Model;
+import seedu.tabs.model.ModelManager;
+import seedu.tabs.model.UserPrefs;
+import seedu.tabs.testutil.TutorialBuilder;
+
+public class DateInRangePredicateTest {
+
+    private static final Date JANUARY_15 = new Date("2025-01-15");
+    private static final Date JANUARY_31 = new Date("2025-01-31");
+
+    @Test
+    public void equals() {
+        DateInRangePredicate firstPredicate = new DateInRangePredicate(JANUARY_15, JANUARY_31);
+        DateInRangePredicate secondPredicate = new DateInRangePredicate(JANUARY_15, JANUARY_15);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new DateInRangePredicate(new Date("2025-01-15"), new Date("2025-01-31"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_dateInRange_returnsTrue() {
+        DateInRangePredicate predicate = new DateInRangePredicate(JANUARY_15, JANUARY_31);
+        assertTrue(predicate.test(new TutorialBuilder().withDate("2025-01-15").build()));
+        assertTrue(predicate.test(new TutorialBuilder().withDate("2025-01-20").build()));
+        assertTrue(predicate.test(new TutorialBuilder().withDate("2025-01-31").build()));
+    }
+
+    @Test
+    public void test_dateOutOfRange_returnsFalse() {
+        DateInRangePredicate predicate = new DateInRangePredicate(JANUARY_15, JANUARY_31);
+        assertFalse(predicate.test(new TutorialBuilder().withDate("2025-01-14").build()));
+        assertFalse(predicate.test(new TutorialBuilder().withDate("2025-02-01").build()));
+        assertFalse(predicate.test(new TutorialBuilder().withDate("2024-01-20").build()));
+    }
+
+    @Test
+    public void resolve_sameMatchesAsTest() {
+        Model model = new ModelManager(getTypicalTAbs(), new UserPrefs());
+        DateInRangePredicate predicate = new DateInRangePredicate(JANUARY_15, new Date("2025-02-01"));
+        Predicate<Tutorial> resolvedPredicate = predicate.resolve(model);
+        for (Tutorial tutorial : model.getTAbs().getTutorialList()) {
+            assertEquals(predicate.test(tutorial), resolvedPredicate.test(tutorial));
+        }
+
+        // Tutorials added to the model after it was resolved are still matched
+        model.addTutorial(new TutorialBuilder().withId("T09").withDate("2025-01-16").build());
+        assertTrue(resolvedPredicate.test(new TutorialBuilder().withId("T09").withDate("2025-01-16").build()));
+        assertFalse(resolvedPredicate.test(new TutorialBuilder().withDate("2025-03-16").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        DateInRangePredicate predicate = new DateInRangePredicate(JANUARY_15, JANUARY_31);
+        String expected = DateInRangePredicate.class.getCanonicalName() + "{start=" + JANUARY_15 + ", end="
+                + JANUARY_31 + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -1,13 +1,28 @@
 package seedu.tabs.model.tutorial;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tabs.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.tabs.testutil.Benchmark;
+import seedu.tabs.testutil.ValidatorBenchmark;
+
 public class DateTest {
 
+    @Test
+    public void of_equalDates_sameInstance() {
+        assertSame(Date.of("2025-01-15"), Date.of(LocalDate.of(2025, 1, 15)));
+        assertNotSame(Date.of("2025-01-15"), Date.of("2025-01-16"));
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Date(null));
@@ -111,4 +126,49 @@ public class DateTest {
         // different values -> returns false
         assertFalse(date.equals(new Date("2025-02-20")));
     }
+
+    @Test
+    public void toEpochDay_sameAsLocalDate() {
+        assertEquals(LocalDate.parse("2025-01-15").toEpochDay(), new Date("2025-01-15").toEpochDay());
+        assertEquals(LocalDate.parse("2025-01-15"), new Date("2025-01-15").toLocalDate());
+        assertEquals(new Date("2024-02-29"), Date.of(LocalDate.of(2024, 2, 29)));
+        assertThrows(IllegalArgumentException.class, () -> Date.of(LocalDate.of(2201, 1, 1)));
+    }
+
+    @Test
+    public void compareTo_orderedByDay() {
+        assertTrue(new Date("2024-12-31").compareTo(new Date("2025-01-01")) < 0);
+        assertTrue(new Date("2025-01-01").compareTo(new Date("2024-12-31")) > 0);
+        assertEquals(0, new Date("2025-01-01").compareTo(new Date("2025-01-01")));
+    }
+
+    @Test
+    public void isValidDate_sameAsParsing() {
+        createValidatorBenchmark().assertSameAsReference();
+    }
+
+    @Benchmark
+    public void benchmark_isValidDate() {
+        createValidatorBenchmark().run();
+    }
+
+    private static ValidatorBenchmark createValidatorBenchmark() {
+        return new ValidatorBenchmark("isValidDate", DateTest::isValidDateByParsing, Date::isValidDate,
+                "2025-01-15", "1998-01-01", "2200-12-31", "2024-02-29", "2025-02-28", "2025-04-30");
+    }
+
+    /**
+     * Returns if {@code test} is a valid date, by matching the regex and parsing it as {@code Date} used to.
+     */
+    private static boolean isValidDateByParsing(String test) {
+        if (!test.matches(Date.VALIDATION_REGEX)) {
+            return false;
+        }
+        try {
+            int year = LocalDate.parse(test).getYear();
+            return year >= 1998 && year <= 2200;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
 }
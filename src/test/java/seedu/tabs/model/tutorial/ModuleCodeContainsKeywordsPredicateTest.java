@@ -3,13 +3,18 @@ package seedu.tabs.model.tutorial;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.tabs.model.Model;
+import seedu.tabs.model.ModelManager;
+import seedu.tabs.model.UserPrefs;
 import seedu.tabs.testutil.TutorialBuilder;
 
 public class ModuleCodeContainsKeywordsPredicateTest {
@@ -83,6 +88,22 @@ public class ModuleCodeContainsKeywordsPredicateTest {
                 .withDate("2025-01-15").build()));
     }
 
+    @Test
+    public void resolve_sameMatchesAsTest() {
+        Model model = new ModelManager(getTypicalTAbs(), new UserPrefs());
+        ModuleCodeContainsKeywordsPredicate predicate =
+                new ModuleCodeContainsKeywordsPredicate(Arrays.asList("cs2", "1521", "EE2026"));
+        Predicate<Tutorial> resolvedPredicate = predicate.resolve(model);
+        for (Tutorial tutorial : getTypicalTAbs().getTutorialList()) {
+            assertEquals(predicate.test(tutorial), resolvedPredicate.test(tutorial));
+        }
+
+        // Tutorials of modules not in the model when resolved are still matched
+        model.addTutorial(new TutorialBuilder().withId("T09").withModuleCode("CS2101").build());
+        assertTrue(resolvedPredicate.test(new TutorialBuilder().withId("T09").withModuleCode("CS2101").build()));
+        assertFalse(resolvedPredicate.test(new TutorialBuilder().withId("T10").withModuleCode("CS1101S").build()));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
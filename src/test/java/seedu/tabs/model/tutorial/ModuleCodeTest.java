@@ -1,11 +1,16 @@
 package seedu.tabs.model.tutorial;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tabs.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.tabs.testutil.Benchmark;
+import seedu.tabs.testutil.ValidatorBenchmark;
+
 public class ModuleCodeTest {
 
     @Test
@@ -19,6 +24,13 @@ public class ModuleCodeTest {
         assertThrows(IllegalArgumentException.class, () -> new ModuleCode(invalidModuleCode));
     }
 
+    @Test
+    public void of_equalModuleCodes_sameInstance() {
+        assertSame(ModuleCode.of("CS2103T"), ModuleCode.of("cs2103t"));
+        assertNotSame(ModuleCode.of("CS2103T"), ModuleCode.of("CS2101"));
+        assertThrows(IllegalArgumentException.class, () -> ModuleCode.of("invalid"));
+    }
+
     @Test
     public void isValidModuleCode() {
         // null moduleCode
@@ -63,4 +75,20 @@ public class ModuleCodeTest {
         // different values -> returns false
         assertFalse(moduleCode.equals(new ModuleCode("MA1521")));
     }
+
+    @Test
+    public void isValidModuleCode_sameAsRegex() {
+        createValidatorBenchmark().assertSameAsReference();
+    }
+
+    @Benchmark
+    public void benchmark_isValidModuleCode() {
+        createValidatorBenchmark().run();
+    }
+
+    private static ValidatorBenchmark createValidatorBenchmark() {
+        return new ValidatorBenchmark("isValidModuleCode",
+                test -> test.toUpperCase().matches(ModuleCode.VALIDATION_REGEX), ModuleCode::isValidModuleCode,
+                "CS2103T", "ma1521", "GESS1025", "ACCT1234z");
+    }
 }
@@ -6,6 +6,9 @@ import static seedu.tabs.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.tabs.testutil.Benchmark;
+import seedu.tabs.testutil.ValidatorBenchmark;
+
 public class TutorialIdTest {
 
     @Test
@@ -79,4 +82,20 @@ public class TutorialIdTest {
         assertTrue(tutorialId.equals(new TutorialId("C123")));
         assertTrue(new TutorialId("t123").equals(new TutorialId("T123")));
     }
+
+    @Test
+    public void isValidTutorialId_sameAsRegex() {
+        createValidatorBenchmark().assertSameAsReference();
+    }
+
+    @Benchmark
+    public void benchmark_isValidTutorialId() {
+        createValidatorBenchmark().run();
+    }
+
+    private static ValidatorBenchmark createValidatorBenchmark() {
+        return new ValidatorBenchmark("isValidTutorialId",
+                test -> test.toUpperCase().matches(TutorialId.VALIDATION_REGEX), TutorialId::isValidTutorialId,
+                "T1", "c123", "A12345678");
+    }
 }
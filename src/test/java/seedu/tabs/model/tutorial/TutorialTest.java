@@ -13,8 +13,12 @@ import static seedu.tabs.testutil.Assert.assertThrows;
 import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
 import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_TEST_T456;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.tabs.model.student.Student;
 import seedu.tabs.testutil.TutorialBuilder;
 
 public class TutorialTest {
@@ -92,8 +96,91 @@ public class TutorialTest {
     public void toStringMethod() {
         String expected = Tutorial.class.getCanonicalName() + "{tutorialId=" + TUTORIAL_CS2103T_A101.getTutorialId()
                 + ", moduleCode=" + TUTORIAL_CS2103T_A101.getModuleCode()
-                + ", date=" + TUTORIAL_CS2103T_A101.getDate()
-                + ", students=" + TUTORIAL_CS2103T_A101.getStudents() + "}";
+                + ", date=" + TUTORIAL_CS2103T_A101.getDate() + "}";
         assertEquals(expected, TUTORIAL_CS2103T_A101.toString());
     }
+
+    @Test
+    public void lazyRoster_countsRead_studentsNotLoaded() {
+        CountingLazyRoster lazyRoster = new CountingLazyRoster(TUTORIAL_CS2103T_A101.getStudents());
+        Tutorial tutorial = new Tutorial(TUTORIAL_CS2103T_A101.getTutorialId(), TUTORIAL_CS2103T_A101.getModuleCode(),
+                TUTORIAL_CS2103T_A101.getDate(), lazyRoster);
+
+        assertEquals(1, tutorial.getNumberOfStudents());
+        assertEquals(0, tutorial.getNumberOfPresentStudents());
+        assertTrue(tutorial.getLazyRoster().isPresent());
+        assertEquals(0, lazyRoster.loadCount);
+    }
+
+    @Test
+    public void lazyRoster_studentsUsed_loadedOnce() {
+        CountingLazyRoster lazyRoster = new CountingLazyRoster(TUTORIAL_CS2103T_A101.getStudents());
+        Tutorial tutorial = new Tutorial(TUTORIAL_CS2103T_A101.getTutorialId(), TUTORIAL_CS2103T_A101.getModuleCode(),
+                TUTORIAL_CS2103T_A101.getDate(), lazyRoster);
+
+        assertEquals(TUTORIAL_CS2103T_A101, tutorial);
+        tutorial.markAllStudents();
+        assertEquals(1, tutorial.getNumberOfPresentStudents());
+        assertFalse(tutorial.getLazyRoster().isPresent());
+        assertEquals(1, lazyRoster.loadCount);
+    }
+
+    @Test
+    public void lazyRoster_comparedHashedAndPrinted_studentsNotLoaded() {
+        CountingLazyRoster lazyRoster = new CountingLazyRoster(TUTORIAL_CS2103T_A101.getStudents());
+        Tutorial tutorial = new Tutorial(TUTORIAL_CS2103T_A101.getTutorialId(), TUTORIAL_CS2103T_A101.getModuleCode(),
+                TUTORIAL_CS2103T_A101.getDate(), lazyRoster);
+
+        // same students yet to be loaded -> returns true
+        assertEquals(tutorial, tutorial.copy());
+
+        // different student counts -> returns false
+        assertFalse(tutorial.equals(new TutorialBuilder(TUTORIAL_CS2103T_A101)
+                .withStudents(VALID_STUDENT_A, VALID_STUDENT_B).build()));
+
+        assertEquals(TUTORIAL_CS2103T_A101.hashCode(), tutorial.hashCode());
+        assertEquals(TUTORIAL_CS2103T_A101.toString(), tutorial.toString());
+        assertEquals(0, lazyRoster.loadCount);
+    }
+
+    @Test
+    public void lazyRoster_tooManyStudents_throwsIllegalArgumentException() {
+        Set<Student> students = new HashSet<>();
+        for (int i = 0; i <= Tutorial.MAX_STUDENTS_PER_TUTORIAL; i++) {
+            students.add(new Student(String.format("A%07dZ", i)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new Tutorial(TUTORIAL_CS2103T_A101.getTutorialId(),
+                TUTORIAL_CS2103T_A101.getModuleCode(), TUTORIAL_CS2103T_A101.getDate(),
+                new CountingLazyRoster(students)));
+    }
+
+    /**
+     * A {@code LazyRoster} that counts how many times its students are loaded.
+     */
+    private static class CountingLazyRoster implements LazyRoster {
+        private final Set<Student> students;
+        private int loadCount;
+
+        CountingLazyRoster(Set<Student> students) {
+            this.students = students;
+        }
+
+        @Override
+        public int getNumberOfStudents() {
+            return students.size();
+        }
+
+        @Override
+        public int getNumberOfPresentStudents() {
+            return (int) students.stream().filter(Student::getAttendance).count();
+        }
+
+        @Override
+        public Set<Student> loadStudents() {
+            loadCount++;
+            Set<Student> copy = new HashSet<>();
+            students.forEach(student -> copy.add(new Student(student.studentId, student.getAttendance())));
+            return copy;
+        }
+    }
 }
@@ -11,6 +11,7 @@ import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_TEST_T456;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +48,46 @@ public class UniqueTutorialListTest {
         assertTrue(uniqueTutorialList.contains(editedAlice));
     }
 
+    @Test
+    public void find_nullTutorialId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueTutorialList.find(null));
+    }
+
+    @Test
+    public void find_tutorialNotInList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniqueTutorialList.find(TUTORIAL_CS2103T_A101.getTutorialId()));
+    }
+
+    @Test
+    public void find_tutorialInList_returnsTutorial() {
+        uniqueTutorialList.add(TUTORIAL_CS2103T_A101);
+        assertEquals(Optional.of(TUTORIAL_CS2103T_A101), uniqueTutorialList.find(new TutorialId("a101")));
+    }
+
+    @Test
+    public void find_afterSetTutorialWithDifferentIdentity_indexUpdated() {
+        uniqueTutorialList.add(TUTORIAL_CS2103T_A101);
+        uniqueTutorialList.setTutorial(TUTORIAL_CS2103T_A101, TUTORIAL_TEST_T456);
+        assertEquals(Optional.empty(), uniqueTutorialList.find(TUTORIAL_CS2103T_A101.getTutorialId()));
+        assertEquals(Optional.of(TUTORIAL_TEST_T456), uniqueTutorialList.find(TUTORIAL_TEST_T456.getTutorialId()));
+    }
+
+    @Test
+    public void find_afterRemove_returnsEmpty() {
+        uniqueTutorialList.add(TUTORIAL_CS2103T_A101);
+        uniqueTutorialList.remove(TUTORIAL_CS2103T_A101);
+        assertEquals(Optional.empty(), uniqueTutorialList.find(TUTORIAL_CS2103T_A101.getTutorialId()));
+        assertFalse(uniqueTutorialList.contains(TUTORIAL_CS2103T_A101));
+    }
+
+    @Test
+    public void find_afterSetTutorials_indexRebuilt() {
+        uniqueTutorialList.add(TUTORIAL_CS2103T_A101);
+        uniqueTutorialList.setTutorials(Collections.singletonList(TUTORIAL_TEST_T456));
+        assertEquals(Optional.empty(), uniqueTutorialList.find(TUTORIAL_CS2103T_A101.getTutorialId()));
+        assertEquals(Optional.of(TUTORIAL_TEST_T456), uniqueTutorialList.find(TUTORIAL_TEST_T456.getTutorialId()));
+    }
+
     @Test
     public void add_nullTutorial_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTutorialList.add(null));
@@ -170,6 +211,39 @@ public class UniqueTutorialListTest {
                 listWithDuplicateTutorials));
     }
 
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueTutorialList.addAll(null));
+    }
+
+    @Test
+    public void addAll_uniqueTutorials_appendsInOrder() {
+        uniqueTutorialList.add(TUTORIAL_CS2103T_A101);
+        uniqueTutorialList.addAll(Arrays.asList(TUTORIAL_TEST_T456, TypicalTutorials.TUTORIAL_MA1521_B202));
+        UniqueTutorialList expectedUniqueTutorialList = new UniqueTutorialList();
+        expectedUniqueTutorialList.add(TUTORIAL_CS2103T_A101);
+        expectedUniqueTutorialList.add(TUTORIAL_TEST_T456);
+        expectedUniqueTutorialList.add(TypicalTutorials.TUTORIAL_MA1521_B202);
+        assertEquals(expectedUniqueTutorialList, uniqueTutorialList);
+        assertEquals(Optional.of(TUTORIAL_TEST_T456), uniqueTutorialList.find(TUTORIAL_TEST_T456.getTutorialId()));
+    }
+
+    @Test
+    public void addAll_listWithDuplicateTutorials_throwsDuplicateTutorialException() {
+        List<Tutorial> listWithDuplicateTutorials = Arrays.asList(TUTORIAL_TEST_T456, TUTORIAL_TEST_T456);
+        assertThrows(DuplicateTutorialException.class, () -> uniqueTutorialList.addAll(listWithDuplicateTutorials));
+        assertTrue(uniqueTutorialList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void addAll_tutorialAlreadyInList_throwsDuplicateTutorialException() {
+        uniqueTutorialList.add(TUTORIAL_CS2103T_A101);
+        Tutorial editedTutorial = new TutorialBuilder(TUTORIAL_CS2103T_A101).withStudents(VALID_STUDENT_A).build();
+        assertThrows(DuplicateTutorialException.class, () ->
+                uniqueTutorialList.addAll(Arrays.asList(TUTORIAL_TEST_T456, editedTutorial)));
+        assertFalse(uniqueTutorialList.contains(TUTORIAL_TEST_T456));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> uniqueTutorialList.asUnmodifiableObservableList()
@@ -0,0 +1,55 @@
+package seedu.tabs.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.tabs.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        String first = new String("CS2103T");
+        String second = new String("CS2103T");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_returnsEachInstance() {
+        String first = new String("CS2103T");
+        String second = new String("CS2101");
+
+        assertSame(first, interner.intern(first));
+        assertSame(second, interner.intern(second));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_equalValuesFromManyThreads_returnsOneInstance() {
+        List<String> canonicalValues = IntStream.range(0, 10_000).parallel()
+                .mapToObj(i -> interner.intern(new String("CS" + (i % 10))))
+                .toList();
+
+        for (String canonicalValue : canonicalValues) {
+            assertSame(interner.intern(canonicalValue), canonicalValue);
+        }
+        assertEquals(10, interner.size());
+    }
+
+}
@@ -0,0 +1,182 @@
+package seedu.tabs.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.tabs.testutil.Assert.assertThrows;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_GE1401_H808;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_MA1521_B202;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tabs.commons.exceptions.DataLoadingException;
+import seedu.tabs.commons.util.FileUtil;
+import seedu.tabs.commons.util.JsonUtil;
+import seedu.tabs.model.ReadOnlyTAbs;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.testutil.Benchmark;
+import seedu.tabs.testutil.TutorialBuilder;
+
+public class BackupRecoveringTAbsStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BackupRecoveringTAbsStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("tabs.json");
+        storage = new BackupRecoveringTAbsStorage(new JsonTAbsStorage(filePath), FileUtil.DEFAULT_BACKUP_COUNT);
+    }
+
+    @Test
+    public void readTAbs_noFiles_emptyResult() throws Exception {
+        assertFalse(storage.readTAbs().isPresent());
+    }
+
+    @Test
+    public void readTAbs_validDataFile_dataFileUsed() throws Exception {
+        TAbs older = getTypicalTAbs();
+        older.removeTutorial(TUTORIAL_CS2103T_A101);
+        storage.saveTAbs(older);
+        storage.saveTAbs(getTypicalTAbs());
+
+        assertEquals(getTypicalTAbs(), new TAbs(storage.readTAbs().get()));
+    }
+
+    @Test
+    public void readTAbs_truncatedDataFile_newestBackupUsed() throws Exception {
+        TAbs older = getTypicalTAbs();
+        older.removeTutorial(TUTORIAL_CS2103T_A101);
+        storage.saveTAbs(new TAbs());
+        storage.saveTAbs(older);
+        storage.saveTAbs(getTypicalTAbs());
+        truncate(filePath);
+
+        assertEquals(older, new TAbs(storage.readTAbs().get()));
+    }
+
+    @Test
+    public void readTAbs_missingDataFile_newestBackupUsed() throws Exception {
+        storage.saveTAbs(getTypicalTAbs());
+        storage.saveTAbs(new TAbs());
+        Files.delete(filePath);
+
+        assertEquals(getTypicalTAbs(), new TAbs(storage.readTAbs().get()));
+    }
+
+    @Test
+    public void readTAbs_newestBackupAlsoInvalid_olderBackupUsed() throws Exception {
+        storage.saveTAbs(getTypicalTAbs());
+        storage.saveTAbs(new TAbs());
+        storage.saveTAbs(new TAbs());
+        truncate(filePath);
+        truncate(FileUtil.getBackupFilePath(filePath, 1));
+
+        assertEquals(getTypicalTAbs(), new TAbs(storage.readTAbs().get()));
+    }
+
+    @Test
+    public void readTAbs_noValidBackup_throwsDataLoadingException() throws Exception {
+        storage.saveTAbs(getTypicalTAbs());
+        storage.saveTAbs(getTypicalTAbs());
+        truncate(filePath);
+        truncate(FileUtil.getBackupFilePath(filePath, 1));
+
+        assertThrows(DataLoadingException.class, () -> storage.readTAbs());
+    }
+
+    @Test
+    public void readTAbs_binaryStorage_newestBackupUsed() throws Exception {
+        Path binaryFilePath = testFolder.resolve("tabs.bin");
+        BackupRecoveringTAbsStorage binaryStorage = new BackupRecoveringTAbsStorage(
+                new BinaryTAbsStorage(binaryFilePath), FileUtil.DEFAULT_BACKUP_COUNT);
+        binaryStorage.saveTAbs(getTypicalTAbs());
+        binaryStorage.saveTAbs(new TAbs());
+        truncate(binaryFilePath);
+
+        assertEquals(getTypicalTAbs(), new TAbs(binaryStorage.readTAbs().get()));
+    }
+
+    @Test
+    public void readTAbs_journaledStorage_journalReplayedOnNewestBackup() throws Exception {
+        JournaledTAbsStorage journaledStorage = new JournaledTAbsStorage(filePath, 2);
+        TAbs tabs = new TAbs();
+        journaledStorage.saveTAbs(tabs);
+        tabs.addTutorial(TUTORIAL_CS2103T_A101);
+        journaledStorage.saveTAbs(tabs);
+        // The second entry folds the journal into a new data file, whose backup is the empty data file
+        tabs.addTutorial(TUTORIAL_MA1521_B202);
+        journaledStorage.saveTAbs(tabs);
+        tabs.addTutorial(TUTORIAL_GE1401_H808);
+        journaledStorage.saveTAbs(tabs);
+        // Waits for the background checkpoint
+        journaledStorage.readTAbs();
+        truncate(filePath);
+
+        BackupRecoveringTAbsStorage recoveringStorage = new BackupRecoveringTAbsStorage(
+                new JournaledTAbsStorage(filePath, 2), FileUtil.DEFAULT_BACKUP_COUNT);
+        assertEquals(tabs, new TAbs(recoveringStorage.readTAbs().get()));
+    }
+
+    @Benchmark
+    public void benchmark_saveLatency() throws Exception {
+        TAbs tabs = new TAbs();
+        for (int i = 0; i < 500; i++) {
+            Tutorial tutorial = new TutorialBuilder().withId("T" + i).withStudents("A0000001B", "A0000002C").build();
+            tabs.addTutorial(tutorial);
+        }
+        JsonTAbsStorage atomicStorage = new JsonTAbsStorage(filePath);
+        JsonTAbsStorage unsafeStorage = new JsonTAbsStorage(testFolder.resolve("unsafe.json"), false, 0) {
+            @Override
+            public void saveTAbs(ReadOnlyTAbs tabs, Path filePath) {
+                try {
+                    Files.writeString(filePath, JsonUtil.toJsonString(new JsonSerializableTAbs(tabs)));
+                } catch (IOException ioe) {
+                    throw new AssertionError(ioe);
+                }
+            }
+        };
+
+        long[] atomicLatencies = measureSaveLatencies(atomicStorage, tabs, 50);
+        long[] unsafeLatencies = measureSaveLatencies(unsafeStorage, tabs, 50);
+        System.out.printf("Save latency for 500 tutorials: atomic p50 %d us, p99 %d us;"
+                + " direct write p50 %d us, p99 %d us%n",
+                percentile(atomicLatencies, 50), percentile(atomicLatencies, 99),
+                percentile(unsafeLatencies, 50), percentile(unsafeLatencies, 99));
+
+        assertEquals(tabs, new TAbs(atomicStorage.readTAbs().get()));
+    }
+
+    private static long[] measureSaveLatencies(TAbsStorage storage, TAbs tabs, int saveCount) throws Exception {
+        long[] latencies = new long[saveCount];
+        for (int i = 0; i < saveCount; i++) {
+            long start = System.nanoTime();
+            storage.saveTAbs(tabs);
+            latencies[i] = (System.nanoTime() - start) / 1000;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static long percentile(long[] sortedValues, int percentile) {
+        return sortedValues[Math.min(sortedValues.length - 1, sortedValues.length * percentile / 100)];
+    }
+
+    private static void truncate(Path file) throws Exception {
+        byte[] contents = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(contents, contents.length / 2));
+    }
+
+}
@@ -0,0 +1,156 @@
+package seedu.tabs.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.testutil.Assert.assertThrows;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tabs.commons.exceptions.DataLoadingException;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.student.Student;
+import seedu.tabs.model.tutorial.Date;
+import seedu.tabs.model.tutorial.ModuleCode;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+import seedu.tabs.testutil.Benchmark;
+
+public class BinaryTAbsStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "tabs.bin"), BinaryTAbsStorage.toBinaryFilePath(Paths.get("data", "tabs.json")));
+        assertEquals(Paths.get("tabs.bin"), BinaryTAbsStorage.toBinaryFilePath(Paths.get("tabs")));
+    }
+
+    @Test
+    public void readTAbs_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTAbsStorage(testFolder.resolve("tabs.bin")).readTAbs().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTAbs_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("tabs.bin");
+        BinaryTAbsStorage storage = new BinaryTAbsStorage(filePath);
+        TAbs original = getTypicalTAbs();
+        storage.saveTAbs(original);
+        assertEquals(original, new TAbs(storage.readTAbs().get()));
+
+        original.removeTutorial(TUTORIAL_CS2103T_A101);
+        storage.saveTAbs(original);
+        assertEquals(original, new TAbs(storage.readTAbs().get()));
+    }
+
+    @Test
+    public void readTAbs_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("tabs.json");
+        new JsonTAbsStorage(filePath).saveTAbs(getTypicalTAbs());
+        assertThrows(DataLoadingException.class, () -> new BinaryTAbsStorage(filePath).readTAbs());
+    }
+
+    @Test
+    public void readTAbs_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("tabs.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryTAbsStorage.MAGIC_NUMBER);
+            out.writeShort(BinaryTAbsStorage.FORMAT_VERSION + 1);
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryTAbsStorage(filePath).readTAbs());
+    }
+
+    @Test
+    public void readTAbs_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("tabs.bin");
+        new BinaryTAbsStorage(filePath).saveTAbs(getTypicalTAbs());
+        byte[] contents = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(contents, contents.length - 3));
+        assertThrows(DataLoadingException.class, () -> new BinaryTAbsStorage(filePath).readTAbs());
+    }
+
+    @Test
+    public void packStudent_roundTrip_sameStudentAndAttendance() throws Exception {
+        Student present = new Student("A0000001Z", true);
+        Student absent = new Student("a9999999a", false);
+
+        Student unpackedPresent = BinaryTAbsStorage.unpackStudent(BinaryTAbsStorage.packStudent(present));
+        Student unpackedAbsent = BinaryTAbsStorage.unpackStudent(BinaryTAbsStorage.packStudent(absent));
+
+        assertEquals(present, unpackedPresent);
+        assertTrue(unpackedPresent.getAttendance());
+        assertEquals(absent, unpackedAbsent);
+        assertFalse(unpackedAbsent.getAttendance());
+    }
+
+    @Benchmark
+    public void benchmark_largeDataset_smallerThanJson() throws Exception {
+        TAbs tabs = createLargeTAbs(20_000, 30);
+        Path jsonFilePath = testFolder.resolve("tabs.json");
+        Path binaryFilePath = testFolder.resolve("tabs.bin");
+        JsonTAbsStorage jsonStorage = new JsonTAbsStorage(jsonFilePath);
+        BinaryTAbsStorage binaryStorage = new BinaryTAbsStorage(binaryFilePath);
+
+        // Warm up both paths before timing them
+        jsonStorage.saveTAbs(tabs);
+        jsonStorage.readTAbs();
+        binaryStorage.saveTAbs(tabs);
+        binaryStorage.readTAbs();
+
+        long start = System.nanoTime();
+        jsonStorage.saveTAbs(tabs);
+        long jsonSaveMillis = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        TAbs fromJson = new TAbs(jsonStorage.readTAbs().get());
+        long jsonLoadMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        binaryStorage.saveTAbs(tabs);
+        long binarySaveMillis = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        TAbs fromBinary = new TAbs(binaryStorage.readTAbs().get());
+        long binaryLoadMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long jsonSize = Files.size(jsonFilePath);
+        long binarySize = Files.size(binaryFilePath);
+        System.out.printf("20k tutorials x 30 students: json %d bytes, save %d ms, load %d ms;"
+                + " binary %d bytes, save %d ms, load %d ms%n",
+                jsonSize, jsonSaveMillis, jsonLoadMillis, binarySize, binarySaveMillis, binaryLoadMillis);
+
+        assertEquals(tabs, fromJson);
+        assertEquals(tabs, fromBinary);
+        assertTrue(binarySize * 5 < jsonSize);
+    }
+
+    /**
+     * Returns a TAbs with {@code tutorialCount} tutorials across 50 modules, each with {@code studentCount} students.
+     */
+    private static TAbs createLargeTAbs(int tutorialCount, int studentCount) {
+        TAbs tabs = new TAbs();
+        LocalDate firstDate = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < tutorialCount; i++) {
+            Set<Student> students = new HashSet<>();
+            for (int j = 0; j < studentCount; j++) {
+                students.add(new Student(String.format("A%07d%c", (i * 7 + j) % 10_000_000, 'A' + j % 26), j % 2 == 0));
+            }
+            tabs.addTutorial(new Tutorial(new TutorialId("T" + i), new ModuleCode("CS" + (1000 + i % 50)),
+                    new Date(firstDate.plusDays(i % 365).toString()), students));
+        }
+        return tabs;
+    }
+
+}
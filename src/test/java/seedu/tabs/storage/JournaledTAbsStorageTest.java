@@ -0,0 +1,225 @@
+package seedu.tabs.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_B;
+import static seedu.tabs.testutil.Assert.assertThrows;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_GE1401_H808;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_MA1521_B202;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tabs.commons.exceptions.DataLoadingException;
+import seedu.tabs.model.ReadOnlyTAbs;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.testutil.TutorialBuilder;
+
+public class JournaledTAbsStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("tabs.json");
+    }
+
+    @Test
+    public void readTAbs_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledTAbsStorage(filePath).readTAbs().isPresent());
+    }
+
+    @Test
+    public void saveTAbs_firstSave_writesDataFileWithoutJournal() throws Exception {
+        JournaledTAbsStorage storage = new JournaledTAbsStorage(filePath);
+        TAbs original = getTypicalTAbs();
+        storage.saveTAbs(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new TAbs(new JsonTAbsStorage(filePath).readTAbs().get()));
+    }
+
+    @Test
+    public void saveTAbs_changesAfterRead_appendsOneEntryPerChangedTutorial() throws Exception {
+        TAbs original = getTypicalTAbs();
+        new JsonTAbsStorage(filePath).saveTAbs(original);
+        String checkpoint = Files.readString(filePath);
+
+        JournaledTAbsStorage storage = new JournaledTAbsStorage(filePath);
+        TAbs tabs = new TAbs(storage.readTAbs().get());
+        Tutorial editedTutorial = new TutorialBuilder(TUTORIAL_CS2103T_A101).withStudents(VALID_STUDENT_B).build();
+        tabs.setTutorial(TUTORIAL_CS2103T_A101, editedTutorial);
+        tabs.removeTutorial(TUTORIAL_MA1521_B202);
+        tabs.addTutorial(TUTORIAL_GE1401_H808);
+        storage.saveTAbs(tabs);
+
+        List<String> entries = Files.readAllLines(storage.getJournalFilePath());
+        assertEquals(3, entries.size());
+        assertEquals(checkpoint, Files.readString(filePath));
+        assertEquals(tabs, new TAbs(new JournaledTAbsStorage(filePath).readTAbs().get()));
+
+        // Saving again without changes appends nothing
+        storage.saveTAbs(tabs);
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void saveTAbs_lazyRosterLoading_onlyChangedTutorialsJournaled() throws Exception {
+        new JsonTAbsStorage(filePath).saveTAbs(getTypicalTAbs());
+        JournaledTAbsStorage storage = new JournaledTAbsStorage(filePath,
+                JournaledTAbsStorage.DEFAULT_CHECKPOINT_THRESHOLD, true);
+        TAbs tabs = new TAbs(storage.readTAbs().get());
+        storage.saveTAbs(tabs);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        Tutorial editedTutorial = new TutorialBuilder(TUTORIAL_CS2103T_A101).withStudents(VALID_STUDENT_B).build();
+        tabs.setTutorial(TUTORIAL_CS2103T_A101, editedTutorial);
+        storage.saveTAbs(tabs);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertTrue(tabs.getTutorialList().get(1).getLazyRoster().isPresent());
+
+        storage.flushTAbs();
+        assertEquals(tabs, new TAbs(new JsonTAbsStorage(filePath).readTAbs().get()));
+    }
+
+    @Test
+    public void saveTAbs_reorderedTutorials_writesDataFile() throws Exception {
+        JournaledTAbsStorage storage = new JournaledTAbsStorage(filePath);
+        TAbs tabs = getTypicalTAbs();
+        storage.saveTAbs(tabs);
+
+        // Deleting and re-adding a tutorial moves it to the end, which replaying the journal cannot reproduce
+        tabs.removeTutorial(TUTORIAL_CS2103T_A101);
+        tabs.addTutorial(TUTORIAL_CS2103T_A101);
+        storage.saveTAbs(tabs);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(tabs, new TAbs(new JournaledTAbsStorage(filePath).readTAbs().get()));
+    }
+
+    @Test
+    public void saveTAbs_journalReachesThreshold_checkpointsDataFile() throws Exception {
+        JournaledTAbsStorage storage = new JournaledTAbsStorage(filePath, 2);
+        TAbs tabs = new TAbs();
+        storage.saveTAbs(tabs);
+
+        tabs.addTutorial(TUTORIAL_CS2103T_A101);
+        storage.saveTAbs(tabs);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        tabs.addTutorial(TUTORIAL_MA1521_B202);
+        storage.saveTAbs(tabs);
+        storage.flushTAbs();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(tabs, new TAbs(new JsonTAbsStorage(filePath).readTAbs().get()));
+    }
+
+    @Test
+    public void saveTAbs_changesAfterThresholdReached_notCheckpointed() throws Exception {
+        JournaledTAbsStorage storage = new JournaledTAbsStorage(filePath, 2);
+        TAbs tabs = new TAbs();
+        storage.saveTAbs(tabs);
+        tabs.addTutorial(TUTORIAL_CS2103T_A101);
+        storage.saveTAbs(tabs);
+        tabs.addTutorial(TUTORIAL_MA1521_B202);
+        storage.saveTAbs(tabs);
+        TAbs savedTAbs = new TAbs(tabs);
+
+        // The background checkpoint writes the data as it was saved, even if it has not started yet
+        tabs.removeTutorial(TUTORIAL_CS2103T_A101);
+        storage.flushTAbs();
+
+        assertEquals(savedTAbs, new TAbs(new JsonTAbsStorage(filePath).readTAbs().get()));
+    }
+
+    @Test
+    public void flushTAbs_pendingJournal_foldsJournalIntoDataFile() throws Exception {
+        JournaledTAbsStorage storage = new JournaledTAbsStorage(filePath);
+        TAbs tabs = new TAbs();
+        storage.saveTAbs(tabs);
+        tabs.addTutorial(TUTORIAL_CS2103T_A101);
+        storage.saveTAbs(tabs);
+
+        storage.flushTAbs();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(tabs, new TAbs(new JsonTAbsStorage(filePath).readTAbs().get()));
+    }
+
+    @Test
+    public void readTAbs_journalWithoutDataFile_replaysJournal() throws Exception {
+        JournaledTAbsStorage storage = new JournaledTAbsStorage(filePath);
+        storage.saveTAbs(new TAbs());
+        TAbs tabs = new TAbs();
+        tabs.addTutorial(TUTORIAL_CS2103T_A101);
+        storage.saveTAbs(tabs);
+        Files.delete(filePath);
+
+        ReadOnlyTAbs readBack = new JournaledTAbsStorage(filePath).readTAbs().get();
+        assertEquals(tabs, new TAbs(readBack));
+    }
+
+    @Test
+    public void readTAbs_incompleteLastEntry_ignoresEntry() throws Exception {
+        JournaledTAbsStorage storage = new JournaledTAbsStorage(filePath);
+        TAbs tabs = new TAbs();
+        storage.saveTAbs(tabs);
+        tabs.addTutorial(TUTORIAL_CS2103T_A101);
+        storage.saveTAbs(tabs);
+        Files.write(storage.getJournalFilePath(), "{\"put\":{\"tutorialId\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(tabs, new TAbs(new JournaledTAbsStorage(filePath).readTAbs().get()));
+    }
+
+    @Test
+    public void readTAbs_malformedEntry_throwsDataLoadingException() throws Exception {
+        JournaledTAbsStorage storage = new JournaledTAbsStorage(filePath);
+        TAbs tabs = new TAbs();
+        storage.saveTAbs(tabs);
+        Files.write(storage.getJournalFilePath(), List.of("not json", "{\"delete\":\"A101\"}"));
+
+        assertThrows(DataLoadingException.class, () -> new JournaledTAbsStorage(filePath).readTAbs());
+    }
+
+    @Test
+    public void readTAbs_invalidEntry_throwsDataLoadingException() throws Exception {
+        JournaledTAbsStorage storage = new JournaledTAbsStorage(filePath);
+        storage.saveTAbs(new TAbs());
+        Files.write(storage.getJournalFilePath(), List.of("{\"delete\":\"not an id\"}"));
+
+        assertThrows(DataLoadingException.class, () -> new JournaledTAbsStorage(filePath).readTAbs());
+    }
+
+    @Test
+    public void saveTAbs_otherFilePath_writesPlainJsonFile() throws Exception {
+        JournaledTAbsStorage storage = new JournaledTAbsStorage(filePath);
+        Path otherFilePath = testFolder.resolve("other.json");
+        TAbs original = getTypicalTAbs();
+        storage.saveTAbs(original, otherFilePath);
+
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new TAbs(storage.readTAbs(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveTAbs_nullTAbs_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledTAbsStorage(filePath).saveTAbs(null));
+    }
+
+}
@@ -1,11 +1,17 @@
 package seedu.tabs.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.tabs.storage.JsonAdaptedTutorial.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.tabs.testutil.Assert.assertThrows;
 import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_MA1521_B202;
 
+import java.lang.ref.Reference;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -13,9 +19,13 @@ import org.junit.jupiter.api.Test;
 import seedu.tabs.commons.exceptions.IllegalValueException;
 import seedu.tabs.model.tutorial.Date;
 import seedu.tabs.model.tutorial.ModuleCode;
+import seedu.tabs.model.tutorial.Tutorial;
 import seedu.tabs.model.tutorial.TutorialId;
+import seedu.tabs.testutil.Benchmark;
 
 public class JsonAdaptedTutorialTest {
+    private static final int DEPARTMENT_TUTORIAL_COUNT = 20_000;
+
     private static final String INVALID_TUTORIAL_ID = "R@chel";
     private static final String INVALID_MODULE_CODE = "+651234";
     private static final String INVALID_DATE = "example.com";
@@ -84,4 +94,65 @@ public class JsonAdaptedTutorialTest {
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, tutorial::toModelType);
     }
+
+    @Test
+    public void toModelType_sameModuleAndDate_sharesValues() throws Exception {
+        Tutorial first = new JsonAdaptedTutorial("T1", "CS2103T", "2025-01-15", List.of()).toModelType();
+        Tutorial second = new JsonAdaptedTutorial("T2", "cs2103t", "2025-01-15", List.of()).toModelType();
+        assertSame(first.getModuleCode(), second.getModuleCode());
+        assertSame(first.getDate(), second.getDate());
+    }
+
+    @Benchmark
+    public void benchmark_footprint_sharedAgainstFreshValues() throws Exception {
+        // A department running 400 modules with 50 tutorials each, on the weekdays of a 13-week semester
+        long freshBytes = measureFootprint(() -> {
+            List<Tutorial> tutorials = new ArrayList<>(DEPARTMENT_TUTORIAL_COUNT);
+            for (int i = 0; i < DEPARTMENT_TUTORIAL_COUNT; i++) {
+                tutorials.add(new Tutorial(new TutorialId("T" + i), new ModuleCode(departmentModuleCode(i)),
+                        new Date(departmentDate(i)), Set.of()));
+            }
+            return tutorials;
+        });
+        long sharedBytes = measureFootprint(() -> {
+            List<Tutorial> tutorials = new ArrayList<>(DEPARTMENT_TUTORIAL_COUNT);
+            for (int i = 0; i < DEPARTMENT_TUTORIAL_COUNT; i++) {
+                tutorials.add(new JsonAdaptedTutorial("T" + i, departmentModuleCode(i), departmentDate(i), List.of())
+                        .toModelType());
+            }
+            return tutorials;
+        });
+
+        System.out.printf("%d tutorials: fresh values %d KB, shared values %d KB, saving %d KB (%d B per tutorial)%n",
+                DEPARTMENT_TUTORIAL_COUNT, freshBytes >> 10, sharedBytes >> 10, (freshBytes - sharedBytes) >> 10,
+                (freshBytes - sharedBytes) / DEPARTMENT_TUTORIAL_COUNT);
+    }
+
+    private static String departmentModuleCode(int tutorial) {
+        return String.format("CS%04d", 1000 + tutorial % 400);
+    }
+
+    private static String departmentDate(int tutorial) {
+        return LocalDate.of(2025, 1, 13).plusWeeks(tutorial / 7 % 13).plusDays(tutorial % 5).toString();
+    }
+
+    /**
+     * Returns roughly how many bytes of the heap the object created by {@code factory} takes up.
+     */
+    private static long measureFootprint(Callable<Object> factory) throws Exception {
+        long before = usedMemory();
+        Object created = factory.call();
+        long after = usedMemory();
+        // Keeps the created object reachable until it has been measured
+        Reference.reachabilityFence(created);
+        return after - before;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
 }
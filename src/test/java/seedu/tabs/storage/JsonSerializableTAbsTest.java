@@ -5,12 +5,15 @@ import static seedu.tabs.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.tabs.commons.exceptions.IllegalValueException;
 import seedu.tabs.commons.util.JsonUtil;
 import seedu.tabs.model.TAbs;
+import seedu.tabs.testutil.Benchmark;
 import seedu.tabs.testutil.TypicalTutorials;
 
 public class JsonSerializableTAbsTest {
@@ -44,4 +47,45 @@ public class JsonSerializableTAbsTest {
                 dataFromFile::toModelType);
     }
 
+    @Benchmark
+    public void benchmark_toModelType_manyTutorials() throws Exception {
+        JsonSerializableTAbs smallData = createSerializableTAbs(25_000);
+        JsonSerializableTAbs largeData = createSerializableTAbs(100_000);
+
+        // Warm up so that the timings below are not dominated by class loading and JIT compilation
+        smallData.toModelType();
+        largeData.toModelType();
+
+        long smallNanos = timeToModelType(smallData);
+        long largeNanos = timeToModelType(largeData);
+
+        // Four times the tutorials takes about four times as long when linear, sixteen times when quadratic
+        System.out.printf("toModelType: 25k tutorials %.1f ms, 100k tutorials %.1f ms%n",
+                smallNanos / 1e6, largeNanos / 1e6);
+    }
+
+    /**
+     * Returns a {@code JsonSerializableTAbs} with {@code count} distinct tutorials.
+     */
+    private static JsonSerializableTAbs createSerializableTAbs(int count) {
+        List<JsonAdaptedTutorial> tutorials = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tutorials.add(new JsonAdaptedTutorial("T" + i, "CS2103T", "2025-01-15", new ArrayList<>()));
+        }
+        return new JsonSerializableTAbs(tutorials);
+    }
+
+    /**
+     * Returns the fastest of several runs of {@code data.toModelType()}, in nanoseconds.
+     */
+    private static long timeToModelType(JsonSerializableTAbs data) throws Exception {
+        long fastest = Long.MAX_VALUE;
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            data.toModelType();
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.tabs.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tabs.testutil.Assert.assertThrows;
 import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
 import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS3230_G909;
@@ -9,6 +10,7 @@ import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_GE1401_H808;
 import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,8 +18,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.tabs.commons.exceptions.DataLoadingException;
+import seedu.tabs.model.ModelManager;
 import seedu.tabs.model.ReadOnlyTAbs;
 import seedu.tabs.model.TAbs;
+import seedu.tabs.model.UserPrefs;
+import seedu.tabs.model.tutorial.Tutorial;
 
 public class JsonTAbsStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonTAbsStorageTest");
@@ -86,6 +91,56 @@ public class JsonTAbsStorageTest {
 
     }
 
+    @Test
+    public void readTAbs_lazyRostersAndFileReplaced_studentsLoadedFromOriginal() throws Exception {
+        Path filePath = testFolder.resolve("TempTAbs.json");
+        TAbs original = getTypicalTAbs();
+        JsonTAbsStorage jsonTAbsStorage = new JsonTAbsStorage(filePath, false, 1, true);
+        jsonTAbsStorage.saveTAbs(original);
+
+        ReadOnlyTAbs readBack = jsonTAbsStorage.readTAbs().get();
+        jsonTAbsStorage.saveTAbs(new TAbs());
+        assertEquals(original, new TAbs(readBack));
+    }
+
+    @Test
+    public void readTAbs_lazyRostersReadAgain_earlierRostersClosed() throws Exception {
+        Path filePath = testFolder.resolve("TempTAbs.json");
+        JsonTAbsStorage jsonTAbsStorage = new JsonTAbsStorage(filePath, false, 0, true);
+        jsonTAbsStorage.saveTAbs(getTypicalTAbs());
+
+        Tutorial earlierTutorial = jsonTAbsStorage.readTAbs().get().getTutorialList().get(0);
+        Tutorial laterTutorial = jsonTAbsStorage.readTAbs().get().getTutorialList().get(0);
+
+        assertThrows(UncheckedIOException.class, earlierTutorial::getStudents);
+        assertEquals(TUTORIAL_CS2103T_A101, laterTutorial);
+    }
+
+    @Test
+    public void closeTAbs_lazyRosters_rostersClosed() throws Exception {
+        Path filePath = testFolder.resolve("TempTAbs.json");
+        JsonTAbsStorage jsonTAbsStorage = new JsonTAbsStorage(filePath, false, 0, true);
+        jsonTAbsStorage.saveTAbs(getTypicalTAbs());
+
+        Tutorial tutorial = jsonTAbsStorage.readTAbs().get().getTutorialList().get(0);
+        jsonTAbsStorage.closeTAbs();
+
+        assertThrows(UncheckedIOException.class, tutorial::getStudents);
+    }
+
+    @Test
+    public void readTAbs_lazyRostersGivenToModelManager_rostersNotLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempTAbs.json");
+        JsonTAbsStorage jsonTAbsStorage = new JsonTAbsStorage(filePath, false, 0, true);
+        jsonTAbsStorage.saveTAbs(getTypicalTAbs());
+
+        ModelManager modelManager = new ModelManager(jsonTAbsStorage.readTAbs().get(), new UserPrefs());
+
+        for (Tutorial tutorial : modelManager.getTAbs().getTutorialList()) {
+            assertTrue(tutorial.getLazyRoster().isPresent());
+        }
+    }
+
     @Test
     public void saveTAbs_nullTAbs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveTAbs(null, "SomeFile.json"));
@@ -0,0 +1,116 @@
+package seedu.tabs.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.tabs.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tabs.commons.exceptions.IllegalValueException;
+import seedu.tabs.model.tutorial.ModuleCode;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+import seedu.tabs.testutil.Benchmark;
+
+public class ParallelTutorialConverterTest {
+
+    private static final int TUTORIAL_COUNT = 20_000;
+
+    @Test
+    public void convertAll_validTutorials_keepsOrder() throws Exception {
+        List<JsonAdaptedTutorial> adaptedTutorials = createAdaptedTutorials(TUTORIAL_COUNT);
+
+        List<Tutorial> tutorials = ParallelTutorialConverter.convertAll(adaptedTutorials);
+
+        assertEquals(TUTORIAL_COUNT, tutorials.size());
+        for (int i = 0; i < TUTORIAL_COUNT; i++) {
+            assertEquals(adaptedTutorials.get(i).toModelType(), tutorials.get(i));
+        }
+    }
+
+    @Test
+    public void convertAll_invalidTutorialBeforeDuplicate_throwsInvalidTutorial() {
+        List<JsonAdaptedTutorial> adaptedTutorials = createAdaptedTutorials(TUTORIAL_COUNT);
+        adaptedTutorials.set(100, new JsonAdaptedTutorial("T100", "CS", "2025-01-15", new ArrayList<>()));
+        adaptedTutorials.set(TUTORIAL_COUNT - 1, adaptedTutorials.get(0));
+
+        assertThrows(IllegalValueException.class, ModuleCode.MESSAGE_CONSTRAINTS, () ->
+                ParallelTutorialConverter.convertAll(adaptedTutorials));
+    }
+
+    @Test
+    public void convertAll_duplicateBeforeInvalidTutorial_throwsDuplicate() {
+        List<JsonAdaptedTutorial> adaptedTutorials = createAdaptedTutorials(TUTORIAL_COUNT);
+        adaptedTutorials.set(100, adaptedTutorials.get(0));
+        adaptedTutorials.set(TUTORIAL_COUNT - 1,
+                new JsonAdaptedTutorial("T1", "CS", "2025-01-15", new ArrayList<>()));
+
+        assertThrows(IllegalValueException.class, JsonSerializableTAbs.MESSAGE_DUPLICATE_PERSON, () ->
+                ParallelTutorialConverter.convertAll(adaptedTutorials));
+    }
+
+    @Test
+    public void convertAll_duplicateOfEarlierBatch_throwsDuplicate() throws Exception {
+        List<Tutorial> tutorials = new ArrayList<>();
+        Set<TutorialId> seenTutorialIds = new HashSet<>();
+        ParallelTutorialConverter.convertAll(createAdaptedTutorials(10), tutorials, seenTutorialIds);
+
+        assertThrows(IllegalValueException.class, JsonSerializableTAbs.MESSAGE_DUPLICATE_PERSON, () ->
+                ParallelTutorialConverter.convertAll(createAdaptedTutorials(1), tutorials, seenTutorialIds));
+        assertEquals(10, tutorials.size());
+    }
+
+    @Benchmark
+    public void benchmark_parallelAgainstSequential() throws Exception {
+        List<JsonAdaptedTutorial> adaptedTutorials = createAdaptedTutorials(TUTORIAL_COUNT);
+
+        // Warm up so that the timings below are not dominated by class loading and JIT compilation
+        convertSequentially(adaptedTutorials);
+        ParallelTutorialConverter.convertAll(adaptedTutorials);
+
+        long sequentialNanos = Long.MAX_VALUE;
+        long parallelNanos = Long.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            convertSequentially(adaptedTutorials);
+            sequentialNanos = Math.min(sequentialNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            ParallelTutorialConverter.convertAll(adaptedTutorials);
+            parallelNanos = Math.min(parallelNanos, System.nanoTime() - start);
+        }
+
+        System.out.printf("20k tutorials x 30 students on %d cores: sequential %d ms, parallel %d ms (%.1fx)%n",
+                Runtime.getRuntime().availableProcessors(), sequentialNanos / 1_000_000,
+                parallelNanos / 1_000_000, (double) sequentialNanos / parallelNanos);
+    }
+
+    /**
+     * Returns {@code count} distinct adapted tutorials of 30 students each.
+     */
+    private static List<JsonAdaptedTutorial> createAdaptedTutorials(int count) {
+        List<JsonAdaptedTutorial> adaptedTutorials = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<JsonAdaptedStudent> students = new ArrayList<>();
+            for (int s = 0; s < 30; s++) {
+                students.add(new JsonAdaptedStudent(String.format("A%07dX", i * 30 + s), s % 2 == 0));
+            }
+            adaptedTutorials.add(new JsonAdaptedTutorial("T" + i, "CS2103T", "2025-01-15", students));
+        }
+        return adaptedTutorials;
+    }
+
+    private static List<Tutorial> convertSequentially(List<JsonAdaptedTutorial> adaptedTutorials)
+            throws IllegalValueException {
+        List<Tutorial> tutorials = new ArrayList<>(adaptedTutorials.size());
+        for (JsonAdaptedTutorial adaptedTutorial : adaptedTutorials) {
+            tutorials.add(adaptedTutorial.toModelType());
+        }
+        return tutorials;
+    }
+
+}
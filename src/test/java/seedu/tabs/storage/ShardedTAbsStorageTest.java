@@ -0,0 +1,233 @@
+package seedu.tabs.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_B;
+import static seedu.tabs.testutil.Assert.assertThrows;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS1010_C303;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_TEST_C123;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tabs.commons.exceptions.DataLoadingException;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.testutil.TutorialBuilder;
+
+public class ShardedTAbsStorageTest {
+
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path shardDirectoryPath;
+    private ShardedTAbsStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        shardDirectoryPath = testFolder.resolve("tabs.shards");
+        storage = new ShardedTAbsStorage(shardDirectoryPath);
+    }
+
+    @Test
+    public void toShardDirectoryPath() {
+        assertEquals(Paths.get("data", "tabs.shards"),
+                ShardedTAbsStorage.toShardDirectoryPath(Paths.get("data", "tabs.json")));
+    }
+
+    @Test
+    public void readTAbs_missingManifest_emptyResult() throws Exception {
+        assertFalse(storage.readTAbs().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTAbs_allInOrder_success() throws Exception {
+        TAbs original = getTypicalTAbs();
+        storage.saveTAbs(original);
+        assertTrue(Files.exists(storage.getShardFilePath("CS2103T")));
+
+        TAbs readBack = new TAbs(new ShardedTAbsStorage(shardDirectoryPath).readTAbs().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getTutorialList(), readBack.getTutorialList());
+    }
+
+    @Test
+    public void saveTAbs_tutorialEdited_onlyItsShardRewritten() throws Exception {
+        TAbs tabs = getTypicalTAbs();
+        storage.saveTAbs(tabs);
+        setAllModifiedTimesToOld();
+
+        Tutorial editedTutorial = new TutorialBuilder(TUTORIAL_CS2103T_A101).withStudents(VALID_STUDENT_B).build();
+        tabs.setTutorial(TUTORIAL_CS2103T_A101, editedTutorial);
+        storage.saveTAbs(tabs);
+
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(storage.getShardFilePath("CS2103T")));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(storage.getShardFilePath("MA1521")));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(storage.getShardFilePath("CS1010")));
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(storage.getTAbsFilePath()));
+        assertEquals(tabs, new TAbs(new ShardedTAbsStorage(shardDirectoryPath).readTAbs().get()));
+    }
+
+    @Test
+    public void saveTAbs_noChanges_nothingRewritten() throws Exception {
+        TAbs tabs = getTypicalTAbs();
+        storage.saveTAbs(tabs);
+        setAllModifiedTimesToOld();
+
+        storage.saveTAbs(tabs);
+
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(storage.getShardFilePath("CS2103T")));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(storage.getTAbsFilePath()));
+    }
+
+    @Test
+    public void saveTAbs_afterRead_onlyChangedShardRewritten() throws Exception {
+        storage.saveTAbs(getTypicalTAbs());
+        setAllModifiedTimesToOld();
+
+        ShardedTAbsStorage reloadedStorage = new ShardedTAbsStorage(shardDirectoryPath);
+        TAbs tabs = new TAbs(reloadedStorage.readTAbs().get());
+        tabs.removeTutorial(TUTORIAL_CS2103T_A101);
+        tabs.addTutorial(new TutorialBuilder(TUTORIAL_CS2103T_A101).withStudents(VALID_STUDENT_B).build());
+        reloadedStorage.saveTAbs(tabs);
+
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(storage.getShardFilePath("CS2103T")));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(storage.getShardFilePath("MA1521")));
+        assertEquals(tabs.getTutorialList(),
+                new TAbs(new ShardedTAbsStorage(shardDirectoryPath).readTAbs().get()).getTutorialList());
+    }
+
+    @Test
+    public void saveTAbs_lastTutorialOfModuleRemoved_shardDeleted() throws Exception {
+        TAbs tabs = getTypicalTAbs();
+        storage.saveTAbs(tabs);
+
+        tabs.removeTutorial(TUTORIAL_CS1010_C303);
+        storage.saveTAbs(tabs);
+
+        assertFalse(Files.exists(storage.getShardFilePath("CS1010")));
+        assertEquals(tabs, new TAbs(new ShardedTAbsStorage(shardDirectoryPath).readTAbs().get()));
+    }
+
+    @Test
+    public void saveTAbs_moveToOtherModuleInterruptedBeforeCommit_previousDataRead() throws Exception {
+        TAbs tabs = getTypicalTAbs();
+        tabs.addTutorial(TUTORIAL_TEST_C123);
+        storage.saveTAbs(tabs);
+        TAbs savedTAbs = new TAbs(tabs);
+
+        // The staged shard of the module losing the tutorial cannot be written, as if the save crashed before it
+        Path blockedFilePath = createBlockingDirectory(storage.getShardFilePath("CS2103T")
+                + ShardedTAbsStorage.STAGED_FILE_SUFFIX);
+        tabs.setTutorial(TUTORIAL_CS2103T_A101,
+                new TutorialBuilder(TUTORIAL_CS2103T_A101).withModuleCode("MA1521").build());
+        assertThrows(IOException.class, () -> storage.saveTAbs(tabs));
+        deleteBlockingDirectory(blockedFilePath);
+
+        ShardedTAbsStorage reloadedStorage = new ShardedTAbsStorage(shardDirectoryPath);
+        assertEquals(savedTAbs.getTutorialList(), reloadedStorage.readTAbs().get().getTutorialList());
+        assertFalse(Files.exists(
+                Paths.get(storage.getShardFilePath("MA1521") + ShardedTAbsStorage.STAGED_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void saveTAbs_moveToOtherModuleInterruptedAfterCommit_savedDataRead() throws Exception {
+        TAbs tabs = getTypicalTAbs();
+        storage.saveTAbs(tabs);
+
+        // The shard of the module gaining the tutorial cannot be moved into place, as if the save crashed midway
+        Path blockedFilePath = createBlockingDirectory(storage.getShardFilePath("CS9999").toString());
+        tabs.setTutorial(TUTORIAL_CS2103T_A101,
+                new TutorialBuilder(TUTORIAL_CS2103T_A101).withModuleCode("CS9999").build());
+        assertThrows(IOException.class, () -> storage.saveTAbs(tabs));
+        assertTrue(Files.exists(shardDirectoryPath.resolve(ShardedTAbsStorage.COMMIT_FILE_NAME)));
+        deleteBlockingDirectory(blockedFilePath);
+
+        ShardedTAbsStorage reloadedStorage = new ShardedTAbsStorage(shardDirectoryPath);
+        assertEquals(tabs.getTutorialList(), reloadedStorage.readTAbs().get().getTutorialList());
+        assertFalse(Files.exists(shardDirectoryPath.resolve(ShardedTAbsStorage.COMMIT_FILE_NAME)));
+    }
+
+    @Test
+    public void readTAbs_manyModules_loadedInParallelInOrder() throws Exception {
+        TAbs tabs = new TAbs();
+        for (int i = 0; i < 200; i++) {
+            tabs.addTutorial(new TutorialBuilder().withId("T" + i).withModuleCode("CS" + (1000 + i % 40)).build());
+        }
+        storage.saveTAbs(tabs);
+
+        TAbs readBack = new TAbs(new ShardedTAbsStorage(shardDirectoryPath, 8).readTAbs().get());
+        assertEquals(tabs.getTutorialList(), readBack.getTutorialList());
+    }
+
+    @Test
+    public void readTAbs_tutorialMissingFromManifest_placedLast() throws Exception {
+        TAbs tabs = getTypicalTAbs();
+        storage.saveTAbs(tabs);
+        byte[] manifest = Files.readAllBytes(storage.getTAbsFilePath());
+
+        Tutorial addedTutorial = new TutorialBuilder().withId("Z999").withModuleCode("CS2103T").build();
+        tabs.addTutorial(addedTutorial);
+        storage.saveTAbs(tabs);
+        Files.write(storage.getTAbsFilePath(), manifest);
+
+        TAbs readBack = new TAbs(new ShardedTAbsStorage(shardDirectoryPath).readTAbs().get());
+        assertEquals(tabs.getTutorialList(), readBack.getTutorialList());
+    }
+
+    @Test
+    public void readTAbs_corruptShard_throwsDataLoadingException() throws Exception {
+        storage.saveTAbs(getTypicalTAbs());
+        Files.writeString(storage.getShardFilePath("MA1521"), "{\"tutorials\": [");
+
+        assertThrows(DataLoadingException.class, () -> new ShardedTAbsStorage(shardDirectoryPath).readTAbs());
+    }
+
+    @Test
+    public void readTAbs_tutorialInWrongShard_throwsDataLoadingException() throws Exception {
+        storage.saveTAbs(getTypicalTAbs());
+        Files.copy(storage.getShardFilePath("CS2103T"), storage.getShardFilePath("MA1521"),
+                StandardCopyOption.REPLACE_EXISTING);
+
+        assertThrows(DataLoadingException.class, () -> new ShardedTAbsStorage(shardDirectoryPath).readTAbs());
+    }
+
+    /**
+     * Creates a non-empty directory at {@code filePath}, which no file can be written or moved over.
+     */
+    private static Path createBlockingDirectory(String filePath) throws IOException {
+        Path directoryPath = Paths.get(filePath);
+        Files.createDirectories(directoryPath);
+        Files.writeString(directoryPath.resolve("block"), "");
+        return directoryPath;
+    }
+
+    private static void deleteBlockingDirectory(Path directoryPath) throws IOException {
+        Files.delete(directoryPath.resolve("block"));
+        Files.delete(directoryPath);
+    }
+
+    private void setAllModifiedTimesToOld() throws Exception {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectoryPath)) {
+            for (Path file : files) {
+                Files.setLastModifiedTime(file, OLD_TIME);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,251 @@
+package seedu.tabs.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tabs.commons.exceptions.IllegalValueException;
+import seedu.tabs.commons.util.JsonUtil;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.student.Student;
+import seedu.tabs.model.tutorial.Date;
+import seedu.tabs.model.tutorial.ModuleCode;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.model.tutorial.TutorialId;
+import seedu.tabs.testutil.Benchmark;
+import seedu.tabs.testutil.TypicalTutorials;
+
+public class StreamingJsonTAbsReaderTest {
+
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableTAbsTest");
+    private static final Path STORAGE_TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonTAbsStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTAbs_typicalTutorialsFile_success() throws Exception {
+        TAbs tabsFromFile = StreamingJsonTAbsReader.readTAbs(
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalTutorialTAbs.json"));
+        assertEquals(TypicalTutorials.getTypicalTAbs(), tabsFromFile);
+    }
+
+    @Test
+    public void readTAbs_savedFile_success() throws Exception {
+        Path filePath = testFolder.resolve("tabs.json");
+        TAbs original = TypicalTutorials.getTypicalTAbs();
+        JsonUtil.saveJsonFile(new JsonSerializableTAbs(original), filePath);
+        assertEquals(original, StreamingJsonTAbsReader.readTAbs(filePath));
+    }
+
+    @Test
+    public void readTAbs_duplicateTutorials_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableTAbs.MESSAGE_DUPLICATE_PERSON, () ->
+                StreamingJsonTAbsReader.readTAbs(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateTutorialTAbs.json")));
+    }
+
+    @Test
+    public void readTAbs_invalidTutorials_sameMessageAsDataBinding() throws Exception {
+        assertSameMessageAsDataBinding(SERIALIZABLE_TEST_DATA_FOLDER.resolve("invalidTutorialTAbs.json"));
+        assertSameMessageAsDataBinding(STORAGE_TEST_DATA_FOLDER.resolve("invalidTutorialTAbs.json"));
+        assertSameMessageAsDataBinding(STORAGE_TEST_DATA_FOLDER.resolve("invalidAndValidTutorialTAbs.json"));
+    }
+
+    @Test
+    public void readTAbs_invalidStudent_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("invalidStudent.json");
+        Files.writeString(filePath, "{\"tutorials\": [{\"tutorialId\": \"C101\", \"moduleCode\": \"CS2103T\","
+                + " \"date\": \"2025-01-10\", \"students\": [{\"studentId\": \"#friend\", \"isPresent\": true}]}]}");
+        assertThrows(IllegalValueException.class, Student.MESSAGE_CONSTRAINTS, () ->
+                StreamingJsonTAbsReader.readTAbs(filePath));
+    }
+
+    @Test
+    public void readTAbs_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () ->
+                StreamingJsonTAbsReader.readTAbs(STORAGE_TEST_DATA_FOLDER.resolve("notJsonFormatTAbs.json")));
+    }
+
+    @Test
+    public void readTAbs_tutorialsNotList_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("tutorialsNotList.json");
+        Files.writeString(filePath, "{\"tutorials\": \"C101\"}");
+        assertThrows(IOException.class, () -> StreamingJsonTAbsReader.readTAbs(filePath));
+    }
+
+    @Test
+    public void readTAbs_manyBatches_keepsOrder() throws Exception {
+        Path filePath = testFolder.resolve("manyTutorials.json");
+        Files.writeString(filePath, createTutorialsJson(10_000, ""));
+        TAbs tabsFromFile = StreamingJsonTAbsReader.readTAbs(filePath);
+        assertEquals(10_000, tabsFromFile.getTutorialList().size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(new TutorialId("T" + i), tabsFromFile.getTutorialList().get(i).getTutorialId());
+        }
+    }
+
+    @Test
+    public void readTAbs_invalidTutorialBeforeMalformedJson_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("invalidThenMalformed.json");
+        String json = createTutorialsJson(100, "").replace("\"T42\", \"moduleCode\": \"CS2103T\"",
+                "\"T42\", \"moduleCode\": \"CS\"");
+        Files.writeString(filePath, json.substring(0, json.length() - 10));
+        assertThrows(IllegalValueException.class, ModuleCode.MESSAGE_CONSTRAINTS, () ->
+                StreamingJsonTAbsReader.readTAbs(filePath));
+    }
+
+    @Test
+    public void readTAbs_duplicateBeforeInvalidTutorialInLaterBatch_throwsDuplicate() throws Exception {
+        Path filePath = testFolder.resolve("duplicateThenInvalid.json");
+        Files.writeString(filePath, createTutorialsJson(5_000, "")
+                .replace("\"T10\"", "\"T1\"")
+                .replace("\"T4999\", \"moduleCode\": \"CS2103T\"", "\"T4999\", \"moduleCode\": \"CS\""));
+        assertThrows(IllegalValueException.class, JsonSerializableTAbs.MESSAGE_DUPLICATE_PERSON, () ->
+                StreamingJsonTAbsReader.readTAbs(filePath));
+    }
+
+    @Test
+    public void readTAbsLazily_typicalTutorialsFile_studentsLoadedOnDemand() throws Exception {
+        try (FileChannel channel = openChannel(SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalTutorialTAbs.json"))) {
+            TAbs tabsFromFile = StreamingJsonTAbsReader.readTAbsLazily(channel);
+            Tutorial firstTutorial = tabsFromFile.getTutorialList().get(0);
+            assertTrue(firstTutorial.getLazyRoster().isPresent());
+            assertEquals(TypicalTutorials.TUTORIAL_CS2103T_A101.getNumberOfStudents(),
+                    firstTutorial.getNumberOfStudents());
+
+            assertEquals(TypicalTutorials.getTypicalTAbs(), tabsFromFile);
+            assertFalse(firstTutorial.getLazyRoster().isPresent());
+        }
+    }
+
+    @Test
+    public void readTAbsLazily_channelClosed_loadingStudentsFails() throws Exception {
+        FileChannel channel = openChannel(SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalTutorialTAbs.json"));
+        Tutorial firstTutorial = StreamingJsonTAbsReader.readTAbsLazily(channel).getTutorialList().get(0);
+        channel.close();
+
+        assertThrows(UncheckedIOException.class, firstTutorial::getStudents);
+    }
+
+    @Test
+    public void readTAbsLazily_invalidStudent_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("invalidStudent.json");
+        Files.writeString(filePath, "{\"tutorials\": [{\"tutorialId\": \"C101\", \"moduleCode\": \"CS2103T\","
+                + " \"date\": \"2025-01-10\", \"students\": [{\"studentId\": \"#friend\", \"isPresent\": true}]}]}");
+        try (FileChannel channel = openChannel(filePath)) {
+            assertThrows(IllegalValueException.class, Student.MESSAGE_CONSTRAINTS, () ->
+                    StreamingJsonTAbsReader.readTAbsLazily(channel));
+        }
+    }
+
+    @Test
+    public void readTAbsLazily_duplicateStudents_countedOnce() throws Exception {
+        Path filePath = testFolder.resolve("duplicateStudents.json");
+        Files.writeString(filePath, "{\"tutorials\": [{\"tutorialId\": \"C101\", \"moduleCode\": \"CS2103T\","
+                + " \"date\": \"2025-01-10\", \"students\": [{\"studentId\": \"A1234567X\", \"isPresent\": true},"
+                + " {\"studentId\": \"a1234567x\", \"isPresent\": false}]}]}");
+        try (FileChannel channel = openChannel(filePath)) {
+            Tutorial tutorial = StreamingJsonTAbsReader.readTAbsLazily(channel).getTutorialList().get(0);
+
+            assertEquals(1, tutorial.getNumberOfStudents());
+            assertEquals(1, tutorial.getNumberOfPresentStudents());
+            assertEquals(StreamingJsonTAbsReader.readTAbs(filePath).getTutorialList().get(0), tutorial);
+        }
+    }
+
+    @Benchmark
+    public void benchmark_lazyAgainstEagerRead() throws Exception {
+        Path filePath = testFolder.resolve("large.json");
+        TAbs tabs = new TAbs();
+        for (int i = 0; i < 20_000; i++) {
+            Set<Student> students = new HashSet<>();
+            for (int j = 0; j < 30; j++) {
+                students.add(new Student(String.format("A%07dX", i * 30 + j), j % 3 == 0));
+            }
+            tabs.addTutorial(new Tutorial(new TutorialId("T" + i), new ModuleCode("CS" + (1000 + i % 50)),
+                    new Date("2025-01-10"), students));
+        }
+        new JsonTAbsStorage(filePath).saveTAbs(tabs);
+        tabs = null;
+
+        try (FileChannel channel = openChannel(filePath)) {
+            // Warm up both paths before measuring them
+            StreamingJsonTAbsReader.readTAbs(filePath);
+            StreamingJsonTAbsReader.readTAbsLazily(channel);
+
+            long eagerHeapBefore = usedHeap();
+            long start = System.nanoTime();
+            TAbs eager = StreamingJsonTAbsReader.readTAbs(filePath);
+            long eagerMillis = (System.nanoTime() - start) / 1_000_000;
+            long eagerHeap = usedHeap() - eagerHeapBefore;
+
+            long lazyHeapBefore = usedHeap();
+            start = System.nanoTime();
+            TAbs lazy = StreamingJsonTAbsReader.readTAbsLazily(channel);
+            long lazyMillis = (System.nanoTime() - start) / 1_000_000;
+            long lazyHeap = usedHeap() - lazyHeapBefore;
+
+            System.out.printf("20k tutorials x 30 students: eager read %d ms, %d KB retained;"
+                    + " lazy read %d ms, %d KB retained%n", eagerMillis, eagerHeap / 1024, lazyMillis,
+                    lazyHeap / 1024);
+            assertEquals(eager.getTutorialList().get(19_999), lazy.getTutorialList().get(19_999));
+        }
+    }
+
+    private static FileChannel openChannel(Path filePath) throws IOException {
+        return FileChannel.open(filePath, StandardOpenOption.READ);
+    }
+
+    /**
+     * Returns a data file with {@code count} distinct tutorials of one student each, followed by {@code suffix}.
+     */
+    private static String createTutorialsJson(int count, String suffix) {
+        StringBuilder json = new StringBuilder("{\"tutorials\": [");
+        for (int i = 0; i < count; i++) {
+            json.append(i == 0 ? "" : ", ").append("{\"tutorialId\": \"T").append(i)
+                    .append("\", \"moduleCode\": \"CS2103T\", \"date\": \"2025-01-10\", \"students\":"
+                            + " [{\"studentId\": \"A1234567X\", \"isPresent\": false}]}");
+        }
+        return json.append(suffix).append("]}").toString();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Asserts that reading {@code filePath} fails with the same message as converting it through
+     * {@link JsonSerializableTAbs}.
+     */
+    private void assertSameMessageAsDataBinding(Path filePath) throws Exception {
+        JsonSerializableTAbs dataFromFile = JsonUtil.readJsonFile(filePath, JsonSerializableTAbs.class).get();
+        IllegalValueException expected = null;
+        try {
+            dataFromFile.toModelType();
+        } catch (IllegalValueException ive) {
+            expected = ive;
+        }
+        assertThrows(IllegalValueException.class, expected.getMessage(), () ->
+                StreamingJsonTAbsReader.readTAbs(filePath));
+    }
+
+}
@@ -0,0 +1,71 @@
+package seedu.tabs.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tabs.commons.util.JsonUtil;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.tutorial.Tutorial;
+
+public class StreamingJsonTAbsWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeTAbs_pretty_readBackByDataBinding() throws Exception {
+        Path filePath = testFolder.resolve("tabs.json");
+        TAbs original = getTypicalTAbs();
+        StreamingJsonTAbsWriter.writeTAbs(original, filePath, false, 0);
+
+        assertTrue(Files.readString(filePath).contains("\n"));
+        assertEquals(original, JsonUtil.readJsonFile(filePath, JsonSerializableTAbs.class).get().toModelType());
+    }
+
+    @Test
+    public void writeTAbs_compact_readBack() throws Exception {
+        Path filePath = testFolder.resolve("tabs.json");
+        TAbs original = getTypicalTAbs();
+        StreamingJsonTAbsWriter.writeTAbs(original, filePath, true, 0);
+
+        String written = Files.readString(filePath);
+        assertFalse(written.contains("\n"));
+        assertFalse(written.contains(" "));
+        assertEquals(original, StreamingJsonTAbsReader.readTAbs(filePath));
+        assertEquals(original, JsonUtil.readJsonFile(filePath, JsonSerializableTAbs.class).get().toModelType());
+    }
+
+    @Test
+    public void writeTAbs_existingLongerFile_replacesContents() throws Exception {
+        Path filePath = testFolder.resolve("tabs.json");
+        StreamingJsonTAbsWriter.writeTAbs(getTypicalTAbs(), filePath, false, 0);
+        StreamingJsonTAbsWriter.writeTAbs(new TAbs(), filePath, false, 0);
+
+        assertEquals(new TAbs(), StreamingJsonTAbsReader.readTAbs(filePath));
+    }
+
+    @Test
+    public void writeSerializedTutorials_readBack() throws Exception {
+        TAbs original = getTypicalTAbs();
+        List<String> tutorialsJson = new ArrayList<>();
+        for (Tutorial tutorial : original.getTutorialList()) {
+            tutorialsJson.add(JsonUtil.toCompactJsonString(new JsonAdaptedTutorial(tutorial)));
+        }
+
+        Path serializedFilePath = testFolder.resolve("serialized.json");
+        StreamingJsonTAbsWriter.writeSerializedTutorials(tutorialsJson, serializedFilePath, false, 0);
+
+        assertEquals(original, StreamingJsonTAbsReader.readTAbs(serializedFilePath));
+    }
+
+}
@@ -0,0 +1,99 @@
+package seedu.tabs.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tabs.model.TAbs;
+
+public class TAbsFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void importIfNewer_sourceMissing_returnsFalse() throws Exception {
+        JsonTAbsStorage source = new JsonTAbsStorage(testFolder.resolve("tabs.json"));
+        BinaryTAbsStorage target = new BinaryTAbsStorage(testFolder.resolve("tabs.bin"));
+
+        assertFalse(TAbsFileConverter.importIfNewer(source, target));
+        assertFalse(Files.exists(target.getTAbsFilePath()));
+    }
+
+    @Test
+    public void importIfNewer_targetMissing_importsJsonIntoBinary() throws Exception {
+        JsonTAbsStorage source = new JsonTAbsStorage(testFolder.resolve("tabs.json"));
+        BinaryTAbsStorage target = new BinaryTAbsStorage(testFolder.resolve("tabs.bin"));
+        source.saveTAbs(getTypicalTAbs());
+
+        assertTrue(TAbsFileConverter.importIfNewer(source, target));
+        assertEquals(getTypicalTAbs(), new TAbs(target.readTAbs().get()));
+    }
+
+    @Test
+    public void importIfNewer_sourceNewer_exportsBinaryIntoJson() throws Exception {
+        BinaryTAbsStorage source = new BinaryTAbsStorage(testFolder.resolve("tabs.bin"));
+        JsonTAbsStorage target = new JsonTAbsStorage(testFolder.resolve("tabs.json"));
+        target.saveTAbs(new TAbs());
+        source.saveTAbs(getTypicalTAbs());
+        Files.setLastModifiedTime(target.getTAbsFilePath(), FileTime.fromMillis(0));
+
+        assertTrue(TAbsFileConverter.importIfNewer(source, target));
+        assertEquals(getTypicalTAbs(), new TAbs(target.readTAbs().get()));
+    }
+
+    @Test
+    public void importIfNewer_targetNewer_returnsFalse() throws Exception {
+        BinaryTAbsStorage source = new BinaryTAbsStorage(testFolder.resolve("tabs.bin"));
+        JsonTAbsStorage target = new JsonTAbsStorage(testFolder.resolve("tabs.json"));
+        source.saveTAbs(getTypicalTAbs());
+        target.saveTAbs(new TAbs());
+        Files.setLastModifiedTime(source.getTAbsFilePath(), FileTime.fromMillis(0));
+
+        assertFalse(TAbsFileConverter.importIfNewer(source, target));
+        assertEquals(new TAbs(), new TAbs(target.readTAbs().get()));
+    }
+
+    @Test
+    public void importFromNewest_twoSources_newestImported() throws Exception {
+        JsonTAbsStorage olderSource = new JsonTAbsStorage(testFolder.resolve("tabs.json"));
+        BinaryTAbsStorage newerSource = new BinaryTAbsStorage(testFolder.resolve("tabs.bin"));
+        ShardedTAbsStorage target = new ShardedTAbsStorage(testFolder.resolve("tabs.shards"));
+        olderSource.saveTAbs(new TAbs());
+        newerSource.saveTAbs(getTypicalTAbs());
+        Files.setLastModifiedTime(olderSource.getTAbsFilePath(), FileTime.fromMillis(0));
+
+        assertTrue(TAbsFileConverter.importFromNewest(List.of(olderSource, newerSource), target));
+        assertEquals(getTypicalTAbs(), new TAbs(target.readTAbs().get()));
+    }
+
+    @Test
+    public void importFromNewest_lazySource_sourceClosed() throws Exception {
+        AtomicInteger closeCount = new AtomicInteger();
+        JsonTAbsStorage source = new JsonTAbsStorage(testFolder.resolve("tabs.json"), false, 0, true) {
+            @Override
+            public synchronized void closeTAbs() throws IOException {
+                closeCount.incrementAndGet();
+                super.closeTAbs();
+            }
+        };
+        BinaryTAbsStorage target = new BinaryTAbsStorage(testFolder.resolve("tabs.bin"));
+        source.saveTAbs(getTypicalTAbs());
+
+        assertTrue(TAbsFileConverter.importFromNewest(List.of(source), target));
+        assertEquals(1, closeCount.get());
+        assertEquals(getTypicalTAbs(), new TAbs(target.readTAbs().get()));
+    }
+
+}
@@ -0,0 +1,67 @@
+package seedu.tabs.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_A;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_MA1521_B202;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.testutil.TutorialBuilder;
+
+public class TAbsSnapshotTest {
+
+    @Test
+    public void take_unchangedTutorials_copiesShared() {
+        TAbs tabs = getTypicalTAbs();
+        TAbsSnapshot.Taker taker = new TAbsSnapshot.Taker();
+        List<Tutorial> firstTutorials = taker.take(tabs).getTutorialList();
+
+        Tutorial editedTutorial = new TutorialBuilder(TUTORIAL_CS2103T_A101).withStudents(VALID_STUDENT_A).build();
+        tabs.setTutorial(TUTORIAL_CS2103T_A101, editedTutorial);
+        TAbsSnapshot snapshot = taker.take(tabs);
+        List<Tutorial> secondTutorials = snapshot.getTutorialList();
+
+        assertEquals(tabs.getTutorialList(), secondTutorials);
+        assertEquals(List.of(editedTutorial.getTutorialId()), List.copyOf(snapshot.takeChanges().getTutorialIds()));
+        int editedIndex = tabs.getTutorialList().indexOf(editedTutorial);
+        int unchangedIndex = tabs.getTutorialList().indexOf(TUTORIAL_MA1521_B202);
+        assertNotSame(firstTutorials.get(editedIndex), secondTutorials.get(editedIndex));
+        assertNotSame(editedTutorial, secondTutorials.get(editedIndex));
+        assertSame(firstTutorials.get(unchangedIndex), secondTutorials.get(unchangedIndex));
+        assertNotSame(tabs.getTutorialList().get(unchangedIndex), secondTutorials.get(unchangedIndex));
+    }
+
+    @Test
+    public void take_removedAndAddedTutorials_matchesData() {
+        TAbs tabs = getTypicalTAbs();
+        TAbsSnapshot.Taker taker = new TAbsSnapshot.Taker();
+        taker.take(tabs);
+
+        Tutorial addedTutorial = new TutorialBuilder().withId("Z999").build();
+        tabs.removeTutorial(TUTORIAL_MA1521_B202);
+        tabs.addTutorial(addedTutorial);
+
+        assertEquals(tabs.getTutorialList(), taker.take(tabs).getTutorialList());
+    }
+
+    @Test
+    public void take_otherData_everythingCopied() {
+        TAbsSnapshot.Taker taker = new TAbsSnapshot.Taker();
+        List<Tutorial> firstTutorials = taker.take(getTypicalTAbs()).getTutorialList();
+        List<Tutorial> secondTutorials = taker.take(getTypicalTAbs()).getTutorialList();
+
+        assertEquals(firstTutorials, secondTutorials);
+        for (int i = 0; i < firstTutorials.size(); i++) {
+            assertNotSame(firstTutorials.get(i), secondTutorials.get(i));
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+package seedu.tabs.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.tabs.logic.commands.CommandTestUtil.VALID_STUDENT_A;
+import static seedu.tabs.testutil.Assert.assertThrows;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_CS2103T_A101;
+import static seedu.tabs.testutil.TypicalTutorials.TUTORIAL_MA1521_B202;
+import static seedu.tabs.testutil.TypicalTutorials.getTypicalTAbs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tabs.commons.core.Config.SavePolicy;
+import seedu.tabs.model.ReadOnlyTAbs;
+import seedu.tabs.model.TAbs;
+import seedu.tabs.model.tutorial.Tutorial;
+import seedu.tabs.testutil.TutorialBuilder;
+
+public class WriteBehindTAbsStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("tabs.json");
+    }
+
+    @Test
+    public void saveTAbs_everyCommand_writtenByFlush() throws Exception {
+        WriteBehindTAbsStorage storage = new WriteBehindTAbsStorage(new JsonTAbsStorage(filePath),
+                SavePolicy.EVERY_COMMAND, 0);
+        TAbs original = getTypicalTAbs();
+        storage.saveTAbs(original);
+        storage.flushTAbs();
+
+        assertEquals(original, new TAbs(storage.readTAbs().get()));
+    }
+
+    @Test
+    public void saveTAbs_onExit_notWrittenUntilFlush() throws Exception {
+        WriteBehindTAbsStorage storage = new WriteBehindTAbsStorage(new JsonTAbsStorage(filePath),
+                SavePolicy.ON_EXIT, 0);
+        TAbs original = getTypicalTAbs();
+        storage.saveTAbs(original);
+        assertFalse(Files.exists(filePath));
+
+        storage.flushTAbs();
+        assertEquals(original, new TAbs(storage.readTAbs().get()));
+    }
+
+    @Test
+    public void saveTAbs_changesAfterSave_notWritten() throws Exception {
+        WriteBehindTAbsStorage storage = new WriteBehindTAbsStorage(new JsonTAbsStorage(filePath),
+                SavePolicy.ON_EXIT, 0);
+        Tutorial tutorial = new TutorialBuilder(TUTORIAL_CS2103T_A101).withStudents(VALID_STUDENT_A).build();
+        TAbs tabs = new TAbs();
+        tabs.addTutorial(tutorial);
+        storage.saveTAbs(tabs);
+
+        tutorial.markAllStudents();
+        storage.flushTAbs();
+
+        Tutorial savedTutorial = storage.readTAbs().get().getTutorialList().get(0);
+        assertFalse(savedTutorial.getStudents().iterator().next().getAttendance());
+    }
+
+    @Test
+    public void saveTAbs_burstOfSaves_coalescedIntoOneWrite() throws Exception {
+        int[] writeCount = new int[1];
+        JsonTAbsStorage countingStorage = new JsonTAbsStorage(filePath) {
+            @Override
+            public void saveTAbs(ReadOnlyTAbs tabs, Path filePath) throws IOException {
+                writeCount[0]++;
+                super.saveTAbs(tabs, filePath);
+            }
+        };
+        WriteBehindTAbsStorage storage = new WriteBehindTAbsStorage(countingStorage, SavePolicy.INTERVAL, 60_000);
+        TAbs tabs = new TAbs();
+        for (int i = 0; i < 30; i++) {
+            tabs.addTutorial(new TutorialBuilder().withId("T" + i).build());
+            storage.saveTAbs(tabs);
+        }
+        storage.flushTAbs();
+
+        assertEquals(1, writeCount[0]);
+        assertEquals(tabs, new TAbs(storage.readTAbs().get()));
+    }
+
+    @Test
+    public void saveTAbs_journaledStorage_changesOfCoalescedSavesJournaled() throws Exception {
+        // Does not fold the journal into the data file when flushed
+        JournaledTAbsStorage journaledStorage = new JournaledTAbsStorage(filePath) {
+            @Override
+            public void flushTAbs() {}
+        };
+        WriteBehindTAbsStorage storage = new WriteBehindTAbsStorage(journaledStorage, SavePolicy.ON_EXIT, 0);
+        TAbs tabs = new TAbs();
+        storage.saveTAbs(tabs);
+        storage.flushTAbs();
+
+        tabs.addTutorial(TUTORIAL_CS2103T_A101);
+        storage.saveTAbs(tabs);
+        tabs.addTutorial(TUTORIAL_MA1521_B202);
+        storage.saveTAbs(tabs);
+        storage.flushTAbs();
+
+        assertEquals(2, Files.readAllLines(journaledStorage.getJournalFilePath()).size());
+        assertEquals(tabs, new TAbs(new JournaledTAbsStorage(filePath).readTAbs().get()));
+    }
+
+    @Test
+    public void flushTAbs_writeFails_throwsIoException() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JsonTAbsStorage failingStorage = new JsonTAbsStorage(filePath) {
+            @Override
+            public void saveTAbs(ReadOnlyTAbs tabs, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        WriteBehindTAbsStorage storage = new WriteBehindTAbsStorage(failingStorage, SavePolicy.ON_EXIT, 0);
+        storage.saveTAbs(getTypicalTAbs());
+
+        assertThrows(IOException.class, failure.getMessage(), storage::flushTAbs);
+    }
+
+    @Test
+    public void saveTAbs_backgroundWriteFails_failureHandledWithoutAnotherSave() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JsonTAbsStorage failingStorage = new JsonTAbsStorage(filePath) {
+            @Override
+            public void saveTAbs(ReadOnlyTAbs tabs, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        WriteBehindTAbsStorage storage = new WriteBehindTAbsStorage(failingStorage, SavePolicy.EVERY_COMMAND, 0);
+        CompletableFuture<IOException> handledFailure = new CompletableFuture<>();
+        storage.setWriteFailureHandler(handledFailure::complete);
+        try {
+            storage.saveTAbs(getTypicalTAbs());
+        } catch (IOException ioe) {
+            // The write failed before the save returned, so the save reports it as well
+            assertSame(failure, ioe);
+        }
+
+        assertSame(failure, handledFailure.get(10, TimeUnit.SECONDS));
+    }
+
+}
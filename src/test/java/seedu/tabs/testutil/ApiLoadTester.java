@@ -0,0 +1,164 @@
+package seedu.tabs.testutil;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Sends requests to a running API server from many clients at once, each sending its requests one after another
+ * over its own connection, and reports the throughput and latency of the server.
+ * <p>
+ * Run {@link #main(String[])} with the URI of a running server, e.g. one started with
+ * {@code java -jar TAbs.jar --headless --port=8080}, to test it from outside the app.
+ */
+public class ApiLoadTester {
+
+    private static final int DEFAULT_CLIENT_COUNT = 64;
+    private static final int DEFAULT_REQUESTS_PER_CLIENT = 500;
+    private static final long TIMEOUT_MINUTES = 10;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final List<HttpRequest> requests;
+    private final int clientCount;
+    private final int requestsPerClient;
+
+    /**
+     * Creates a load test in which each of {@code clientCount} clients sends {@code requestsPerClient} requests,
+     * taking turns through {@code requests}.
+     */
+    public ApiLoadTester(List<HttpRequest> requests, int clientCount, int requestsPerClient) {
+        this.requests = requests.stream()
+                .map(request -> HttpRequest.newBuilder(request, (name, value) -> true)
+                        .timeout(REQUEST_TIMEOUT)
+                        .build())
+                .collect(Collectors.toList());
+        this.clientCount = clientCount;
+        this.requestsPerClient = requestsPerClient;
+    }
+
+    /**
+     * Load tests the API at the URI given as the first argument, such as {@code http://127.0.0.1:8080/api/tutorials},
+     * optionally followed by the number of clients and the number of requests per client.
+     */
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args[0]);
+        int clientCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CLIENT_COUNT;
+        int requestsPerClient = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_REQUESTS_PER_CLIENT;
+        ApiLoadTester tester = new ApiLoadTester(List.of(HttpRequest.newBuilder(uri).build()), clientCount,
+                requestsPerClient);
+
+        // The first run warms up both ends, so only the second is reported
+        tester.run();
+        System.out.println(tester.run());
+    }
+
+    /**
+     * Runs the load test and returns its results.
+     */
+    public Result run() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        AtomicInteger failureCount = new AtomicInteger();
+        try {
+            List<Future<long[]>> latencies = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int c = 0; c < clientCount; c++) {
+                int firstRequest = c;
+                latencies.add(clients.submit(() -> sendRequests(firstRequest, failureCount)));
+            }
+
+            long[] allLatencies = new long[clientCount * requestsPerClient];
+            for (int c = 0; c < clientCount; c++) {
+                System.arraycopy(latencies.get(c).get(TIMEOUT_MINUTES, TimeUnit.MINUTES), 0, allLatencies,
+                        c * requestsPerClient, requestsPerClient);
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            return new Result(clientCount, allLatencies, elapsedNanos, failureCount.get());
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * Sends the requests of one client, starting from the request at {@code firstRequest}, and returns the latency
+     * of each in nanoseconds.
+     */
+    private long[] sendRequests(int firstRequest, AtomicInteger failureCount)
+            throws IOException, InterruptedException {
+        // A client of its own, so that each client keeps its own connection open
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        long[] latencies = new long[requestsPerClient];
+        for (int r = 0; r < requestsPerClient; r++) {
+            HttpRequest request = requests.get((firstRequest + r) % requests.size());
+            long start = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() / 100 != 2) {
+                    failureCount.incrementAndGet();
+                }
+            } catch (HttpTimeoutException e) {
+                failureCount.incrementAndGet();
+            }
+            latencies[r] = System.nanoTime() - start;
+        }
+        return latencies;
+    }
+
+    /**
+     * The throughput and latency measured by a load test.
+     */
+    public static class Result {
+        private final int clientCount;
+        private final long[] sortedLatencies;
+        private final long elapsedNanos;
+        private final int failureCount;
+
+        Result(int clientCount, long[] latencies, long elapsedNanos, int failureCount) {
+            this.clientCount = clientCount;
+            this.sortedLatencies = latencies.clone();
+            Arrays.sort(sortedLatencies);
+            this.elapsedNanos = elapsedNanos;
+            this.failureCount = failureCount;
+        }
+
+        public int getRequestCount() {
+            return sortedLatencies.length;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        public double getRequestsPerSecond() {
+            return sortedLatencies.length * 1e9 / elapsedNanos;
+        }
+
+        /**
+         * Returns the latency that {@code percentile} percent of the requests were answered within, in milliseconds.
+         */
+        public double getLatencyMillis(double percentile) {
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d clients, %d requests (%d failed): %.0f requests/s, p50 %.2f ms, p99 %.2f ms",
+                    clientCount, getRequestCount(), failureCount, getRequestsPerSecond(), getLatencyMillis(50),
+                    getLatencyMillis(99));
+        }
+    }
+
+}
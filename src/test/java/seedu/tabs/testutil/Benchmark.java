@@ -0,0 +1,20 @@
+package seedu.tabs.testutil;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Marks a method as a benchmark, which times code on a large fixture and prints the results.
+ * Benchmarks are left out of the {@code test} task and run with {@code gradlew benchmark}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag("benchmark")
+@Test
+public @interface Benchmark {
+}
@@ -0,0 +1,119 @@
+package seedu.tabs.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * Checks and times a validator of user input against a reference validator that it replaces.
+ */
+public class ValidatorBenchmark {
+
+    private static final String MUTATIONS = "AaZz0159-/ .";
+    private static final int INPUT_COUNT = 10_000;
+    private static final int ROUNDS = 100;
+
+    private final String name;
+    private final Predicate<String> reference;
+    private final Predicate<String> validator;
+    private final List<String> inputs;
+    /** The number of valid inputs counted, kept so that the validations timed cannot be optimised away. */
+    private long validCount;
+
+    /**
+     * Creates a benchmark of {@code validator} against {@code reference}, on {@code validInputs} and on inputs
+     * made by changing, inserting or deleting a few characters of them.
+     */
+    public ValidatorBenchmark(String name, Predicate<String> reference, Predicate<String> validator,
+            String... validInputs) {
+        this.name = name;
+        this.reference = reference;
+        this.validator = validator;
+
+        Random random = new Random(22);
+        inputs = new ArrayList<>(List.of(validInputs));
+        while (inputs.size() < INPUT_COUNT) {
+            StringBuilder input = new StringBuilder(validInputs[random.nextInt(validInputs.length)]);
+            for (int mutations = random.nextInt(3); mutations > 0 && input.length() > 0; mutations--) {
+                int index = random.nextInt(input.length());
+                char mutation = MUTATIONS.charAt(random.nextInt(MUTATIONS.length()));
+                switch (random.nextInt(3)) {
+                case 0:
+                    input.setCharAt(index, mutation);
+                    break;
+                case 1:
+                    input.insert(index, mutation);
+                    break;
+                default:
+                    input.deleteCharAt(index);
+                    break;
+                }
+            }
+            inputs.add(input.toString());
+        }
+    }
+
+    /**
+     * Asserts that the validator accepts exactly the inputs that the reference accepts.
+     */
+    public void assertSameAsReference() {
+        for (String input : inputs) {
+            assertEquals(reference.test(input), validator.test(input), name + " of " + input);
+        }
+    }
+
+    /**
+     * Asserts that the validator does not allocate, and prints how many validations per second the validator and
+     * the reference make.
+     */
+    public void run() {
+        assertSameAsReference();
+        // Warms up both before they are timed
+        countValid(reference, ROUNDS);
+        countValid(validator, ROUNDS);
+
+        long referenceNanos = Long.MAX_VALUE;
+        long validatorNanos = Long.MAX_VALUE;
+        long validatorBytes = Long.MAX_VALUE;
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            validCount += countValid(reference, ROUNDS);
+            referenceNanos = Math.min(referenceNanos, System.nanoTime() - start);
+
+            long startBytes = allocatedBytes();
+            start = System.nanoTime();
+            validCount += countValid(validator, ROUNDS);
+            validatorNanos = Math.min(validatorNanos, System.nanoTime() - start);
+            validatorBytes = Math.min(validatorBytes, allocatedBytes() - startBytes);
+        }
+
+        long validations = (long) inputs.size() * ROUNDS;
+        System.out.printf("%s: regex %.1fM/s, hand-written %.1fM/s (%.1fx), %d bytes allocated, %d valid%n", name,
+                validations * 1e3 / referenceNanos, validations * 1e3 / validatorNanos,
+                (double) referenceNanos / validatorNanos, validatorBytes, validCount);
+        assertTrue(validatorBytes < validations, name + " allocates " + validatorBytes + " bytes");
+    }
+
+    private int countValid(Predicate<String> isValid, int rounds) {
+        int count = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (String input : inputs) {
+                if (isValid.test(input)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+}